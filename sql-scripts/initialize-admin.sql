@@ -2,7 +2,9 @@ CREATE TABLE `users` (
   `id` bigint NOT NULL AUTO_INCREMENT,
   `password` varchar(255) NOT NULL,
   `username` varchar(255) NOT NULL,
-  PRIMARY KEY (`id`)
+  `version` bigint NOT NULL DEFAULT 0,
+  PRIMARY KEY (`id`),
+  UNIQUE KEY `UniqueUsername` (`username`)
 ) ENGINE=InnoDB AUTO_INCREMENT=2 DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_0900_ai_ci;
 
 INSERT INTO `superleaguedb`.`users`
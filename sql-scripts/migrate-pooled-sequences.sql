@@ -0,0 +1,16 @@
+-- Match player and player season stats ids come from pooled sequences (allocation size 50), which Hibernate
+-- emulates on MySQL with one table per entity. Databases created while matches_players used AUTO_INCREMENT ids
+-- must move these sequences past the stored ids before the application inserts again.
+-- Run it once with the application stopped. It is safe to run again.
+
+CREATE TABLE IF NOT EXISTS `superleaguedb`.`matches_players_seq` (`next_val` bigint) ENGINE=InnoDB;
+INSERT INTO `superleaguedb`.`matches_players_seq` (`next_val`)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM `superleaguedb`.`matches_players_seq`);
+UPDATE `superleaguedb`.`matches_players_seq`
+SET `next_val` = GREATEST(`next_val`, (SELECT COALESCE(MAX(`id`), 0) + 50 FROM `superleaguedb`.`matches_players`));
+
+CREATE TABLE IF NOT EXISTS `superleaguedb`.`player_season_stats_seq` (`next_val` bigint) ENGINE=InnoDB;
+INSERT INTO `superleaguedb`.`player_season_stats_seq` (`next_val`)
+SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT * FROM `superleaguedb`.`player_season_stats_seq`);
+UPDATE `superleaguedb`.`player_season_stats_seq`
+SET `next_val` = GREATEST(`next_val`, (SELECT COALESCE(MAX(`id`), 0) + 50 FROM `superleaguedb`.`player_season_stats`));
@@ -0,0 +1,116 @@
+package com.project.superleague.benchmark;
+
+import com.project.superleague.model.Match;
+import com.project.superleague.model.Player;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.sql.*;
+import java.time.LocalDate;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Date and lastname-prefix lookups on 1M seeded matches and players, without and with the indexes
+ * declared on the entities. The setup prints each query plan, which moves from a table scan to an
+ * index range scan; on MySQL the covering date index also answers the query without reading the rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class IndexPlanBenchmark {
+    private static final int ROWS = 1_000_000;
+    private static final int DAYS = 3650;
+    private static final LocalDate FIRST_DATE = LocalDate.of(2015, 7, 1);
+
+    private static final String SELECT_BY_DATE = "select \"id\", \"MatchDate\", \"GoalsHost\", \"GoalsGuest\", \"HostTeam\", \"GuestTeam\", \"Version\" " +
+            "from \"Matches\" where \"MatchDate\" = ? order by \"id\"";
+    private static final String SELECT_BY_LASTNAME = "select \"id\", \"Firstname\", \"Lastname\" " +
+            "from \"Players\" where \"Lastname\" like ? order by \"Lastname\", \"id\" limit 50";
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private Connection connection;
+    private PreparedStatement selectByDate;
+    private PreparedStatement selectByLastname;
+
+    @Setup
+    public void setup() throws SQLException {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:indexplan" + indexed + ";MODE=MySQL");
+        connection = dataSource.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("create table \"Matches\" (\"id\" bigint primary key, \"MatchDate\" date not null, " +
+                    "\"GoalsHost\" int not null, \"GoalsGuest\" int not null, \"HostTeam\" bigint not null, " +
+                    "\"GuestTeam\" bigint not null, \"Version\" bigint not null)");
+            statement.execute("insert into \"Matches\" select x, dateadd(day, mod(x * 7919, " + DAYS + "), date '" + FIRST_DATE + "'), " +
+                    "mod(x, 5), mod(x, 3), mod(x, 20) + 1, mod(x + 7, 20) + 1, 0 from system_range(1, " + ROWS + ")");
+
+            statement.execute("create table \"Players\" (\"id\" bigint primary key, \"Firstname\" varchar(20) not null, " +
+                    "\"Lastname\" varchar(30) not null)");
+            statement.execute("insert into \"Players\" select x, 'First' || mod(x, 1000), " +
+                    "'Last' || lpad(mod(x * 7919, " + ROWS + "), 6, '0') from system_range(1, " + ROWS + ")");
+
+            if (indexed) {
+                createIndexes(statement, Match.class);
+                createIndexes(statement, Player.class);
+            }
+            statement.execute("analyze");
+        }
+
+        selectByDate = connection.prepareStatement(SELECT_BY_DATE);
+        selectByLastname = connection.prepareStatement(SELECT_BY_LASTNAME);
+        printPlan(SELECT_BY_DATE.replace("?", "date '" + FIRST_DATE + "'"));
+        printPlan(SELECT_BY_LASTNAME.replace("?", "'Last1234%'"));
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void findByMatchDate(Blackhole blackhole) throws SQLException {
+        selectByDate.setObject(1, FIRST_DATE.plusDays(ThreadLocalRandom.current().nextInt(DAYS)));
+        consume(selectByDate, blackhole);
+    }
+
+    @Benchmark
+    public void findByLastnamePrefix(Blackhole blackhole) throws SQLException {
+        selectByLastname.setString(1, "Last" + ThreadLocalRandom.current().nextInt(1000, 10000) + "%");
+        consume(selectByLastname, blackhole);
+    }
+
+    private static void consume(PreparedStatement preparedStatement, Blackhole blackhole) throws SQLException {
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+            }
+        }
+    }
+
+    // The index definitions come from the entity mappings, so the benchmark follows any change to them.
+    private static void createIndexes(Statement statement, Class<?> entity) throws SQLException {
+        Table table = entity.getAnnotation(Table.class);
+        for (Index index : table.indexes()) {
+            StringBuilder columns = new StringBuilder();
+            for (String column : index.columnList().split(",")) {
+                columns.append(columns.isEmpty() ? "" : ", ").append('"').append(column.trim()).append('"');
+            }
+            statement.execute("create index \"" + index.name() + "\" on \"" + table.name() + "\" (" + columns + ")");
+        }
+    }
+
+    private void printPlan(String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("explain " + sql)) {
+            while (resultSet.next()) {
+                System.out.println("[indexed=" + indexed + "] " + resultSet.getString(1).replaceAll("\\s+", " "));
+            }
+        }
+    }
+}
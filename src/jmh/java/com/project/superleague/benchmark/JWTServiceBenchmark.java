@@ -0,0 +1,77 @@
+package com.project.superleague.benchmark;
+
+import com.project.superleague.model.TokenClaims;
+import com.project.superleague.model.UserPrincipal;
+import com.project.superleague.model.Users;
+import com.project.superleague.service.JWTServiceImpl;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import javax.crypto.KeyGenerator;
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-request authentication cost of the JWT filter: the previous flow that rebuilt the key and
+ * parser and parsed the token three times, against the cached parser with a single parse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JWTServiceBenchmark {
+    private JWTServiceImpl jwtService;
+    private UserDetails userDetails;
+    private String token;
+    private String legacySecret;
+    private String legacyToken;
+
+    @Setup
+    public void setup() throws Exception {
+        Users user = Users.builder()
+                .username("admin")
+                .password("a1#a1$a1####")
+                .build();
+
+        userDetails = new UserPrincipal(user);
+        jwtService = new JWTServiceImpl();
+        token = jwtService.generateToken("admin");
+
+        SecretKey legacyKey = KeyGenerator.getInstance("HmacSHA256").generateKey();
+        legacySecret = Encoders.BASE64.encode(legacyKey.getEncoded());
+        legacyToken = Jwts.builder()
+                .subject("admin")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + 3600000))
+                .signWith(legacyKey)
+                .compact();
+    }
+
+    @Benchmark
+    public boolean singleParse() {
+        TokenClaims claims = jwtService.parseToken(token);
+        return claims.getUsername() != null && jwtService.validateToken(claims, userDetails);
+    }
+
+    @Benchmark
+    public boolean legacyTripleParse() {
+        String username = legacyParse(legacyToken).getSubject();
+        return username != null
+                && legacyParse(legacyToken).getSubject().equals(userDetails.getUsername())
+                && !legacyParse(legacyToken).getExpiration().before(new Date());
+    }
+
+    private Claims legacyParse(String jwt) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(legacySecret));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+}
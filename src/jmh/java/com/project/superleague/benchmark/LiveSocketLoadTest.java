@@ -0,0 +1,171 @@
+package com.project.superleague.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.WebSocket;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Connection and fan-out load generator for the match player WebSocket gateway.
+ * Opens the given number of sessions, all subscribed to one match, and reports how many were accepted.
+ * When an admin JWT is given it then updates the goals of one match player at the given rate for the given
+ * number of seconds and reports the frames received, the sessions that caught up with the last update and the
+ * commit-to-delivery latency percentiles, matched on the version carried by every delta. Updates that pile up
+ * for a session arrive coalesced, so a session receives at most one frame per update.
+ * <p>
+ * Arguments: base url, sessions, seconds, match id, player id, admin JWT, updates per second.
+ */
+public class LiveSocketLoadTest {
+    private static final Pattern VERSION = Pattern.compile("\"version\":(\\d+)");
+    private static final Pattern GOALS = Pattern.compile("\"goals\":(\\d+)");
+    private static final Pattern ID = Pattern.compile("\"id\":(\\d+)");
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8080";
+        int sessions = args.length > 1 ? Integer.parseInt(args[1]) : 5000;
+        int seconds = args.length > 2 ? Integer.parseInt(args[2]) : 30;
+        long matchId = args.length > 3 ? Long.parseLong(args[3]) : 1L;
+        long playerId = args.length > 4 ? Long.parseLong(args[4]) : 1L;
+        String token = args.length > 5 ? args[5] : null;
+        int updatesPerSecond = args.length > 6 ? Integer.parseInt(args[6]) : 10;
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+        URI socketUri = URI.create(baseUrl.replaceFirst("^http", "ws") + "/api/matchesplayers/live");
+        String subscribe = "{\"action\":\"subscribe\",\"matchIds\":[" + matchId + "]}";
+        Map<Long, Long> sentAt = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        AtomicLong frames = new AtomicLong();
+        AtomicLong closedByServer = new AtomicLong();
+        List<CompletableFuture<WebSocket>> connecting = new ArrayList<>();
+        List<Listener> listeners = new ArrayList<>();
+
+        long connectStart = System.nanoTime();
+        for (int session = 0; session < sessions; session++) {
+            Listener listener = new Listener(sentAt, latencies, frames, closedByServer, new AtomicLong());
+            listeners.add(listener);
+            connecting.add(httpClient.newWebSocketBuilder()
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .buildAsync(socketUri, listener)
+                    .thenCompose(webSocket -> webSocket.sendText(subscribe, true)));
+        }
+        List<WebSocket> opened = new ArrayList<>();
+        long failed = 0;
+        for (CompletableFuture<WebSocket> future : connecting) {
+            try {
+                opened.add(future.get(60, TimeUnit.SECONDS));
+            } catch (Exception e) {
+                failed++;
+            }
+        }
+        double connectSeconds = (System.nanoTime() - connectStart) / 1e9;
+        Thread.sleep(1000);
+        System.out.printf("sessions requested=%d opened=%d failed=%d closed by server=%d connect time=%.1f s%n",
+                sessions, opened.size(), failed, closedByServer.get(), connectSeconds);
+
+        if (token != null) {
+            long[] updates = drive(httpClient, baseUrl, matchId, playerId, token, updatesPerSecond, seconds, sentAt);
+            Thread.sleep(2000);
+            long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+            long caughtUp = listeners.stream().filter(listener -> listener.lastVersion().get() == updates[1]).count();
+            System.out.printf("updates=%d frames=%d throughput=%.1f frames/s sessions caught up=%d%n",
+                    updates[0], frames.get(), frames.get() / (double) seconds, caughtUp);
+            System.out.printf("delivery ms p50=%.1f p90=%.1f p99=%.1f max=%.1f%n",
+                    percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 1.0));
+        }
+        opened.forEach(webSocket -> webSocket.sendClose(WebSocket.NORMAL_CLOSURE, ""));
+    }
+
+    /**
+     * Returns the number of updates and the last version written.
+     */
+    private static long[] drive(HttpClient httpClient, String baseUrl, long matchId, long playerId, String token,
+                              int updatesPerSecond, int seconds, Map<Long, Long> sentAt) throws Exception {
+        URI uri = URI.create(baseUrl + "/api/matchesplayers/" + matchId + "/" + playerId);
+        String body = httpClient.send(HttpRequest.newBuilder(uri).GET().build(), HttpResponse.BodyHandlers.ofString()).body();
+        long id = find(ID, body);
+        long version = find(VERSION, body);
+        long goals = find(GOALS, body);
+        long interval = TimeUnit.SECONDS.toNanos(1) / updatesPerSecond;
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        long updates = 0;
+
+        for (long next = System.nanoTime(); next < deadline; next += interval) {
+            TimeUnit.NANOSECONDS.sleep(Math.max(0, next - System.nanoTime()));
+            String update = String.format("{\"id\":%d,\"matchId\":%d,\"playerId\":%d,\"playTime\":90,\"goals\":%d,\"assists\":0,\"cards\":0,\"version\":%d}",
+                    id, matchId, playerId, ++goals, version);
+            sentAt.put(version + 1, System.nanoTime());
+            HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(uri)
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .PUT(HttpRequest.BodyPublishers.ofString(update))
+                    .build(), HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Update failed with " + response.statusCode() + ": " + response.body());
+            }
+            version = find(VERSION, response.body());
+            updates++;
+        }
+        return new long[] {updates, version};
+    }
+
+    private static long find(Pattern pattern, String json) {
+        Matcher matcher = pattern.matcher(json);
+        if (!matcher.find()) {
+            throw new IllegalStateException("Unexpected response: " + json);
+        }
+        return Long.parseLong(matcher.group(1));
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    private record Listener(Map<Long, Long> sentAt, ConcurrentLinkedQueue<Long> latencies, AtomicLong frames,
+                            AtomicLong closedByServer, AtomicLong lastVersion) implements WebSocket.Listener {
+        @Override
+        public CompletionStage<?> onText(WebSocket webSocket, CharSequence data, boolean last) {
+            long now = System.nanoTime();
+            Matcher versions = VERSION.matcher(data);
+
+            frames.incrementAndGet();
+            while (versions.find()) {
+                long version = Long.parseLong(versions.group(1));
+                Long sent = sentAt.get(version);
+                lastVersion.accumulateAndGet(version, Math::max);
+                if (sent != null) {
+                    latencies.add(now - sent);
+                }
+            }
+            webSocket.request(1);
+            return null;
+        }
+
+        @Override
+        public CompletionStage<?> onClose(WebSocket webSocket, int statusCode, String reason) {
+            closedByServer.incrementAndGet();
+            return null;
+        }
+    }
+}
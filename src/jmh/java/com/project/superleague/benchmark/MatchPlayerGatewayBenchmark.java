@@ -0,0 +1,99 @@
+package com.project.superleague.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.superleague.dto.MatchPlayerDeltaDTO;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.live.LiveHub;
+import com.project.superleague.live.MatchPlayerTopic;
+import com.project.superleague.service.LiveMatchPlayerServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of pushing match player stat changes to WebSocket subscribers of one match, from the committed event
+ * to the serialized frame, with the socket write left out.
+ * fanOut delivers a single change. The burst benchmarks deliver 20 changes to the same match player, once drained
+ * after every change and once drained after the burst, where the gateway coalesces them into one frame per session.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MatchPlayerGatewayBenchmark {
+    private static final int BURST = 20;
+
+    @Param({"1000", "10000"})
+    private int sessions;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<Runnable> pending = new ArrayDeque<>();
+    private LiveMatchPlayerServiceImpl gateway;
+    private long bytesSent;
+    private long framesSent;
+    private int goals;
+
+    @Setup
+    public void setup() {
+        gateway = new LiveMatchPlayerServiceImpl(pending::add, 256);
+
+        for (int session = 0; session < sessions; session++) {
+            gateway.subscribe(new LiveHub.Sender<>() {
+                @Override
+                public void send(MatchPlayerDeltaDTO delta) throws Exception {
+                    sendAll(List.of(delta));
+                }
+
+                @Override
+                public void sendAll(List<MatchPlayerDeltaDTO> deltas) throws Exception {
+                    bytesSent += objectMapper.writeValueAsBytes(deltas).length;
+                    framesSent++;
+                }
+            }).follow(MatchPlayerTopic.match(1L));
+        }
+    }
+
+    @Benchmark
+    public long fanOut() {
+        publish();
+        drain();
+        return framesSent;
+    }
+
+    @Benchmark
+    public long burstDrainedPerChange() {
+        for (int i = 0; i < BURST; i++) {
+            publish();
+            drain();
+        }
+        return framesSent;
+    }
+
+    @Benchmark
+    public long burstCoalesced() {
+        for (int i = 0; i < BURST; i++) {
+            publish();
+        }
+        drain();
+        return framesSent;
+    }
+
+    private void publish() {
+        MatchPlayerReadOnlyDTO previous = new MatchPlayerReadOnlyDTO(1L, 1L, 7L, 90, goals, 0, 0, (long) goals);
+        goals++;
+        MatchPlayerReadOnlyDTO current = new MatchPlayerReadOnlyDTO(1L, 1L, 7L, 90, goals, 0, 0, (long) goals);
+
+        gateway.onMatchPlayerChanged(new MatchPlayerChangedEvent(previous, current));
+    }
+
+    private void drain() {
+        Runnable task;
+
+        while ((task = pending.poll()) != null) {
+            task.run();
+        }
+    }
+}
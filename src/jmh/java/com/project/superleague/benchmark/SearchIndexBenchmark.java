@@ -0,0 +1,65 @@
+package com.project.superleague.benchmark;
+
+import com.project.superleague.index.InvertedIndex;
+import com.project.superleague.index.PrefixIndex;
+import com.project.superleague.index.SearchDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Autocomplete and full-text lookups against indexes holding 50k generated players,
+ * the work done per keystroke by the search endpoints.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchIndexBenchmark {
+    private static final int PLAYERS = 50_000;
+    private static final String[] FIRSTNAMES = {"Giorgos", "Nikos", "Kostas", "Dimitris", "Vasilis", "Andreas", "Petros", "Loren", "Ayoub", "Sergio"};
+    private static final String[] NATIONALITIES = {"Greece", "Spain", "Morocco", "Portugal", "Serbia", "Brazil"};
+    private static final String[] ROLES = {"Goalkeeper", "Defender", "Midfielder", "Forward"};
+
+    private final PrefixIndex prefixIndex = new PrefixIndex();
+    private final InvertedIndex invertedIndex = new InvertedIndex();
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+
+        for (long id = 1; id <= PLAYERS; id++) {
+            String firstname = FIRSTNAMES[random.nextInt(FIRSTNAMES.length)];
+            String lastname = randomName(random);
+            SearchDocument document = new SearchDocument(SearchDocument.PLAYER, id, firstname + " " + lastname, id % 16);
+
+            prefixIndex.put(document);
+            invertedIndex.put(document, Arrays.asList(firstname, lastname,
+                    NATIONALITIES[random.nextInt(NATIONALITIES.length)], ROLES[random.nextInt(ROLES.length)]));
+        }
+    }
+
+    @Benchmark
+    public List<SearchDocument> prefixSearch() {
+        return prefixIndex.search("kal", 10);
+    }
+
+    @Benchmark
+    public List<InvertedIndex.Hit> fullTextSearch() {
+        return invertedIndex.search("kalamo", 10);
+    }
+
+    private static String randomName(Random random) {
+        String syllables = "ka la mo pou los ri di ni to sa ke ko";
+        String[] parts = syllables.split(" ");
+        StringBuilder name = new StringBuilder();
+
+        for (int i = 0; i < 3 + random.nextInt(2); i++) {
+            name.append(parts[random.nextInt(parts.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+}
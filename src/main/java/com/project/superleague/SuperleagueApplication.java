@@ -1,9 +1,12 @@
 package com.project.superleague;
 
+import com.project.superleague.repository.MultiLoadRepositoryImpl;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
+@EnableJpaRepositories(repositoryBaseClass = MultiLoadRepositoryImpl.class)
 public class SuperleagueApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,33 @@
+package com.project.superleague.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Duration;
+
+@Configuration
+public class CacheConfig {
+    @Bean
+    public Cache<String, UserDetails> userDetailsCache(@Value("${superleague.users.cache.max-size:100}") long maxSize,
+                                                       @Value("${superleague.users.cache.ttl:5m}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    @Bean
+    public Cache<String, CachedResponse> responseCache(@Value("${superleague.http-cache.max-size:1000}") long maxSize,
+                                                       @Value("${superleague.http-cache.ttl:10m}") Duration ttl) {
+        return Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+}
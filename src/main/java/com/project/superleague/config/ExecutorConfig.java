@@ -0,0 +1,38 @@
+package com.project.superleague.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class ExecutorConfig {
+    @Bean
+    public ThreadPoolTaskExecutor loginExecutor(@Value("${superleague.login.threads:0}") int threads,
+                                                @Value("${superleague.login.queue-capacity:50}") int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setThreadNamePrefix("login-");
+        return executor;
+    }
+
+    /**
+     * Live pushes block on the client connection while writing, so every drain gets its own virtual thread
+     * and a stalled client only ever parks its own thread.
+     */
+    @Bean
+    public SimpleAsyncTaskExecutor liveExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("live-");
+
+        executor.setVirtualThreads(true);
+        return executor;
+    }
+}
@@ -1,14 +1,18 @@
 package com.project.superleague.config;
 
+import com.project.superleague.model.TokenClaims;
 import com.project.superleague.service.IJWTService;
 import com.project.superleague.service.UserDetailsServiceImpl;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -25,27 +29,52 @@ public class JWTFilter extends OncePerRequestFilter {
     @Autowired
     ApplicationContext applicationContext;
 
+    @Value("${superleague.jwt.stateless:false}")
+    private boolean stateless;
+
+    private UserDetailsServiceImpl userDetailsService;
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
         String authorizationHeader = request.getHeader("Authorization");
-        String token = null;
-        String username = null;
+        TokenClaims claims = null;
+        UsernamePasswordAuthenticationToken authenticationToken = null;
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            token = authorizationHeader.substring(7);
-            username = jwtService.extractUsername(token);
+            try {
+                claims = jwtService.parseToken(authorizationHeader.substring(7));
+            } catch (JwtException e) {
+                logger.debug("Rejected token: " + e.getMessage());
+            }
         }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = applicationContext.getBean(UserDetailsServiceImpl.class).loadUserByUsername(username);
-            if (jwtService.validateToken(token, userDetails)) {
-                UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
-                authenticationToken.setDetails(new WebAuthenticationDetailsSource()
-                        .buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        if (claims != null && claims.getUsername() != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (stateless && claims.hasAuthorities()) {
+                if (jwtService.validateToken(claims)) {
+                    authenticationToken = new UsernamePasswordAuthenticationToken(claims.getUsername(), null,
+                            claims.getAuthorities().stream().map(SimpleGrantedAuthority::new).toList());
+                }
+            } else if (!jwtService.isTokenRevoked(claims)) {
+                UserDetails userDetails = getUserDetailsService().loadUserByUsername(claims.getUsername());
+                if (jwtService.validateToken(claims, userDetails)) {
+                    authenticationToken = new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                }
             }
         }
 
+        if (authenticationToken != null) {
+            authenticationToken.setDetails(new WebAuthenticationDetailsSource()
+                    .buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(authenticationToken);
+        }
+
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+
+    private UserDetailsServiceImpl getUserDetailsService() {
+        if (userDetailsService == null) {
+            userDetailsService = applicationContext.getBean(UserDetailsServiceImpl.class);
+        }
+        return userDetailsService;
+    }
+}
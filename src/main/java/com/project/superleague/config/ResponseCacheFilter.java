@@ -0,0 +1,161 @@
+package com.project.superleague.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.superleague.dto.CacheStatsDTO;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Server-side cache of the JSON bodies served by the team, player, match and match player endpoints.
+ * Every cached body carries a strong ETag, so revalidations with If-None-Match are answered with 304
+ * without reaching the controllers. Any successful write on these endpoints, or on the admin endpoints that
+ * rewrite data they serve, clears the cache. Cache keys list the query parameters sorted by name.
+ */
+@Component
+@RequiredArgsConstructor
+public class ResponseCacheFilter extends OncePerRequestFilter {
+    public static final String CACHE_NAME = "httpResponses";
+    private static final List<String> CACHED_PATHS = List.of("/api/teams", "/api/players", "/api/matches", "/api/matchesplayers");
+    private static final List<String> EVICTING_PATHS = List.of("/api/admin/players/stats");
+
+    private final Cache<String, CachedResponse> responseCache;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Value("${superleague.http-cache.cache-control:no-cache}")
+    private String cacheControl;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = pathOf(request);
+
+        if (path.endsWith("/live")) {
+            return true;
+        }
+        return !matches(path, CACHED_PATHS) && !matches(path, EVICTING_PATHS);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            if (matches(pathOf(request), CACHED_PATHS)) {
+                serveCached(request, response, filterChain);
+            } else {
+                filterChain.doFilter(request, response);
+            }
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+
+        if (!HttpMethod.HEAD.matches(request.getMethod()) && !HttpMethod.OPTIONS.matches(request.getMethod())
+                && response.getStatus() >= 200 && response.getStatus() < 300) {
+            evictAll();
+        }
+    }
+
+    public void evictAll() {
+        generation.incrementAndGet();
+        responseCache.invalidateAll();
+    }
+
+    public CacheStatsDTO getCacheStats() {
+        CacheStats stats = responseCache.stats();
+        return new CacheStatsDTO(CACHE_NAME, responseCache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+
+    private void serveCached(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String key = cacheKey(request);
+        CachedResponse cached = responseCache.getIfPresent(key);
+
+        if (cached == null) {
+            long observedGeneration = generation.get();
+            Set<String> presetHeaders = new HashSet<>(response.getHeaderNames());
+            ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+
+            filterChain.doFilter(request, wrapper);
+
+            if (wrapper.getStatus() != HttpServletResponse.SC_OK) {
+                wrapper.copyBodyToResponse();
+                return;
+            }
+
+            Map<String, List<String>> headers = new LinkedHashMap<>();
+            for (String name : wrapper.getHeaderNames()) {
+                if (!presetHeaders.contains(name) && !name.equalsIgnoreCase(HttpHeaders.CONTENT_TYPE)) {
+                    headers.put(name, List.copyOf(wrapper.getHeaders(name)));
+                }
+            }
+
+            byte[] body = wrapper.getContentAsByteArray();
+            cached = new CachedResponse(body, wrapper.getContentType(), headers, "\"" + DigestUtils.md5DigestAsHex(body) + "\"");
+
+            // A write that completed while this body was rendered may have made it stale already.
+            if (generation.get() == observedGeneration) {
+                responseCache.put(key, cached);
+            }
+        } else {
+            cached.getHeaders().forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+        }
+
+        response.setHeader(HttpHeaders.ETAG, cached.getEtag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+
+        if (cached.matches(request.getHeader(HttpHeaders.IF_NONE_MATCH))) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setContentType(cached.getContentType());
+        response.setContentLength(cached.getBody().length);
+        response.getOutputStream().write(cached.getBody());
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private static boolean matches(String path, List<String> paths) {
+        return paths.stream().anyMatch(candidate -> path.equals(candidate) || path.startsWith(candidate + "/"));
+    }
+
+    // Names and values are encoded, so a value containing '&' or '=' cannot collide with another parameter list.
+    private static String cacheKey(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(pathOf(request));
+        Map<String, String[]> parameters = new TreeMap<>(request.getParameterMap());
+
+        char separator = '?';
+        for (Map.Entry<String, String[]> parameter : parameters.entrySet()) {
+            for (String value : parameter.getValue()) {
+                key.append(separator)
+                        .append(URLEncoder.encode(parameter.getKey(), StandardCharsets.UTF_8))
+                        .append('=')
+                        .append(URLEncoder.encode(value, StandardCharsets.UTF_8));
+                separator = '&';
+            }
+        }
+        return key.toString();
+    }
+}
@@ -1,6 +1,7 @@
 package com.project.superleague.config;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -13,24 +14,37 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+/**
+ * Requests are authenticated with HTTP basic or a JWT checked by {@link JWTFilter}.
+ * Logout revocations are held in the memory of the instance that received the logout, like the signing key,
+ * so behind a load balancer a revoked token stays valid on the other instances until it expires.
+ */
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
     @Autowired
     UserDetailsService usersDetailsService;
 
+    @Autowired
+    UserDetailsPasswordService userDetailsPasswordService;
+
     @Autowired
     JWTFilter jwtFilter;
 
+    @Value("${superleague.login.bcrypt-strength:12}")
+    int bcryptStrength;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         return http.csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(request -> request
+                        .requestMatchers("/api/admin/**").hasAuthority("admin")
+                        .requestMatchers("/api/export/**").hasAuthority("admin")
                         .requestMatchers(HttpMethod.GET).permitAll()
                         .requestMatchers("/api/login").permitAll()
                         .requestMatchers(HttpMethod.POST).hasAuthority("admin")
@@ -45,8 +59,9 @@ public class SecurityConfig {
     @Bean
     public AuthenticationProvider authenticationProvider() {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
-        provider.setPasswordEncoder(new BCryptPasswordEncoder(12));
+        provider.setPasswordEncoder(new RehashingBCryptPasswordEncoder(bcryptStrength));
         provider.setUserDetailsService(usersDetailsService);
+        provider.setUserDetailsPasswordService(userDetailsPasswordService);
 
         return provider;
     }
@@ -0,0 +1,27 @@
+package com.project.superleague.config;
+
+import com.project.superleague.rest.MatchPlayerLiveSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+    public static final String MATCH_PLAYER_LIVE_PATH = "/api/matchesplayers/live";
+
+    private final MatchPlayerLiveSocketHandler matchPlayerLiveSocketHandler;
+
+    @Value("${superleague.live.ws.allowed-origins:}")
+    private String[] allowedOrigins;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(matchPlayerLiveSocketHandler, MATCH_PLAYER_LIVE_PATH)
+                .setAllowedOriginPatterns(allowedOrigins);
+    }
+}
@@ -0,0 +1,21 @@
+package com.project.superleague.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Map;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class DeletionResultDTO {
+    private Long id;
+    private Map<String, Integer> removedRows;
+
+    public int getTotalRemovedRows() {
+        return removedRows.values().stream().mapToInt(Integer::intValue).sum();
+    }
+}
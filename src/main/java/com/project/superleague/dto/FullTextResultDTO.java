@@ -0,0 +1,18 @@
+package com.project.superleague.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class FullTextResultDTO {
+    private String type;
+    private Long id;
+    private String name;
+    private Long teamId;
+    private Double score;
+}
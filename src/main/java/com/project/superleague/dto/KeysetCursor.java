@@ -0,0 +1,48 @@
+package com.project.superleague.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Getter
+@RequiredArgsConstructor
+public class KeysetCursor {
+    private final Long id;
+    private final String key;
+
+    public String encode() {
+        String raw = key == null ? id.toString() : id + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(':');
+            if (separator < 0) {
+                return new KeysetCursor(Long.parseLong(raw), null);
+            }
+            return new KeysetCursor(Long.parseLong(raw.substring(0, separator)), raw.substring(separator + 1));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor " + token + ".", e);
+        }
+    }
+
+    /**
+     * Decodes a cursor of a search ordered by a key before the id, rejecting cursors that carry no key.
+     */
+    public static KeysetCursor decodeKeyed(String token) {
+        KeysetCursor cursor = decode(token);
+
+        if (cursor != null && cursor.getKey() == null) {
+            throw new IllegalArgumentException("Invalid cursor " + token + ".");
+        }
+        return cursor;
+    }
+}
@@ -0,0 +1,16 @@
+package com.project.superleague.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class LeaderboardEntryDTO {
+    private Integer rank;
+    private Long playerId;
+    private Long total;
+}
@@ -0,0 +1,28 @@
+package com.project.superleague.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Getter
+@Setter
+public class LiveSubscriptionRequestDTO {
+    public static final String SUBSCRIBE = "subscribe";
+    public static final String UNSUBSCRIBE = "unsubscribe";
+
+    private String action;
+
+    @Builder.Default
+    private List<Long> matchIds = new ArrayList<>();
+
+    @Builder.Default
+    private List<Long> playerIds = new ArrayList<>();
+}
@@ -0,0 +1,19 @@
+package com.project.superleague.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class MatchPlayerBatchResultDTO {
+    public enum Status { CREATED, INVALID, NOT_FOUND, ALREADY_EXISTS }
+
+    private Integer index;
+    private Status status;
+    private String message;
+    private MatchPlayerReadOnlyDTO matchPlayer;
+}
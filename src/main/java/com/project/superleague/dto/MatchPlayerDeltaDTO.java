@@ -0,0 +1,32 @@
+package com.project.superleague.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Change of the stats of a player in a match. The counters hold the difference from the previous state,
+ * so coalesced deltas are summed and zero counters are left out of the JSON.
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+@JsonInclude(JsonInclude.Include.NON_DEFAULT)
+public class MatchPlayerDeltaDTO {
+    private Long matchId;
+    private Long playerId;
+    private int playTime;
+    private int goals;
+    private int assists;
+    private int cards;
+    private Long version;
+    private boolean removed;
+
+    public MatchPlayerDeltaDTO coalesce(MatchPlayerDeltaDTO later) {
+        return new MatchPlayerDeltaDTO(matchId, playerId, playTime + later.playTime, goals + later.goals, assists + later.assists,
+                cards + later.cards, later.version, later.removed);
+    }
+}
@@ -15,6 +15,7 @@ public class MatchPlayerReadOnlyDTO extends BaseDTO {
     private Integer goals;
     private Integer assists;
     private Integer cards;
+    private Long version;
 
     public MatchPlayerReadOnlyDTO(Long id, Long matchId, Long playerId, Integer playTime, Integer goals, Integer assists, Integer cards) {
         setId(id);
@@ -25,4 +26,9 @@ public class MatchPlayerReadOnlyDTO extends BaseDTO {
         this.assists = assists;
         this.cards = cards;
     }
+
+    public MatchPlayerReadOnlyDTO(Long id, Long matchId, Long playerId, Integer playTime, Integer goals, Integer assists, Integer cards, Long version) {
+        this(id, matchId, playerId, playTime, goals, assists, cards);
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.project.superleague.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+@NoArgsConstructor
+@Getter
+@Setter
+public class MatchPlayerReferencesDTO {
+    private LocalDate matchDate;
+    private boolean playerExists;
+    private boolean matchPlayerExists;
+
+    public MatchPlayerReferencesDTO(LocalDate matchDate, Long playerCount, Long matchPlayerCount) {
+        this.matchDate = matchDate;
+        this.playerExists = playerCount > 0;
+        this.matchPlayerExists = matchPlayerCount > 0;
+    }
+
+    public boolean isMatchExists() {
+        return matchDate != null;
+    }
+}
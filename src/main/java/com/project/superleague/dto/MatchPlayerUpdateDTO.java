@@ -22,8 +22,11 @@ public class MatchPlayerUpdateDTO extends BaseDTO {
 
     private Integer cards;
 
+    @NotNull
+    private Long version;
+
     @Builder
-    public MatchPlayerUpdateDTO(Long id, Long matchId, Long playerId, Integer playTime, Integer goals, Integer assists, Integer cards) {
+    public MatchPlayerUpdateDTO(Long id, Long matchId, Long playerId, Integer playTime, Integer goals, Integer assists, Integer cards, Long version) {
         setId(id);
         this.matchId = matchId;
         this.playerId = playerId;
@@ -31,5 +34,6 @@ public class MatchPlayerUpdateDTO extends BaseDTO {
         this.goals = goals;
         this.assists = assists;
         this.cards = cards;
+        this.version = version;
     }
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ public class MatchReadOnlyDTO extends BaseDTO {
 
     private Long guestTeamId;
 
+    private Long version;
+
     public MatchReadOnlyDTO(Long id, LocalDate matchDate, Integer goalsHost, Integer goalsGuest, Long hostTeamId, Long guestTeamId) {
         setId(id);
         this.matchDate = matchDate;
@@ -29,4 +31,9 @@ public class MatchReadOnlyDTO extends BaseDTO {
         this.hostTeamId = hostTeamId;
         this.guestTeamId = guestTeamId;
     }
+
+    public MatchReadOnlyDTO(Long id, LocalDate matchDate, Integer goalsHost, Integer goalsGuest, Long hostTeamId, Long guestTeamId, Long version) {
+        this(id, matchDate, goalsHost, goalsGuest, hostTeamId, guestTeamId);
+        this.version = version;
+    }
 }
\ No newline at end of file
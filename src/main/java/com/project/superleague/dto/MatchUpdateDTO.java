@@ -26,13 +26,17 @@ public class MatchUpdateDTO extends BaseDTO {
     @NotNull
     private Long guestTeamId;
 
+    @NotNull
+    private Long version;
+
     @Builder
-    public MatchUpdateDTO(Long id, LocalDate matchDate, Integer goalsHost, Integer goalsGuest, Long hostTeamId, Long guestTeamId) {
+    public MatchUpdateDTO(Long id, LocalDate matchDate, Integer goalsHost, Integer goalsGuest, Long hostTeamId, Long guestTeamId, Long version) {
         setId(id);
         this.matchDate = matchDate;
         this.goalsHost = goalsHost;
         this.goalsGuest = goalsGuest;
         this.hostTeamId = hostTeamId;
         this.guestTeamId = guestTeamId;
+        this.version = version;
     }
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ public class PlayerReadOnlyDTO extends BaseDTO {
     private Integer monetaryValue;
     private String playerRole;
     private Long teamId;
+    private Long version;
 
     @Builder
     public PlayerReadOnlyDTO(Long id, LocalDate dateOfBirth, String firstname, String lastname, Integer monetaryValue, String nationality, String playerRole, Long teamId) {
@@ -31,4 +32,9 @@ public class PlayerReadOnlyDTO extends BaseDTO {
         this.playerRole = playerRole;
         this.teamId = teamId;
     }
+
+    public PlayerReadOnlyDTO(Long id, LocalDate dateOfBirth, String firstname, String lastname, Integer monetaryValue, String nationality, String playerRole, Long teamId, Long version) {
+        this(id, dateOfBirth, firstname, lastname, monetaryValue, nationality, playerRole, teamId);
+        this.version = version;
+    }
 }
\ No newline at end of file
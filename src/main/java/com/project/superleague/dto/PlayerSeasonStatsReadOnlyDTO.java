@@ -0,0 +1,20 @@
+package com.project.superleague.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class PlayerSeasonStatsReadOnlyDTO {
+    private Long playerId;
+    private Integer season;
+    private Integer appearances;
+    private Integer minutesPlayed;
+    private Integer goals;
+    private Integer assists;
+    private Integer cards;
+}
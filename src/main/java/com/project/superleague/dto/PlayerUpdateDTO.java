@@ -32,8 +32,11 @@ public class PlayerUpdateDTO extends BaseDTO {
     @NotNull
     private Long teamId;
 
+    @NotNull
+    private Long version;
+
     @Builder
-    public PlayerUpdateDTO(Long id, String firstname, String lastname, LocalDate dateOfBirth, String nationality, Integer monetaryValue, String playerRole, Long teamId) {
+    public PlayerUpdateDTO(Long id, String firstname, String lastname, LocalDate dateOfBirth, String nationality, Integer monetaryValue, String playerRole, Long teamId, Long version) {
         setId(id);
         this.firstname = firstname;
         this.lastname = lastname;
@@ -42,5 +45,6 @@ public class PlayerUpdateDTO extends BaseDTO {
         this.monetaryValue = monetaryValue;
         this.playerRole = playerRole;
         this.teamId = teamId;
+        this.version = version;
     }
 }
\ No newline at end of file
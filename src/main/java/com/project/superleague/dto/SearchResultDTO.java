@@ -0,0 +1,17 @@
+package com.project.superleague.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class SearchResultDTO {
+    private String type;
+    private Long id;
+    private String name;
+    private Long teamId;
+}
@@ -0,0 +1,23 @@
+package com.project.superleague.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class StandingReadOnlyDTO {
+    private Integer rank;
+    private Long teamId;
+    private Integer played;
+    private Integer wins;
+    private Integer draws;
+    private Integer losses;
+    private Integer goalsFor;
+    private Integer goalsAgainst;
+    private Integer goalDifference;
+    private Integer points;
+}
@@ -0,0 +1,17 @@
+package com.project.superleague.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class StandingsConsistencyDTO {
+    private Boolean consistent;
+    private List<Long> mismatchedTeamIds;
+}
@@ -16,6 +16,7 @@ public class TeamReadOnlyDTO extends BaseDTO {
     private String coachLastname;
     private String presidentFirstname;
     private String presidentLastname;
+    private Long version;
 
     public TeamReadOnlyDTO(Long id, String teamName, Integer foundationYear, String cityName, String stadiumName, String coachFirstname, String coachLastname, String presidentFirstname, String presidentLastname) {
         setId(id);
@@ -28,4 +29,9 @@ public class TeamReadOnlyDTO extends BaseDTO {
         this.presidentFirstname = presidentFirstname;
         this.presidentLastname = presidentLastname;
     }
+
+    public TeamReadOnlyDTO(Long id, String teamName, Integer foundationYear, String cityName, String stadiumName, String coachFirstname, String coachLastname, String presidentFirstname, String presidentLastname, Long version) {
+        this(id, teamName, foundationYear, cityName, stadiumName, coachFirstname, coachLastname, presidentFirstname, presidentLastname);
+        this.version = version;
+    }
 }
@@ -35,8 +35,11 @@ public class TeamUpdateDTO extends BaseDTO {
     @Size(min = 2, max = 30)
     private String presidentLastname;
 
+    @NotNull
+    private Long version;
+
     @Builder
-    public TeamUpdateDTO(Long id, String teamName, Integer foundationYear, String cityName, String stadiumName, String coachFirstname, String coachLastname, String presidentFirstname, String presidentLastname) {
+    public TeamUpdateDTO(Long id, String teamName, Integer foundationYear, String cityName, String stadiumName, String coachFirstname, String coachLastname, String presidentFirstname, String presidentLastname, Long version) {
         setId(id);
         this.teamName = teamName;
         this.foundationYear = foundationYear;
@@ -46,5 +49,6 @@ public class TeamUpdateDTO extends BaseDTO {
         this.coachLastname = coachLastname;
         this.presidentFirstname = presidentFirstname;
         this.presidentLastname = presidentLastname;
+        this.version = version;
     }
 }
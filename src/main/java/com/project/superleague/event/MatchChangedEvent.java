@@ -0,0 +1,12 @@
+package com.project.superleague.event;
+
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MatchChangedEvent {
+    private final MatchReadOnlyDTO previous;
+    private final MatchReadOnlyDTO current;
+}
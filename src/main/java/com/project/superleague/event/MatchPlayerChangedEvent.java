@@ -0,0 +1,12 @@
+package com.project.superleague.event;
+
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class MatchPlayerChangedEvent {
+    private final MatchPlayerReadOnlyDTO previous;
+    private final MatchPlayerReadOnlyDTO current;
+}
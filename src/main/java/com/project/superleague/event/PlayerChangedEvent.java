@@ -0,0 +1,11 @@
+package com.project.superleague.event;
+
+import com.project.superleague.dto.PlayerReadOnlyDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class PlayerChangedEvent {
+    private final PlayerReadOnlyDTO player;
+}
@@ -0,0 +1,11 @@
+package com.project.superleague.event;
+
+import com.project.superleague.dto.TeamReadOnlyDTO;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TeamChangedEvent {
+    private final TeamReadOnlyDTO team;
+}
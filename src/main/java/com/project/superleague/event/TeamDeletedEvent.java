@@ -0,0 +1,10 @@
+package com.project.superleague.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class TeamDeletedEvent {
+    private final Long teamId;
+}
@@ -0,0 +1,11 @@
+package com.project.superleague.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+    private final String username;
+    private final String previousUsername;
+}
@@ -0,0 +1,29 @@
+package com.project.superleague.event;
+
+import com.project.superleague.model.Users;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class UsersEntityListener {
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostLoad
+    public void onUserLoaded(Users user) {
+        user.setStoredUsername(user.getUsername());
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onUserChanged(Users user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername(), user.getStoredUsername()));
+        user.setStoredUsername(user.getUsername());
+    }
+}
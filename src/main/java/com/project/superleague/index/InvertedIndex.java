@@ -0,0 +1,209 @@
+package com.project.superleague.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Trigram inverted index over the text fields of players and teams, ranked with BM25.
+ * Indexed words are folded like {@link PrefixIndex} and padded with a space on each side,
+ * so that a query word matches anywhere inside a word and still favours word starts.
+ * A document must share at least half of the query trigrams to be returned, which keeps
+ * small typos matching without flooding the results with single-gram hits.
+ * Not thread safe.
+ */
+public class InvertedIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final Comparator<Hit> RANKING = Comparator.comparingDouble(Hit::getScore).reversed()
+            .thenComparing(Hit::getDocument, SearchDocument.ORDER);
+
+    private final Map<String, Posting> postings = new HashMap<>();
+    private final Map<SearchDocument, Integer> ordinals = new HashMap<>();
+    private final List<SearchDocument> documents = new ArrayList<>();
+    private final List<String[]> gramsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+    private int[] lengths = new int[16];
+    private long totalLength;
+
+    public void put(SearchDocument document, Collection<String> texts) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        int length = 0;
+
+        remove(document);
+        for (String text : texts) {
+            for (String word : PrefixIndex.fold(text).split(" ")) {
+                if (!word.isEmpty()) {
+                    String padded = " " + word + " ";
+                    for (int i = 0; i + GRAM_LENGTH <= padded.length(); i++) {
+                        frequencies.merge(padded.substring(i, i + GRAM_LENGTH), 1, Integer::sum);
+                        length++;
+                    }
+                }
+            }
+        }
+        if (frequencies.isEmpty()) {
+            return;
+        }
+
+        int ordinal = allocate(document);
+        frequencies.forEach((gram, frequency) -> postings.computeIfAbsent(gram, key -> new Posting()).add(ordinal, frequency));
+        gramsByOrdinal.set(ordinal, frequencies.keySet().toArray(new String[0]));
+        lengths[ordinal] = length;
+        totalLength += length;
+    }
+
+    public void remove(SearchDocument document) {
+        Integer ordinal = ordinals.remove(document);
+
+        if (ordinal == null) {
+            return;
+        }
+        for (String gram : gramsByOrdinal.get(ordinal)) {
+            Posting posting = postings.get(gram);
+            posting.remove(ordinal);
+            if (posting.size == 0) {
+                postings.remove(gram);
+            }
+        }
+        totalLength -= lengths[ordinal];
+        documents.set(ordinal, null);
+        gramsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    public void removeIf(Predicate<SearchDocument> filter) {
+        List<SearchDocument> removed = ordinals.keySet().stream().filter(filter).toList();
+        removed.forEach(this::remove);
+    }
+
+    public void clear() {
+        postings.clear();
+        ordinals.clear();
+        documents.clear();
+        gramsByOrdinal.clear();
+        freeOrdinals.clear();
+        totalLength = 0;
+    }
+
+    public int size() {
+        return ordinals.size();
+    }
+
+    public List<Hit> search(String query, int limit) {
+        Set<String> queryGrams = queryGrams(query);
+        PriorityQueue<Hit> top = new PriorityQueue<>(RANKING.reversed());
+        int minimumMatch = (queryGrams.size() + 1) / 2;
+
+        if (queryGrams.isEmpty() || ordinals.isEmpty()) {
+            return new ArrayList<>();
+        }
+        double averageLength = (double) totalLength / ordinals.size();
+        double[] scores = new double[documents.size()];
+        int[] matchedGrams = new int[documents.size()];
+        int[] touched = new int[documents.size()];
+        int touchedCount = 0;
+
+        for (String gram : queryGrams) {
+            Posting posting = postings.get(gram);
+            if (posting == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (ordinals.size() - posting.size + 0.5) / (posting.size + 0.5));
+            for (int i = 0; i < posting.size; i++) {
+                int ordinal = posting.ordinals[i];
+                int frequency = posting.frequencies[i];
+                double norm = K1 * (1 - B + B * lengths[ordinal] / averageLength);
+
+                if (matchedGrams[ordinal]++ == 0) {
+                    touched[touchedCount++] = ordinal;
+                }
+                scores[ordinal] += idf * frequency * (K1 + 1) / (frequency + norm);
+            }
+        }
+
+        for (int i = 0; i < touchedCount; i++) {
+            int ordinal = touched[i];
+            if (matchedGrams[ordinal] >= minimumMatch
+                    && (top.size() < limit || scores[ordinal] >= top.peek().getScore())) {
+                top.add(new Hit(documents.get(ordinal), scores[ordinal]));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+        }
+        List<Hit> hits = new ArrayList<>(top);
+        hits.sort(RANKING);
+        return hits;
+    }
+
+    private int allocate(SearchDocument document) {
+        int ordinal;
+
+        if (freeOrdinals.isEmpty()) {
+            ordinal = documents.size();
+            documents.add(document);
+            gramsByOrdinal.add(null);
+            if (ordinal == lengths.length) {
+                lengths = Arrays.copyOf(lengths, ordinal * 2);
+            }
+        } else {
+            ordinal = freeOrdinals.pop();
+            documents.set(ordinal, document);
+        }
+        ordinals.put(document, ordinal);
+        return ordinal;
+    }
+
+    // Query words are not padded at the end so that they match inside longer words;
+    // a two letter word is matched as a word start.
+    private static Set<String> queryGrams(String query) {
+        Set<String> grams = new LinkedHashSet<>();
+
+        for (String word : PrefixIndex.fold(query).split(" ")) {
+            String gramSource = word.length() == GRAM_LENGTH - 1 ? " " + word : word;
+            for (int i = 0; i + GRAM_LENGTH <= gramSource.length(); i++) {
+                grams.add(gramSource.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    // Parallel arrays of document ordinals and term frequencies; removal swaps in the last entry.
+    private static class Posting {
+        private int[] ordinals = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        private void add(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+        }
+
+        private void remove(int ordinal) {
+            for (int i = 0; i < size; i++) {
+                if (ordinals[i] == ordinal) {
+                    size--;
+                    ordinals[i] = ordinals[size];
+                    frequencies[i] = frequencies[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Hit {
+        private final SearchDocument document;
+        private final double score;
+    }
+}
@@ -0,0 +1,77 @@
+package com.project.superleague.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Player totals of one metric, ranked by total descending and then by player id.
+ * Players whose total is zero are not ranked.
+ * Not thread safe.
+ */
+public class Leaderboard {
+    private static final Comparator<Entry> RANKING = Comparator.comparingLong(Entry::getTotal).reversed()
+            .thenComparing(Entry::getPlayerId);
+
+    private final Map<Long, Long> totals = new HashMap<>();
+    private final OrderStatisticTree<Entry> ranking = new OrderStatisticTree<>(RANKING);
+
+    public void add(Long playerId, long delta) {
+        Long total = totals.get(playerId);
+
+        if (total != null) {
+            ranking.remove(new Entry(playerId, total));
+        }
+        total = (total != null ? total : 0L) + delta;
+        if (total == 0) {
+            totals.remove(playerId);
+            return;
+        }
+        totals.put(playerId, total);
+        ranking.add(new Entry(playerId, total));
+    }
+
+    public void remove(Long playerId) {
+        Long total = totals.remove(playerId);
+
+        if (total != null) {
+            ranking.remove(new Entry(playerId, total));
+        }
+    }
+
+    public void clear() {
+        totals.clear();
+        ranking.clear();
+    }
+
+    public int size() {
+        return ranking.size();
+    }
+
+    public List<Entry> range(int offset, int limit) {
+        return ranking.range(offset, limit);
+    }
+
+    /**
+     * One based rank of the player, or null if the player has no total.
+     */
+    public Integer rankOf(Long playerId) {
+        Long total = totals.get(playerId);
+        return total != null ? ranking.indexOf(new Entry(playerId, total)) + 1 : null;
+    }
+
+    public Long totalOf(Long playerId) {
+        return totals.get(playerId);
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Entry {
+        private final Long playerId;
+        private final long total;
+    }
+}
@@ -0,0 +1,32 @@
+package com.project.superleague.index;
+
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+
+import java.util.Locale;
+import java.util.function.Function;
+
+public enum LeaderboardMetric {
+    GOALS(MatchPlayerReadOnlyDTO::getGoals),
+    ASSISTS(MatchPlayerReadOnlyDTO::getAssists),
+    MINUTES(MatchPlayerReadOnlyDTO::getPlayTime),
+    CARDS(MatchPlayerReadOnlyDTO::getCards);
+
+    private final Function<MatchPlayerReadOnlyDTO, Integer> value;
+
+    LeaderboardMetric(Function<MatchPlayerReadOnlyDTO, Integer> value) {
+        this.value = value;
+    }
+
+    public int valueOf(MatchPlayerReadOnlyDTO matchPlayer) {
+        Integer metricValue = matchPlayer != null ? value.apply(matchPlayer) : null;
+        return metricValue != null ? metricValue : 0;
+    }
+
+    public static LeaderboardMetric fromName(String name) {
+        try {
+            return valueOf(name.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown leaderboard metric " + name + ".");
+        }
+    }
+}
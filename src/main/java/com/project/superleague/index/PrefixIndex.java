@@ -0,0 +1,96 @@
+package com.project.superleague.index;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Sorted set of case and accent folded names, searched by prefix. Every word of a name starts
+ * a term, so "Van Dijk" is found by "van", "dijk" and "van d". Matches are returned in term
+ * order, then by type and id, each document at most once.
+ * Not thread safe.
+ */
+public class PrefixIndex {
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Comparator<Term> TERM_ORDER = Comparator.comparing(Term::getTerm)
+            .thenComparing(Term::getDocument, Comparator.nullsFirst(SearchDocument.ORDER));
+
+    private final NavigableSet<Term> terms = new TreeSet<>(TERM_ORDER);
+    private final Map<SearchDocument, List<Term>> termsByDocument = new HashMap<>();
+
+    public void put(SearchDocument document) {
+        List<Term> documentTerms = new ArrayList<>();
+        String folded = fold(document.getName());
+
+        remove(document);
+        for (int start = 0; start < folded.length(); start = nextWordStart(folded, start)) {
+            documentTerms.add(new Term(folded.substring(start), document));
+        }
+        terms.addAll(documentTerms);
+        termsByDocument.put(document, documentTerms);
+    }
+
+    public void remove(SearchDocument document) {
+        List<Term> documentTerms = termsByDocument.remove(document);
+
+        if (documentTerms != null) {
+            documentTerms.forEach(terms::remove);
+        }
+    }
+
+    public void removeIf(Predicate<SearchDocument> filter) {
+        List<SearchDocument> removed = termsByDocument.keySet().stream().filter(filter).toList();
+        removed.forEach(this::remove);
+    }
+
+    public void clear() {
+        terms.clear();
+        termsByDocument.clear();
+    }
+
+    public int size() {
+        return termsByDocument.size();
+    }
+
+    public List<SearchDocument> search(String prefix, int limit) {
+        Set<SearchDocument> found = new LinkedHashSet<>();
+        String folded = fold(prefix);
+
+        for (Term term : terms.tailSet(new Term(folded, null), true)) {
+            if (found.size() >= limit || !term.getTerm().startsWith(folded)) {
+                break;
+            }
+            found.add(term.getDocument());
+        }
+        return new ArrayList<>(found);
+    }
+
+    /**
+     * Lower case without diacritics and with single spaces, e.g. "Ολυμπιακός" becomes "ολυμπιακοσ".
+     */
+    public static String fold(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String folded = COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT).replace('ς', 'σ');
+        return WHITESPACE.matcher(folded).replaceAll(" ").trim();
+    }
+
+    private static int nextWordStart(String folded, int start) {
+        int space = folded.indexOf(' ', start);
+        return space < 0 ? folded.length() : space + 1;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static class Term {
+        private final String term;
+        private final SearchDocument document;
+    }
+}
@@ -0,0 +1,26 @@
+package com.project.superleague.index;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Comparator;
+
+/**
+ * A searchable player or team. Documents are equal when type and id match, so a renamed
+ * document replaces its previous version in the index.
+ */
+@Getter
+@RequiredArgsConstructor
+@EqualsAndHashCode(of = {"type", "id"})
+public class SearchDocument {
+    public static final String PLAYER = "player";
+    public static final String TEAM = "team";
+    public static final Comparator<SearchDocument> ORDER = Comparator.comparing(SearchDocument::getType)
+            .thenComparing(SearchDocument::getId);
+
+    private final String type;
+    private final Long id;
+    private final String name;
+    private final Long teamId;
+}
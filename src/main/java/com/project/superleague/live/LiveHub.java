@@ -0,0 +1,308 @@
+package com.project.superleague.live;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+/**
+ * In-process publish/subscribe hub keyed by topic.
+ * Publishing only appends the message to the bounded buffer of every subscription following the topic, by default dropping
+ * the oldest buffered message when a buffer is full, so a slow subscriber never holds up the publisher or the other subscribers.
+ * Each buffer is drained by at most one task at a time on the given executor.
+ * A hub created with a coalescing key merges a message into the buffered message with the same key instead of queueing it.
+ * Hubs whose messages only make sense in sequence are created with {@link OverflowPolicy#CLOSE}, which closes a
+ * subscription whose buffer overflows instead of dropping a message, so the subscriber can reconnect and reload.
+ */
+@Slf4j
+public class LiveHub<K, T> {
+    private final Map<K, Set<Subscription>> topics = new ConcurrentHashMap<>();
+    private final Executor executor;
+    private final int bufferSize;
+    private final Function<T, ?> coalescingKey;
+    private final BinaryOperator<T> merger;
+    private final OverflowPolicy overflowPolicy;
+
+    public LiveHub(Executor executor, int bufferSize) {
+        this(executor, bufferSize, null, null, OverflowPolicy.DROP_OLDEST);
+    }
+
+    public LiveHub(Executor executor, int bufferSize, Function<T, ?> coalescingKey, BinaryOperator<T> merger, OverflowPolicy overflowPolicy) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("Buffer size must be positive.");
+        }
+        this.executor = executor;
+        this.bufferSize = bufferSize;
+        this.coalescingKey = coalescingKey;
+        this.merger = merger;
+        this.overflowPolicy = overflowPolicy;
+    }
+
+    /**
+     * Opens a subscription that follows no topic yet.
+     */
+    public Subscription subscribe(Sender<T> sender) {
+        return new Subscription(sender);
+    }
+
+    public Subscription subscribe(K topic, Sender<T> sender) {
+        Subscription subscription = subscribe(sender);
+
+        subscription.follow(topic);
+        return subscription;
+    }
+
+    /**
+     * Returns the number of subscriptions the message was buffered for.
+     */
+    public int publish(K topic, T message) {
+        Set<Subscription> subscriptions = topics.get(topic);
+
+        if (subscriptions == null) {
+            return 0;
+        }
+        subscriptions.forEach(subscription -> subscription.offer(message));
+        return subscriptions.size();
+    }
+
+    /**
+     * Publishes the message once to every subscription following at least one of the topics.
+     */
+    public int publish(Collection<K> messageTopics, T message) {
+        Set<Subscription> recipients = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (K topic : messageTopics) {
+            Set<Subscription> subscriptions = topics.get(topic);
+            if (subscriptions != null) {
+                recipients.addAll(subscriptions);
+            }
+        }
+        recipients.forEach(subscription -> subscription.offer(message));
+        return recipients.size();
+    }
+
+    /**
+     * Closes every subscription following the topic. Messages still buffered are discarded.
+     */
+    public void closeTopic(K topic) {
+        Set<Subscription> subscriptions = topics.remove(topic);
+
+        if (subscriptions != null) {
+            subscriptions.forEach(Subscription::close);
+        }
+    }
+
+    public int getSubscriberCount(K topic) {
+        Set<Subscription> subscriptions = topics.get(topic);
+        return subscriptions != null ? subscriptions.size() : 0;
+    }
+
+    public int getTopicCount() {
+        return topics.size();
+    }
+
+    private void add(K topic, Subscription subscription) {
+        topics.compute(topic, (key, subscriptions) -> {
+            Set<Subscription> updated = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+            updated.add(subscription);
+            return updated;
+        });
+    }
+
+    private void remove(K topic, Subscription subscription) {
+        topics.computeIfPresent(topic, (key, subscriptions) -> {
+            subscriptions.remove(subscription);
+            return subscriptions.isEmpty() ? null : subscriptions;
+        });
+    }
+
+    public enum OverflowPolicy {
+        DROP_OLDEST,
+        CLOSE
+    }
+
+    @FunctionalInterface
+    public interface Sender<T> {
+        void send(T message) throws Exception;
+
+        /**
+         * Sends everything that was buffered since the previous drain, in buffer order.
+         */
+        default void sendAll(List<T> messages) throws Exception {
+            for (T message : messages) {
+                send(message);
+            }
+        }
+
+        default void close() {
+        }
+
+        /**
+         * Called instead of close when the subscription is closed because its buffer overflowed.
+         */
+        default void overflowed() {
+            close();
+        }
+    }
+
+    public class Subscription implements LiveSubscription {
+        private final Sender<T> sender;
+        private final Set<K> followed = ConcurrentHashMap.newKeySet();
+        private final LinkedHashMap<Object, T> buffer = new LinkedHashMap<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicLong dropped = new AtomicLong();
+
+        private Subscription(Sender<T> sender) {
+            this.sender = sender;
+        }
+
+        public void follow(K topic) {
+            if (!closed.get() && followed.add(topic)) {
+                add(topic, this);
+                if (closed.get()) {
+                    remove(topic, this);
+                }
+            }
+        }
+
+        public void unfollow(K topic) {
+            if (followed.remove(topic)) {
+                remove(topic, this);
+            }
+        }
+
+        public Set<K> getFollowed() {
+            return Collections.unmodifiableSet(followed);
+        }
+
+        public void offer(T message) {
+            boolean overflowed = false;
+
+            if (closed.get()) {
+                return;
+            }
+            synchronized (buffer) {
+                Object key = coalescingKey != null ? coalescingKey.apply(message) : new Object();
+
+                if (buffer.containsKey(key)) {
+                    buffer.merge(key, message, merger);
+                } else if (buffer.size() < bufferSize) {
+                    buffer.put(key, message);
+                } else if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+                    Iterator<T> oldest = buffer.values().iterator();
+                    oldest.next();
+                    oldest.remove();
+                    dropped.incrementAndGet();
+                    buffer.put(key, message);
+                } else {
+                    dropped.incrementAndGet();
+                    overflowed = true;
+                }
+            }
+            if (overflowed) {
+                close(true);
+                return;
+            }
+            scheduleDrain();
+        }
+
+        @Override
+        public void close() {
+            close(false);
+        }
+
+        private void close(boolean overflowed) {
+            if (closed.compareAndSet(false, true)) {
+                followed.forEach(topic -> remove(topic, this));
+                synchronized (buffer) {
+                    buffer.clear();
+                }
+                if (overflowed) {
+                    notifyOverflowed();
+                } else {
+                    sender.close();
+                }
+            }
+        }
+
+        /**
+         * Overflow is detected on the publishing thread, the sender is told on the executor so a stalled
+         * connection cannot hold up the publisher while it is being closed.
+         */
+        private void notifyOverflowed() {
+            try {
+                executor.execute(sender::overflowed);
+            } catch (RuntimeException e) {
+                sender.overflowed();
+            }
+        }
+
+        @Override
+        public boolean isClosed() {
+            return closed.get();
+        }
+
+        @Override
+        public long getDroppedCount() {
+            return dropped.get();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    log.warn("Could not schedule a live update, closing the subscription.", e);
+                    draining.set(false);
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            List<T> messages;
+
+            try {
+                while (!closed.get() && !(messages = takeAll()).isEmpty()) {
+                    sender.sendAll(messages);
+                }
+            } catch (Exception e) {
+                log.debug("Live update could not be sent, closing the subscription.", e);
+                close();
+            } finally {
+                draining.set(false);
+            }
+            if (!closed.get() && hasNext()) {
+                scheduleDrain();
+            }
+        }
+
+        private List<T> takeAll() {
+            synchronized (buffer) {
+                List<T> messages = new ArrayList<>(buffer.values());
+                buffer.clear();
+                return messages;
+            }
+        }
+
+        private boolean hasNext() {
+            synchronized (buffer) {
+                return !buffer.isEmpty();
+            }
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.project.superleague.live;
+
+public interface LiveSubscription {
+    void close();
+    boolean isClosed();
+    long getDroppedCount();
+}
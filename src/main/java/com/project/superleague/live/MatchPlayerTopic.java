@@ -0,0 +1,26 @@
+package com.project.superleague.live;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@EqualsAndHashCode
+@RequiredArgsConstructor
+public class MatchPlayerTopic {
+    private final Kind kind;
+    private final Long id;
+
+    public static MatchPlayerTopic match(Long matchId) {
+        return new MatchPlayerTopic(Kind.MATCH, matchId);
+    }
+
+    public static MatchPlayerTopic player(Long playerId) {
+        return new MatchPlayerTopic(Kind.PLAYER, playerId);
+    }
+
+    public enum Kind {
+        MATCH,
+        PLAYER
+    }
+}
@@ -1,10 +1,17 @@
 package com.project.superleague.mapper;
 
 import com.project.superleague.dto.*;
+import com.project.superleague.index.InvertedIndex;
+import com.project.superleague.index.Leaderboard;
+import com.project.superleague.index.SearchDocument;
 import com.project.superleague.model.Match;
 import com.project.superleague.model.MatchPlayer;
 import com.project.superleague.model.Player;
+import com.project.superleague.model.PlayerSeasonStats;
 import com.project.superleague.model.Team;
+import com.project.superleague.model.TeamStanding;
+
+import java.util.function.Function;
 
 public class Mapper {
     private Mapper() {}
@@ -15,8 +22,14 @@ public class Mapper {
         return player;
     }
 
-    public static Player mapUpdateDTOToPlayer(PlayerUpdateDTO dto, Team team) {
-        Player player = new Player(dto.getId(), dto.getFirstname(), dto.getLastname(), dto.getDateOfBirth(), dto.getNationality(), dto.getMonetaryValue(), dto.getPlayerRole());
+    public static Player mapUpdateDTOToPlayer(PlayerUpdateDTO dto, Player player, Team team) {
+        player.setFirstname(dto.getFirstname());
+        player.setLastname(dto.getLastname());
+        player.setDateOfBirth(dto.getDateOfBirth());
+        player.setNationality(dto.getNationality());
+        player.setMonetaryValue(dto.getMonetaryValue());
+        player.setPlayerRole(dto.getPlayerRole());
+        player.deleteTeam(player.getTeam());
         player.addTeam(team);
         return player;
     }
@@ -24,19 +37,27 @@ public class Mapper {
     public static PlayerReadOnlyDTO mapPlayerToReadOnlyDTO(Player player) {
         Long teamId = player.getTeam().getId();
 
-        return new PlayerReadOnlyDTO(player.getId(), player.getDateOfBirth(), player.getFirstname(), player.getLastname(), player.getMonetaryValue(), player.getNationality(), player.getPlayerRole(), teamId);
+        return new PlayerReadOnlyDTO(player.getId(), player.getDateOfBirth(), player.getFirstname(), player.getLastname(), player.getMonetaryValue(), player.getNationality(), player.getPlayerRole(), teamId, player.getVersion());
     }
 
     public static Team mapInsertDTOToTeam(TeamInsertDTO dto) {
         return new Team(null, dto.getTeamName(), dto.getFoundationYear(), dto.getCityName(), dto.getStadiumName(), dto.getCoachFirstname(), dto.getCoachLastname(), dto.getPresidentFirstname(),dto.getPresidentLastname());
     }
 
-    public static Team mapUpdateDTOToTeam(TeamUpdateDTO dto) {
-        return new Team(dto.getId(), dto.getTeamName(), dto.getFoundationYear(), dto.getCityName(), dto.getStadiumName(), dto.getCoachFirstname(), dto.getCoachLastname(), dto.getPresidentFirstname(),dto.getPresidentLastname());
+    public static Team mapUpdateDTOToTeam(TeamUpdateDTO dto, Team team) {
+        team.setTeamName(dto.getTeamName());
+        team.setFoundationYear(dto.getFoundationYear());
+        team.setCityName(dto.getCityName());
+        team.setStadiumName(dto.getStadiumName());
+        team.setCoachFirstname(dto.getCoachFirstname());
+        team.setCoachLastname(dto.getCoachLastname());
+        team.setPresidentFirstname(dto.getPresidentFirstname());
+        team.setPresidentLastname(dto.getPresidentLastname());
+        return team;
     }
 
     public static TeamReadOnlyDTO mapTeamToReadOnlyDTO(Team team) {
-        return new TeamReadOnlyDTO(team.getId(), team.getTeamName(), team.getFoundationYear(), team.getCityName(), team.getStadiumName(), team.getCoachFirstname(), team.getCoachLastname(), team.getPresidentFirstname(), team.getPresidentLastname());
+        return new TeamReadOnlyDTO(team.getId(), team.getTeamName(), team.getFoundationYear(), team.getCityName(), team.getStadiumName(), team.getCoachFirstname(), team.getCoachLastname(), team.getPresidentFirstname(), team.getPresidentLastname(), team.getVersion());
     }
 
     public static Match mapInsertDTOToMatch(MatchInsertDTO dto, Team hostTeam, Team guestTeam) {
@@ -46,8 +67,12 @@ public class Mapper {
         return match;
     }
 
-    public static Match mapUpdateDTOToMatch(MatchUpdateDTO dto, Team hostTeam, Team guestTeam) {
-        Match match = new Match(dto.getId(), dto.getMatchDate(), dto.getGoalsHost(), dto.getGoalsGuest());
+    public static Match mapUpdateDTOToMatch(MatchUpdateDTO dto, Match match, Team hostTeam, Team guestTeam) {
+        match.setMatchDate(dto.getMatchDate());
+        match.setGoalsHost(dto.getGoalsHost());
+        match.setGoalsGuest(dto.getGoalsGuest());
+        match.deleteHostTeam(match.getHostTeam());
+        match.deleteGuestTeam(match.getGuestTeam());
         match.addHostTeam(hostTeam);
         match.addGuestTeam(guestTeam);
         return match;
@@ -59,7 +84,7 @@ public class Mapper {
 
         hostTeamId = match.getHostTeam().getId();
         guestTeamId = match.getGuestTeam().getId();
-        return new MatchReadOnlyDTO(match.getId(), match.getMatchDate(), match.getGoalsHost(), match.getGoalsGuest(), hostTeamId, guestTeamId);
+        return new MatchReadOnlyDTO(match.getId(), match.getMatchDate(), match.getGoalsHost(), match.getGoalsGuest(), hostTeamId, guestTeamId, match.getVersion());
     }
 
     public static MatchPlayer mapInsertDTOToMatchPlayer(MatchPlayerInsertDTO dto, Match match, Player player) {
@@ -69,10 +94,11 @@ public class Mapper {
         return matchPlayer;
     }
 
-    public static MatchPlayer mapUpdateDTOToMatchPlayer(MatchPlayerUpdateDTO dto, Match match, Player player) {
-        MatchPlayer matchPlayer = new MatchPlayer(dto.getId(), dto.getPlayTime(), dto.getGoals(), dto.getAssists(), dto.getCards());
-        matchPlayer.setMatch(match);
-        matchPlayer.setPlayer(player);
+    public static MatchPlayer mapUpdateDTOToMatchPlayer(MatchPlayerUpdateDTO dto, MatchPlayer matchPlayer) {
+        matchPlayer.setPlayTime(dto.getPlayTime());
+        matchPlayer.setGoals(dto.getGoals());
+        matchPlayer.setAssists(dto.getAssists());
+        matchPlayer.setCards(dto.getCards());
         return matchPlayer;
     }
 
@@ -80,6 +106,53 @@ public class Mapper {
         Long matchId = matchPlayer.getMatch().getId();
         Long playerId = matchPlayer.getPlayer().getId();
 
-        return new MatchPlayerReadOnlyDTO(matchPlayer.getId(), matchId, playerId, matchPlayer.getPlayTime(), matchPlayer.getGoals(), matchPlayer.getAssists(), matchPlayer.getCards());
+        return new MatchPlayerReadOnlyDTO(matchPlayer.getId(), matchId, playerId, matchPlayer.getPlayTime(), matchPlayer.getGoals(), matchPlayer.getAssists(), matchPlayer.getCards(), matchPlayer.getVersion());
+    }
+
+    public static MatchPlayerDeltaDTO mapMatchPlayerChangeToDeltaDTO(MatchPlayerReadOnlyDTO previous, MatchPlayerReadOnlyDTO current) {
+        MatchPlayerReadOnlyDTO known = current != null ? current : previous;
+
+        return new MatchPlayerDeltaDTO(known.getMatchId(), known.getPlayerId(),
+                countOf(current, MatchPlayerReadOnlyDTO::getPlayTime) - countOf(previous, MatchPlayerReadOnlyDTO::getPlayTime),
+                countOf(current, MatchPlayerReadOnlyDTO::getGoals) - countOf(previous, MatchPlayerReadOnlyDTO::getGoals),
+                countOf(current, MatchPlayerReadOnlyDTO::getAssists) - countOf(previous, MatchPlayerReadOnlyDTO::getAssists),
+                countOf(current, MatchPlayerReadOnlyDTO::getCards) - countOf(previous, MatchPlayerReadOnlyDTO::getCards),
+                current != null ? current.getVersion() : null, current == null);
+    }
+
+    private static int countOf(MatchPlayerReadOnlyDTO matchPlayer, Function<MatchPlayerReadOnlyDTO, Integer> counter) {
+        Integer count = matchPlayer != null ? counter.apply(matchPlayer) : null;
+        return count != null ? count : 0;
+    }
+
+    public static PlayerSeasonStats mapReadOnlyDTOToPlayerSeasonStats(PlayerSeasonStatsReadOnlyDTO dto, Player player) {
+        PlayerSeasonStats stats = new PlayerSeasonStats(null, dto.getSeason(), dto.getAppearances(), dto.getMinutesPlayed(), dto.getGoals(), dto.getAssists(), dto.getCards());
+        stats.setPlayer(player);
+        return stats;
+    }
+
+    public static StandingReadOnlyDTO mapTeamStandingToReadOnlyDTO(TeamStanding standing, int rank) {
+        return new StandingReadOnlyDTO(rank, standing.getTeamId(), standing.getPlayed(), standing.getWins(), standing.getDraws(), standing.getLosses(), standing.getGoalsFor(), standing.getGoalsAgainst(), standing.getGoalDifference(), standing.getPoints());
+    }
+
+    public static LeaderboardEntryDTO mapLeaderboardEntryToDTO(Leaderboard.Entry entry, int rank) {
+        return new LeaderboardEntryDTO(rank, entry.getPlayerId(), entry.getTotal());
+    }
+
+    public static SearchDocument mapPlayerReadOnlyDTOToSearchDocument(PlayerReadOnlyDTO dto) {
+        return new SearchDocument(SearchDocument.PLAYER, dto.getId(), dto.getFirstname() + " " + dto.getLastname(), dto.getTeamId());
+    }
+
+    public static SearchDocument mapTeamReadOnlyDTOToSearchDocument(TeamReadOnlyDTO dto) {
+        return new SearchDocument(SearchDocument.TEAM, dto.getId(), dto.getTeamName(), dto.getId());
+    }
+
+    public static SearchResultDTO mapSearchDocumentToDTO(SearchDocument document) {
+        return new SearchResultDTO(document.getType(), document.getId(), document.getName(), document.getTeamId());
+    }
+
+    public static FullTextResultDTO mapSearchHitToDTO(InvertedIndex.Hit hit) {
+        SearchDocument document = hit.getDocument();
+        return new FullTextResultDTO(document.getType(), document.getId(), document.getName(), document.getTeamId(), hit.getScore());
     }
 }
\ No newline at end of file
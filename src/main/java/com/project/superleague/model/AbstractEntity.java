@@ -8,13 +8,11 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
-import java.io.Serializable;
-
 @MappedSuperclass
 @NoArgsConstructor
 @Getter
 @Setter
-public abstract class AbstractEntity implements Serializable {
+public abstract class AbstractEntity extends AbstractVersionedEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
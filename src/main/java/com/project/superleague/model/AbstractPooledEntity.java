@@ -0,0 +1,23 @@
+package com.project.superleague.model;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Base class for entities that are inserted in bulk. Ids come from a pooled
+ * sequence (a table-backed emulation on MySQL), so inserts can be batched.
+ */
+@MappedSuperclass
+@NoArgsConstructor
+@Getter
+@Setter
+public abstract class AbstractPooledEntity extends AbstractVersionedEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+}
@@ -0,0 +1,25 @@
+package com.project.superleague.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.Version;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.io.Serializable;
+
+/**
+ * Optimistic locking version shared by every entity, whatever its id generation.
+ */
+@MappedSuperclass
+@NoArgsConstructor
+@Getter
+@Setter
+public abstract class AbstractVersionedEntity implements Serializable {
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "Version", nullable = false)
+    private Long version;
+}
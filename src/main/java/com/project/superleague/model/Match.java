@@ -2,6 +2,7 @@ package com.project.superleague.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 
 import java.time.LocalDate;
 import java.util.Collections;
@@ -9,7 +10,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "Matches")
+@Table(name = "Matches", indexes = { @Index(name = "IndexMatchesMatchDateCovering", columnList = "MatchDate, id, HostTeam, GuestTeam, GoalsHost, GoalsGuest, Version")})
 @NoArgsConstructor
 @Getter
 @Setter
@@ -23,7 +24,7 @@ public class Match extends AbstractEntity {
     @Column(name = "GoalsGuest", nullable = false)
     private Integer goalsGuest;
 
-    @OneToMany(mappedBy = "match", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "match")
     @Getter(AccessLevel.PROTECTED)
     private Set<MatchPlayer> matchesPlayers = new HashSet<>();
 
@@ -31,32 +32,42 @@ public class Match extends AbstractEntity {
         return Collections.unmodifiableSet(matchesPlayers);
     }
 
-    @ManyToOne
+    // The helpers below only keep the team side in sync when its collection is already loaded,
+    // so reassigning a team never pulls in the team's whole match history.
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "HostTeam", referencedColumnName = "id", nullable = false)
     private Team hostTeam;
 
     public void addHostTeam(Team team) {
         setHostTeam(team);
-        team.getMatchesHost().add(this);
+        if (Hibernate.isInitialized(team) && Hibernate.isInitialized(team.getMatchesHost())) {
+            team.getMatchesHost().add(this);
+        }
     }
 
     public void deleteHostTeam(Team team) {
         setHostTeam(null);
-        team.getMatchesHost().remove(this);
+        if (Hibernate.isInitialized(team) && Hibernate.isInitialized(team.getMatchesHost())) {
+            team.getMatchesHost().remove(this);
+        }
     }
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "GuestTeam", referencedColumnName = "id", nullable = false)
     private Team guestTeam;
 
     public void addGuestTeam(Team team) {
         setGuestTeam(team);
-        team.getMatchesGuest().add(this);
+        if (Hibernate.isInitialized(team) && Hibernate.isInitialized(team.getMatchesGuest())) {
+            team.getMatchesGuest().add(this);
+        }
     }
 
     public void deleteGuestTeam(Team team) {
         setGuestTeam(null);
-        team.getMatchesGuest().remove(this);
+        if (Hibernate.isInitialized(team) && Hibernate.isInitialized(team.getMatchesGuest())) {
+            team.getMatchesGuest().remove(this);
+        }
     }
 
     @Builder
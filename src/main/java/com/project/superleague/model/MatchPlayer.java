@@ -2,29 +2,35 @@ package com.project.superleague.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 
 @Entity
-@Table(name = "MatchesPlayers", uniqueConstraints = { @UniqueConstraint(name = "UniqueMatchAndPlayerId", columnNames = {"MatchId", "PlayerId"})})
+@Table(name = "MatchesPlayers", uniqueConstraints = { @UniqueConstraint(name = "UniqueMatchAndPlayerId", columnNames = {"MatchId", "PlayerId"})},
+        indexes = { @Index(name = "IndexMatchesPlayersPlayerId", columnList = "PlayerId")})
 @NoArgsConstructor
 @Getter
 @Setter
-public class MatchPlayer extends AbstractEntity {
-    @ManyToOne
+public class MatchPlayer extends AbstractPooledEntity {
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "MatchId", referencedColumnName = "id", nullable = false)
     private Match match;
 
     public void addMatch(Match match) {
         setMatch(match);
-        match.getMatchesPlayers().add(this);
+        if (Hibernate.isInitialized(match) && Hibernate.isInitialized(match.getMatchesPlayers())) {
+            match.getMatchesPlayers().add(this);
+        }
     }
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "PlayerId", referencedColumnName = "id", nullable = false)
     private Player player;
 
     public void addPlayer(Player player) {
         setPlayer(player);
-        player.getMatchesPlayers().add(this);
+        if (Hibernate.isInitialized(player) && Hibernate.isInitialized(player.getMatchesPlayers())) {
+            player.getMatchesPlayers().add(this);
+        }
     }
 
     @Column(name = "PlayTime")
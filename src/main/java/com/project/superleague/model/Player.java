@@ -3,6 +3,9 @@ package com.project.superleague.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.util.Collections;
@@ -10,7 +13,9 @@ import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "Players")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "players")
+@Table(name = "Players", indexes = { @Index(name = "IndexPlayersLastname", columnList = "Lastname, id")})
 @NoArgsConstructor
 @Getter
 @Setter
@@ -33,21 +38,25 @@ public class Player extends AbstractEntity {
     @Column(name = "PlayerRole", length = 20)
     private String playerRole;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "TeamId", referencedColumnName = "id", nullable = false)
     private Team team;
 
     public void addTeam(Team team) {
         setTeam(team);
-        team.getPlayers().add(this);
+        if (Hibernate.isInitialized(team) && Hibernate.isInitialized(team.getPlayers())) {
+            team.getPlayers().add(this);
+        }
     }
 
     public void deleteTeam(Team team) {
         setTeam(null);
-        team.getPlayers().remove(this);
+        if (Hibernate.isInitialized(team) && Hibernate.isInitialized(team.getPlayers())) {
+            team.getPlayers().remove(this);
+        }
     }
 
-    @OneToMany(mappedBy = "player", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "player")
     @Getter(AccessLevel.PROTECTED)
     private Set<MatchPlayer> matchesPlayers = new HashSet<>();
 
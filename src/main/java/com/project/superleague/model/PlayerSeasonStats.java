@@ -0,0 +1,57 @@
+package com.project.superleague.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * Per player and season totals of the MatchesPlayers rows, kept in step with
+ * them so that a player's season does not have to be summed on every read.
+ * A season starts on the 1st of July.
+ */
+@Entity
+@Table(name = "PlayerSeasonStats", uniqueConstraints = { @UniqueConstraint(name = "UniquePlayerIdAndSeason", columnNames = {"PlayerId", "Season"})})
+@NoArgsConstructor
+@Getter
+@Setter
+public class PlayerSeasonStats extends AbstractPooledEntity {
+    public static final int SEASON_START_MONTH = 7;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "PlayerId", referencedColumnName = "id", nullable = false)
+    private Player player;
+
+    @Column(name = "Season", nullable = false)
+    private Integer season;
+
+    @Column(name = "Appearances", nullable = false)
+    private Integer appearances;
+
+    @Column(name = "MinutesPlayed", nullable = false)
+    private Integer minutesPlayed;
+
+    @Column(name = "Goals", nullable = false)
+    private Integer goals;
+
+    @Column(name = "Assists", nullable = false)
+    private Integer assists;
+
+    @Column(name = "Cards", nullable = false)
+    private Integer cards;
+
+    @Builder
+    public PlayerSeasonStats(Long id, Integer season, Integer appearances, Integer minutesPlayed, Integer goals, Integer assists, Integer cards) {
+        setId(id);
+        this.season = season;
+        this.appearances = appearances;
+        this.minutesPlayed = minutesPlayed;
+        this.goals = goals;
+        this.assists = assists;
+        this.cards = cards;
+    }
+
+    public static int seasonOf(LocalDate date) {
+        return date.getMonthValue() >= SEASON_START_MONTH ? date.getYear() : date.getYear() - 1;
+    }
+}
@@ -2,13 +2,17 @@ package com.project.superleague.model;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
 @Entity
-@Table(name = "Teams")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "teams")
+@Table(name = "Teams", indexes = { @Index(name = "IndexTeamsTeamname", columnList = "Teamname, id")})
 @NoArgsConstructor
 @Getter
 @Setter
@@ -37,7 +41,7 @@ public class Team extends AbstractEntity {
     @Column(name = "PresidentLastname", length = 30)
     private String presidentLastname;
 
-    @OneToMany(mappedBy = "hostTeam", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "hostTeam")
     @Getter(AccessLevel.PROTECTED)
     private Set<Match> matchesHost = new HashSet<>();
 
@@ -45,7 +49,7 @@ public class Team extends AbstractEntity {
         return Collections.unmodifiableSet(matchesHost);
     }
 
-    @OneToMany(mappedBy = "guestTeam", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "guestTeam")
     @Getter(AccessLevel.PROTECTED)
     private Set<Match> matchesGuest= new HashSet<>();
 
@@ -53,7 +57,7 @@ public class Team extends AbstractEntity {
         return Collections.unmodifiableSet(matchesGuest);
     }
 
-    @OneToMany(mappedBy = "team", cascade = CascadeType.REMOVE)
+    @OneToMany(mappedBy = "team")
     @Getter(AccessLevel.PROTECTED)
     private Set<Player> players = new HashSet<>();
 
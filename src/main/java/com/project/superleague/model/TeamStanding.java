@@ -0,0 +1,43 @@
+package com.project.superleague.model;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class TeamStanding {
+    private final Long teamId;
+    private int played;
+    private int wins;
+    private int draws;
+    private int losses;
+    private int goalsFor;
+    private int goalsAgainst;
+
+    public void applyResult(int scored, int conceded, int sign) {
+        played += sign;
+        goalsFor += sign * scored;
+        goalsAgainst += sign * conceded;
+        if (scored > conceded) {
+            wins += sign;
+        } else if (scored == conceded) {
+            draws += sign;
+        } else {
+            losses += sign;
+        }
+    }
+
+    public boolean isEmpty() {
+        return played == 0;
+    }
+
+    public int getPoints() {
+        return 3 * wins + draws;
+    }
+
+    public int getGoalDifference() {
+        return goalsFor - goalsAgainst;
+    }
+}
@@ -0,0 +1,24 @@
+package com.project.superleague.model;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Date;
+import java.util.List;
+
+@Getter
+@RequiredArgsConstructor
+public class TokenClaims {
+    private final String id;
+    private final String username;
+    private final List<String> authorities;
+    private final Date expiration;
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+
+    public boolean hasAuthorities() {
+        return authorities != null;
+    }
+}
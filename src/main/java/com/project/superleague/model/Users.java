@@ -1,12 +1,17 @@
 package com.project.superleague.model;
 
+import com.project.superleague.event.UsersEntityListener;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.*;
 
 @Entity
-@Table(name = "Users")
+@Table(name = "Users", indexes = { @Index(name = "UniqueUsername", columnList = "Username", unique = true)})
+@EntityListeners(UsersEntityListener.class)
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -18,4 +23,8 @@ public class Users extends AbstractEntity {
 
     @Column(name = "Password", nullable = false)
     private String password;
-}
\ No newline at end of file
+
+    // Username as last loaded or written, so a rename can evict the cache entry of the old name.
+    @Transient
+    private String storedUsername;
+}
@@ -1,14 +1,74 @@
 package com.project.superleague.repository;
 
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.MatchPlayerReferencesDTO;
 import com.project.superleague.model.MatchPlayer;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MatchPlayerRepository extends JpaRepository<MatchPlayer, Long> {
+    String SELECT_READ_ONLY_DTO = "select new com.project.superleague.dto.MatchPlayerReadOnlyDTO(mp.id, mp.match.id, mp.player.id, mp.playTime, mp.goals, mp.assists, mp.cards, mp.version) from MatchPlayer mp ";
+    String WHERE_MATCH_DATE_SINCE = "where mp.match.matchDate >= :since";
+    String WHERE_TEAM_ID = "where mp.match.id in (select m.id from Match m where m.hostTeam.id = :teamId or m.guestTeam.id = :teamId) " +
+            "or mp.player.id in (select p.id from Player p where p.team.id = :teamId)";
+
     Optional<MatchPlayer> findByMatchIdAndPlayerId(Long matchId, Long playerId);
+
+    @Query("select new com.project.superleague.dto.MatchPlayerReferencesDTO(" +
+            "(select m.matchDate from Match m where m.id = :matchId), " +
+            "(select count(p) from Player p where p.id = :playerId), " +
+            "(select count(mp) from MatchPlayer mp where mp.match.id = :matchId and mp.player.id = :playerId))")
+    MatchPlayerReferencesDTO findReferencesByMatchIdAndPlayerId(Long matchId, Long playerId);
+
+    @EntityGraph(attributePaths = {"match"})
+    @Query("select mp from MatchPlayer mp where mp.match.id = :matchId and mp.player.id = :playerId")
+    Optional<MatchPlayer> findWithMatchByMatchIdAndPlayerId(Long matchId, Long playerId);
     Long deleteByMatchIdAndPlayerId(Long matchId, Long playerId);
-}
\ No newline at end of file
+
+    @Query(SELECT_READ_ONLY_DTO + "where mp.match.id = :matchId and mp.player.id = :playerId")
+    Optional<MatchPlayerReadOnlyDTO> findReadOnlyDTOByMatchIdAndPlayerId(Long matchId, Long playerId);
+
+    @Query(SELECT_READ_ONLY_DTO + "where mp.match.id in :matchIds and mp.player.id in :playerIds")
+    List<MatchPlayerReadOnlyDTO> findReadOnlyDTOsByMatchIdInAndPlayerIdIn(Collection<Long> matchIds, Collection<Long> playerIds);
+
+    @Query("select distinct mp.player.id from MatchPlayer mp where mp.match.id = :matchId")
+    List<Long> findPlayerIdsByMatchId(Long matchId);
+
+    @Query(SELECT_READ_ONLY_DTO + "where mp.match.id = :matchId")
+    List<MatchPlayerReadOnlyDTO> findReadOnlyDTOsByMatchId(Long matchId);
+
+    @Query(SELECT_READ_ONLY_DTO + "where mp.player.id = :playerId")
+    List<MatchPlayerReadOnlyDTO> findReadOnlyDTOsByPlayerId(Long playerId);
+
+    @Query(SELECT_READ_ONLY_DTO + WHERE_TEAM_ID)
+    List<MatchPlayerReadOnlyDTO> findReadOnlyDTOsByTeamId(Long teamId);
+
+    @Query(SELECT_READ_ONLY_DTO)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<MatchPlayerReadOnlyDTO> streamAllReadOnlyDTOs();
+
+    @Modifying
+    @Query("delete from MatchPlayer mp where mp.match.id = :matchId")
+    int bulkDeleteByMatchId(Long matchId);
+
+    @Modifying
+    @Query("delete from MatchPlayer mp where mp.player.id = :playerId")
+    int bulkDeleteByPlayerId(Long playerId);
+
+    @Modifying
+    @Query("delete from MatchPlayer mp " + WHERE_TEAM_ID)
+    int bulkDeleteByTeamId(Long teamId);
+}
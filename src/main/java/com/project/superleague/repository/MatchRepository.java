@@ -1,13 +1,48 @@
 package com.project.superleague.repository;
 
+import com.project.superleague.dto.MatchReadOnlyDTO;
 import com.project.superleague.model.Match;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface MatchRepository extends JpaRepository<Match, Long> {
-    List<Match> findByMatchDate(LocalDate date);
-}
\ No newline at end of file
+    String SELECT_READ_ONLY_DTO = "select new com.project.superleague.dto.MatchReadOnlyDTO(m.id, m.matchDate, m.goalsHost, m.goalsGuest, m.hostTeam.id, m.guestTeam.id, m.version) from Match m ";
+    String WHERE_MATCH_DATE_SINCE = "where m.matchDate >= :since";
+
+    @Query(SELECT_READ_ONLY_DTO + "where m.id in :ids")
+    List<MatchReadOnlyDTO> findReadOnlyDTOsByIdIn(Collection<Long> ids);
+
+    @Query(SELECT_READ_ONLY_DTO + "where m.id = :id")
+    Optional<MatchReadOnlyDTO> findReadOnlyDTOById(Long id);
+
+    @Query(SELECT_READ_ONLY_DTO + "where m.matchDate = :date order by m.id")
+    List<MatchReadOnlyDTO> findReadOnlyDTOsByMatchDate(LocalDate date, Limit limit);
+
+    @Query(SELECT_READ_ONLY_DTO + "where m.matchDate = :date and m.id > :afterId order by m.id")
+    List<MatchReadOnlyDTO> findReadOnlyDTOsByMatchDateAfter(LocalDate date, Long afterId, Limit limit);
+
+    @Query(SELECT_READ_ONLY_DTO)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<MatchReadOnlyDTO> streamAllReadOnlyDTOs();
+
+    @Modifying
+    @Query("delete from Match m where m.id = :id")
+    int bulkDeleteById(Long id);
+
+    @Modifying
+    @Query("delete from Match m where m.hostTeam.id = :teamId or m.guestTeam.id = :teamId")
+    int bulkDeleteByTeamId(Long teamId);
+}
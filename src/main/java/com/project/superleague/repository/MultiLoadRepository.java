@@ -0,0 +1,16 @@
+package com.project.superleague.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.repository.NoRepositoryBean;
+
+import java.util.List;
+
+@NoRepositoryBean
+public interface MultiLoadRepository<T, ID> extends JpaRepository<T, ID> {
+    /**
+     * Loads the entities in the order of the given ids, with null for ids that do not exist.
+     * Entities already in the persistence context or the second level cache are taken from
+     * there and the rest are read in a single statement.
+     */
+    List<T> multiLoad(List<ID> ids);
+}
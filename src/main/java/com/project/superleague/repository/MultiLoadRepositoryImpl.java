@@ -0,0 +1,22 @@
+package com.project.superleague.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.List;
+
+public class MultiLoadRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> implements MultiLoadRepository<T, ID> {
+    private final EntityManager entityManager;
+
+    public MultiLoadRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<T> multiLoad(List<ID> ids) {
+        return entityManager.unwrap(Session.class).byMultipleIds(getDomainClass()).multiLoad(ids);
+    }
+}
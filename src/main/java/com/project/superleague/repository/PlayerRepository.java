@@ -1,12 +1,50 @@
 package com.project.superleague.repository;
 
+import com.project.superleague.dto.PlayerReadOnlyDTO;
 import com.project.superleague.model.Player;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 public interface PlayerRepository extends JpaRepository<Player, Long> {
-    List<Player> findByLastnameStartingWith(String lastname);
+    String SELECT_READ_ONLY_DTO = "select new com.project.superleague.dto.PlayerReadOnlyDTO(p.id, p.dateOfBirth, p.firstname, p.lastname, p.monetaryValue, p.nationality, p.playerRole, p.team.id, p.version) from Player p ";
+
+    @Query("select p.id from Player p where p.id in :ids")
+    Set<Long> findExistingIds(Collection<Long> ids);
+
+    @Query(SELECT_READ_ONLY_DTO)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<PlayerReadOnlyDTO> streamAllReadOnlyDTOs();
+
+    @Query(SELECT_READ_ONLY_DTO + "where p.id = :id")
+    Optional<PlayerReadOnlyDTO> findReadOnlyDTOById(Long id);
+
+    @Query(SELECT_READ_ONLY_DTO + "where p.lastname like :#{escape(#lastname)}% escape :#{escapeCharacter()} " +
+            "order by p.lastname, p.id")
+    List<PlayerReadOnlyDTO> findReadOnlyDTOsByLastnameStartingWith(String lastname, Limit limit);
+
+    @Query(SELECT_READ_ONLY_DTO + "where p.lastname like :#{escape(#lastname)}% escape :#{escapeCharacter()} " +
+            "and (p.lastname > :afterLastname or (p.lastname = :afterLastname and p.id > :afterId)) " +
+            "order by p.lastname, p.id")
+    List<PlayerReadOnlyDTO> findReadOnlyDTOsByLastnameStartingWithAfter(String lastname, String afterLastname, Long afterId, Limit limit);
+
+    @Modifying
+    @Query("delete from Player p where p.id = :id")
+    int bulkDeleteById(Long id);
+
+    @Modifying
+    @Query("delete from Player p where p.team.id = :teamId")
+    int bulkDeleteByTeamId(Long teamId);
 }
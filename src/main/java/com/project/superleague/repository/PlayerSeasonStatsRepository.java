@@ -0,0 +1,55 @@
+package com.project.superleague.repository;
+
+import com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO;
+import com.project.superleague.model.PlayerSeasonStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PlayerSeasonStatsRepository extends JpaRepository<PlayerSeasonStats, Long>, PlayerSeasonStatsUpsert {
+    String SELECT_READ_ONLY_DTO = "select new com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO(s.player.id, s.season, s.appearances, s.minutesPlayed, s.goals, s.assists, s.cards) from PlayerSeasonStats s ";
+    String SEASON_OF_MATCH = "case when month(m.matchDate) >= " + PlayerSeasonStats.SEASON_START_MONTH + " then year(m.matchDate) else year(m.matchDate) - 1 end";
+    String SELECT_AGGREGATED_DTO = "select new com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO(mp.player.id, " + SEASON_OF_MATCH + ", " +
+            "cast(count(mp) as Integer), cast(coalesce(sum(mp.playTime), 0) as Integer), cast(coalesce(sum(mp.goals), 0) as Integer), " +
+            "cast(coalesce(sum(mp.assists), 0) as Integer), cast(coalesce(sum(mp.cards), 0) as Integer)) from MatchPlayer mp join mp.match m ";
+    String GROUP_BY_PLAYER_AND_SEASON = "group by mp.player.id, " + SEASON_OF_MATCH;
+
+    List<PlayerSeasonStats> findByPlayerIdInAndSeasonIn(Collection<Long> playerIds, Collection<Integer> seasons);
+
+    @Query(SELECT_READ_ONLY_DTO + "where s.player.id = :playerId and s.season = :season")
+    Optional<PlayerSeasonStatsReadOnlyDTO> findReadOnlyDTOByPlayerIdAndSeason(Long playerId, Integer season);
+
+    @Query(SELECT_AGGREGATED_DTO + GROUP_BY_PLAYER_AND_SEASON)
+    List<PlayerSeasonStatsReadOnlyDTO> aggregateAllFromMatchesPlayers();
+
+    @Query(SELECT_AGGREGATED_DTO + "where mp.player.id in :playerIds " + GROUP_BY_PLAYER_AND_SEASON)
+    List<PlayerSeasonStatsReadOnlyDTO> aggregateFromMatchesPlayersByPlayerIdIn(Collection<Long> playerIds);
+
+    @Modifying
+    @Query("update PlayerSeasonStats s set s.appearances = s.appearances + :appearances, s.minutesPlayed = s.minutesPlayed + :minutesPlayed, " +
+            "s.goals = s.goals + :goals, s.assists = s.assists + :assists, s.cards = s.cards + :cards, s.version = s.version + 1 " +
+            "where s.player.id = :playerId and s.season = :season")
+    int applyDelta(Long playerId, Integer season, int appearances, int minutesPlayed, int goals, int assists, int cards);
+
+    @Modifying
+    @Query("delete from PlayerSeasonStats s")
+    int bulkDeleteAll();
+
+    @Modifying
+    @Query("delete from PlayerSeasonStats s where s.player.id in :playerIds")
+    int bulkDeleteByPlayerIdIn(Collection<Long> playerIds);
+
+    @Modifying
+    @Query("delete from PlayerSeasonStats s where s.player.id = :playerId")
+    int bulkDeleteByPlayerId(Long playerId);
+
+    @Modifying
+    @Query("delete from PlayerSeasonStats s where s.player.id in (select p.id from Player p where p.team.id = :teamId)")
+    int bulkDeleteByTeamId(Long teamId);
+}
@@ -0,0 +1,10 @@
+package com.project.superleague.repository;
+
+public interface PlayerSeasonStatsUpsert {
+    /**
+     * Inserts the player's totals for the season, or adds them to the existing row, in a single
+     * statement. Concurrent first appearances of a player in a season wait on the unique key
+     * instead of failing on it, so the caller's transaction never sees a duplicate key error.
+     */
+    int upsertDelta(Long playerId, Integer season, int appearances, int minutesPlayed, int goals, int assists, int cards);
+}
@@ -0,0 +1,42 @@
+package com.project.superleague.repository;
+
+import com.project.superleague.model.PlayerSeasonStats;
+import jakarta.persistence.EntityManager;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.query.NativeQuery;
+
+public class PlayerSeasonStatsUpsertImpl implements PlayerSeasonStatsUpsert {
+    private static final String UPSERT = "insert into player_season_stats (id, player_id, season, appearances, minutes_played, goals, assists, cards, version) " +
+            "values (:id, :playerId, :season, :appearances, :minutesPlayed, :goals, :assists, :cards, 0) " +
+            "on duplicate key update appearances = appearances + :appearances, minutes_played = minutes_played + :minutesPlayed, " +
+            "goals = goals + :goals, assists = assists + :assists, cards = cards + :cards, version = version + 1";
+
+    private final EntityManager entityManager;
+
+    public PlayerSeasonStatsUpsertImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    // The id is drawn from the entity's own pooled sequence, so a row that ends up updated just skips one id.
+    @Override
+    public int upsertDelta(Long playerId, Integer season, int appearances, int minutesPlayed, int goals, int assists, int cards) {
+        SharedSessionContractImplementor session = entityManager.unwrap(SharedSessionContractImplementor.class);
+        BeforeExecutionGenerator generator = (BeforeExecutionGenerator) session.getFactory().getMappingMetamodel()
+                .getEntityDescriptor(PlayerSeasonStats.class).getGenerator();
+
+        return entityManager.createNativeQuery(UPSERT)
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(PlayerSeasonStats.class)
+                .setParameter("id", generator.generate(session, null, null, EventType.INSERT))
+                .setParameter("playerId", playerId)
+                .setParameter("season", season)
+                .setParameter("appearances", appearances)
+                .setParameter("minutesPlayed", minutesPlayed)
+                .setParameter("goals", goals)
+                .setParameter("assists", assists)
+                .setParameter("cards", cards)
+                .executeUpdate();
+    }
+}
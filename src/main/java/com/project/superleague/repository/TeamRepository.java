@@ -1,12 +1,40 @@
 package com.project.superleague.repository;
 
+import com.project.superleague.dto.TeamReadOnlyDTO;
 import com.project.superleague.model.Team;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface TeamRepository extends JpaRepository<Team, Long> {
-    List<Team>  findByTeamNameStartingWith(String teamname);
-}
\ No newline at end of file
+public interface TeamRepository extends MultiLoadRepository<Team, Long> {
+    String SELECT_READ_ONLY_DTO = "select new com.project.superleague.dto.TeamReadOnlyDTO(t.id, t.teamName, t.foundationYear, t.cityName, t.stadiumName, t.coachFirstname, t.coachLastname, t.presidentFirstname, t.presidentLastname, t.version) from Team t ";
+
+    @Query(SELECT_READ_ONLY_DTO)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<TeamReadOnlyDTO> streamAllReadOnlyDTOs();
+
+    @Query(SELECT_READ_ONLY_DTO + "where t.id = :id")
+    Optional<TeamReadOnlyDTO> findReadOnlyDTOById(Long id);
+
+    @Query(SELECT_READ_ONLY_DTO + "where t.teamName like :#{escape(#teamname)}% escape :#{escapeCharacter()} " +
+            "order by t.teamName, t.id")
+    List<TeamReadOnlyDTO> findReadOnlyDTOsByTeamNameStartingWith(String teamname, Limit limit);
+
+    @Query(SELECT_READ_ONLY_DTO + "where t.teamName like :#{escape(#teamname)}% escape :#{escapeCharacter()} " +
+            "and (t.teamName > :afterTeamname or (t.teamName = :afterTeamname and t.id > :afterId)) " +
+            "order by t.teamName, t.id")
+    List<TeamReadOnlyDTO> findReadOnlyDTOsByTeamNameStartingWithAfter(String teamname, String afterTeamname, Long afterId, Limit limit);
+
+    @Modifying
+    @Query("delete from Team t where t.id = :id")
+    int bulkDeleteById(Long id);
+}
@@ -0,0 +1,83 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.config.ResponseCacheFilter;
+import com.project.superleague.dto.CacheStatsDTO;
+import com.project.superleague.service.IEntityCacheService;
+import com.project.superleague.service.UserDetailsServiceImpl;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class CacheRestController {
+    private final UserDetailsServiceImpl userDetailsService;
+    private final IEntityCacheService entityCacheService;
+    private final ResponseCacheFilter responseCacheFilter;
+
+    @Operation(summary = "Get size, hit, miss and eviction counters of the application caches, the second-level entity cache regions and the HTTP response cache. " +
+            "Entity cache hit and miss counts are null unless superleague.hibernate.statistics is enabled.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cache statistics.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CacheStatsDTO.class))}),
+            @ApiResponse(responseCode = "403", description = "Forbidden for non admin users.",
+                    content = @Content)})
+    @GetMapping("/admin/caches")
+    public ResponseEntity<Object> getCacheStats() {
+        List<CacheStatsDTO> stats = new ArrayList<>();
+        stats.add(userDetailsService.getCacheStats());
+        stats.addAll(entityCacheService.getCacheStats());
+        stats.add(responseCacheFilter.getCacheStats());
+        return new ResponseEntity<>(stats, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Clear the cached user details.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Cache cleared.",
+                    content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden for non admin users.",
+                    content = @Content)})
+    @DeleteMapping("/admin/caches/users")
+    public ResponseEntity<Object> evictUsers() {
+        userDetailsService.evictAll();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(summary = "Clear the second-level cache of teams and players.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Cache cleared.",
+                    content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden for non admin users.",
+                    content = @Content)})
+    @DeleteMapping("/admin/caches/entities")
+    public ResponseEntity<Object> evictEntities() {
+        entityCacheService.evictAll();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+
+    @Operation(summary = "Clear the cached HTTP responses of the read endpoints.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Cache cleared.",
+                    content = @Content),
+            @ApiResponse(responseCode = "403", description = "Forbidden for non admin users.",
+                    content = @Content)})
+    @DeleteMapping("/admin/caches/responses")
+    public ResponseEntity<Object> evictResponses() {
+        responseCacheFilter.evictAll();
+        return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    }
+}
\ No newline at end of file
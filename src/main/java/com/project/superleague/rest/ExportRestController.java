@@ -0,0 +1,74 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import com.project.superleague.service.IExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class ExportRestController {
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
+    private final IExportService exportService;
+
+    @Value("${superleague.export.timeout:10m}")
+    private Duration timeout;
+
+    @Operation(summary = "Export all matches as newline-delimited JSON, optionally only those played on or after the given date.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One match per line.",
+                    content = { @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = MatchReadOnlyDTO.class))}),
+            @ApiResponse(responseCode = "403", description = "Forbidden for non admin users.",
+                    content = @Content)})
+    @GetMapping("/export/matches")
+    public ResponseEntity<StreamingResponseBody> exportMatches(@RequestParam(value = "since", required = false) @DateTimeFormat(pattern = "ddMMyyyy") LocalDate since, HttpServletRequest request) {
+        extendTimeout(request);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(outputStream -> exportService.exportMatches(since, outputStream));
+    }
+
+    @Operation(summary = "Export all player statistics as newline-delimited JSON, optionally only for matches played on or after the given date.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One player statistics entry per line.",
+                    content = { @Content(mediaType = "application/x-ndjson",
+                            schema = @Schema(implementation = MatchPlayerReadOnlyDTO.class))}),
+            @ApiResponse(responseCode = "403", description = "Forbidden for non admin users.",
+                    content = @Content)})
+    @GetMapping("/export/matchesplayers")
+    public ResponseEntity<StreamingResponseBody> exportMatchesPlayers(@RequestParam(value = "since", required = false) @DateTimeFormat(pattern = "ddMMyyyy") LocalDate since, HttpServletRequest request) {
+        extendTimeout(request);
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .body(outputStream -> exportService.exportMatchesPlayers(since, outputStream));
+    }
+
+    /**
+     * Exports outlast the default async request timeout, so only their requests get the longer one.
+     */
+    private void extendTimeout(HttpServletRequest request) {
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(timeout.toMillis());
+    }
+}
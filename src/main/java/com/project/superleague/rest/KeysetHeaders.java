@@ -0,0 +1,19 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.KeysetPage;
+import org.springframework.http.HttpHeaders;
+
+public class KeysetHeaders {
+    public static final String NEXT_CURSOR = "X-Next-Cursor";
+
+    private KeysetHeaders() {}
+
+    public static HttpHeaders of(KeysetPage<?> page) {
+        HttpHeaders headers = new HttpHeaders();
+
+        if (page.getNextCursor() != null) {
+            headers.add(NEXT_CURSOR, page.getNextCursor());
+        }
+        return headers;
+    }
+}
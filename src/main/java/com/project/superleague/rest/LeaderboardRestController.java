@@ -0,0 +1,72 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.LeaderboardEntryDTO;
+import com.project.superleague.service.ILeaderboardService;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class LeaderboardRestController {
+    private final ILeaderboardService leaderboardService;
+
+    @Operation(summary = "Get a page of the all-time leaderboard for goals, assists, minutes or cards. " +
+            "Players are ordered by total and then by id.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Leaderboard entries ordered by rank.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = LeaderboardEntryDTO.class))}),
+            @ApiResponse(responseCode = "400", description = "Unknown metric or negative offset given.",
+                    content = @Content)})
+    @GetMapping("/leaderboards/{metric}")
+    public ResponseEntity<Object> getLeaderboard(@PathVariable("metric") String metric,
+                                                 @RequestParam(value = "offset", defaultValue = "0") int offset,
+                                                 @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        List<LeaderboardEntryDTO> entries;
+
+        try {
+            entries = leaderboardService.getLeaderboard(metric, offset, limit);
+            return new ResponseEntity<>(entries, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "Get a player's rank and total in the leaderboard for goals, assists, minutes or cards.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Player is ranked.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = LeaderboardEntryDTO.class))}),
+            @ApiResponse(responseCode = "400", description = "Unknown metric given.",
+                    content = @Content),
+            @ApiResponse(responseCode = "404", description = "Player has no match statistics.",
+                    content = @Content)})
+    @GetMapping("/leaderboards/{metric}/players/{playerId}")
+    public ResponseEntity<Object> getPlayerRank(@PathVariable("metric") String metric, @PathVariable("playerId") Long playerId) {
+        LeaderboardEntryDTO entry;
+
+        try {
+            entry = leaderboardService.getPlayerRank(metric, playerId);
+            return new ResponseEntity<>(entry, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+}
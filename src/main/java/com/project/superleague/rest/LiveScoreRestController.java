@@ -0,0 +1,97 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import com.project.superleague.live.LiveHub;
+import com.project.superleague.live.LiveSubscription;
+import com.project.superleague.service.ILiveScoreService;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * Server-Sent Events streams of match scores. Every event is named "score", carries the match as JSON
+ * and uses the match version as its id. The paths end in /live so the response cache filter leaves them alone.
+ */
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class LiveScoreRestController {
+    private final ILiveScoreService liveScoreService;
+
+    @Value("${superleague.live.sse-timeout:10m}")
+    private Duration timeout;
+
+    @Operation(summary = "Watch the score of a match. " +
+            "The stored match is sent first, followed by every score change until the match is deleted or the stream times out.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Score stream opened.",
+                    content = { @Content(mediaType = "text/event-stream",
+                            schema = @Schema(implementation = MatchReadOnlyDTO.class))}),
+            @ApiResponse(responseCode = "404", description = "Match was not found.",
+                    content = @Content)})
+    @GetMapping(value = "/matches/{id}/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> watchMatch(@PathVariable("id") Long id) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        try {
+            bind(emitter, liveScoreService.subscribeToMatch(id, sender(emitter)));
+            return new ResponseEntity<>(emitter, HttpStatus.OK);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Operation(summary = "Watch the scores of the matches of a date. Only score changes are sent.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Score stream opened.",
+                    content = { @Content(mediaType = "text/event-stream",
+                            schema = @Schema(implementation = MatchReadOnlyDTO.class))})})
+    @GetMapping(value = "/matches/live", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> watchMatchesByDate(@RequestParam("date") @DateTimeFormat(pattern = "ddMMyyyy") LocalDate date) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+
+        bind(emitter, liveScoreService.subscribeToMatchDate(date, sender(emitter)));
+        return new ResponseEntity<>(emitter, HttpStatus.OK);
+    }
+
+    private static void bind(SseEmitter emitter, LiveSubscription subscription) {
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(e -> subscription.close());
+    }
+
+    private static LiveHub.Sender<MatchReadOnlyDTO> sender(SseEmitter emitter) {
+        return new LiveHub.Sender<>() {
+            @Override
+            public void send(MatchReadOnlyDTO match) throws Exception {
+                emitter.send(SseEmitter.event()
+                        .name("score")
+                        .id(String.valueOf(match.getVersion()))
+                        .data(match, MediaType.APPLICATION_JSON));
+            }
+
+            @Override
+            public void close() {
+                emitter.complete();
+            }
+        };
+    }
+}
@@ -0,0 +1,174 @@
+package com.project.superleague.rest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.superleague.dto.LiveSubscriptionRequestDTO;
+import com.project.superleague.dto.MatchPlayerDeltaDTO;
+import com.project.superleague.live.LiveHub;
+import com.project.superleague.live.MatchPlayerTopic;
+import com.project.superleague.service.ILiveMatchPlayerService;
+import jakarta.websocket.Session;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket gateway for match player stat deltas.
+ * Clients send {"action": "subscribe" | "unsubscribe", "matchIds": [...], "playerIds": [...]} and receive JSON arrays
+ * of MatchPlayerDeltaDTO, one array per write, holding every delta coalesced since the previous write.
+ * Invalid requests close the session with 1007. Sessions beyond the configured maximum, requests exceeding the topic
+ * limit and sessions that fell too far behind to receive every delta are closed with 1008.
+ */
+@Component
+@Slf4j
+public class MatchPlayerLiveSocketHandler extends TextWebSocketHandler {
+    private final ILiveMatchPlayerService liveMatchPlayerService;
+    private final ObjectMapper objectMapper;
+    private final Map<String, LiveHub<MatchPlayerTopic, MatchPlayerDeltaDTO>.Subscription> subscriptions = new ConcurrentHashMap<>();
+    private final AtomicInteger sessionCount = new AtomicInteger();
+    private final int maxSessions;
+    private final int maxTopics;
+    private final Duration sendTimeLimit;
+
+    public MatchPlayerLiveSocketHandler(ILiveMatchPlayerService liveMatchPlayerService, ObjectMapper objectMapper,
+                                        @Value("${superleague.live.ws.max-sessions:10000}") int maxSessions,
+                                        @Value("${superleague.live.ws.max-topics:100}") int maxTopics,
+                                        @Value("${superleague.live.ws.send-time-limit:10s}") Duration sendTimeLimit) {
+        this.liveMatchPlayerService = liveMatchPlayerService;
+        this.objectMapper = objectMapper;
+        this.maxSessions = maxSessions;
+        this.maxTopics = maxTopics;
+        this.sendTimeLimit = sendTimeLimit;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        if (sessionCount.incrementAndGet() > maxSessions) {
+            sessionCount.decrementAndGet();
+            log.warn("Live session limit of {} reached, rejecting session {}.", maxSessions, session.getId());
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("Too many live sessions."));
+            return;
+        }
+        subscriptions.put(session.getId(), liveMatchPlayerService.subscribe(sender(session)));
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        LiveHub<MatchPlayerTopic, MatchPlayerDeltaDTO>.Subscription subscription = subscriptions.get(session.getId());
+        LiveSubscriptionRequestDTO request;
+        Set<MatchPlayerTopic> topics = new LinkedHashSet<>();
+
+        if (subscription == null) {
+            return;
+        }
+        try {
+            request = objectMapper.readValue(message.getPayload(), LiveSubscriptionRequestDTO.class);
+        } catch (JsonProcessingException e) {
+            session.close(CloseStatus.BAD_DATA.withReason("Invalid subscription request."));
+            return;
+        }
+        if (request.getMatchIds() != null) {
+            request.getMatchIds().forEach(id -> topics.add(MatchPlayerTopic.match(id)));
+        }
+        if (request.getPlayerIds() != null) {
+            request.getPlayerIds().forEach(id -> topics.add(MatchPlayerTopic.player(id)));
+        }
+
+        if (LiveSubscriptionRequestDTO.SUBSCRIBE.equals(request.getAction())) {
+            Set<MatchPlayerTopic> followed = new HashSet<>(subscription.getFollowed());
+            followed.addAll(topics);
+            if (followed.size() > maxTopics) {
+                session.close(CloseStatus.POLICY_VIOLATION.withReason("At most " + maxTopics + " subscriptions per session."));
+                return;
+            }
+            topics.forEach(subscription::follow);
+        } else if (LiveSubscriptionRequestDTO.UNSUBSCRIBE.equals(request.getAction())) {
+            topics.forEach(subscription::unfollow);
+        } else {
+            session.close(CloseStatus.BAD_DATA.withReason("Unknown action."));
+        }
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        LiveHub<MatchPlayerTopic, MatchPlayerDeltaDTO>.Subscription subscription = subscriptions.remove(session.getId());
+
+        if (subscription != null) {
+            sessionCount.decrementAndGet();
+            subscription.close();
+        }
+    }
+
+    public int getSessionCount() {
+        return sessionCount.get();
+    }
+
+    /**
+     * Writes are asynchronous with a deadline, a session that does not take a frame within the send time limit
+     * is closed and has to reconnect.
+     */
+    private LiveHub.Sender<MatchPlayerDeltaDTO> sender(WebSocketSession session) {
+        Session nativeSession = session instanceof NativeWebSocketSession nativeWebSocketSession
+                ? nativeWebSocketSession.getNativeSession(Session.class) : null;
+
+        return new LiveHub.Sender<>() {
+            @Override
+            public void send(MatchPlayerDeltaDTO delta) throws Exception {
+                sendAll(List.of(delta));
+            }
+
+            @Override
+            public void sendAll(List<MatchPlayerDeltaDTO> deltas) throws Exception {
+                String frame = objectMapper.writeValueAsString(deltas);
+
+                if (nativeSession == null) {
+                    session.sendMessage(new TextMessage(frame));
+                    return;
+                }
+                Future<Void> sent = nativeSession.getAsyncRemote().sendText(frame);
+                try {
+                    sent.get(sendTimeLimit.toMillis(), TimeUnit.MILLISECONDS);
+                } catch (TimeoutException e) {
+                    sent.cancel(true);
+                    throw new IOException("Live session " + session.getId() + " did not take a frame within " + sendTimeLimit + ".", e);
+                }
+            }
+
+            @Override
+            public void close() {
+                closeSession(session, CloseStatus.NORMAL);
+            }
+
+            @Override
+            public void overflowed() {
+                closeSession(session, CloseStatus.POLICY_VIOLATION.withReason("Too far behind, reconnect and reload the stats."));
+            }
+        };
+    }
+
+    private static void closeSession(WebSocketSession session, CloseStatus status) {
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("Live session {} could not be closed.", session.getId(), e);
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.project.superleague.model.MatchPlayer;
 import com.project.superleague.service.IMatchPlayerService;
 import com.project.superleague.service.exception.EntityAlreadyExistsException;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -29,6 +31,8 @@ import java.util.Objects;
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class MatchPlayerRestController {
+    private static final int MAX_BATCH_SIZE = 500;
+
     private final IMatchPlayerService matchPlayerService;
 
     @Operation(summary = "Get player statistics for a given match by match id and player id.")
@@ -40,11 +44,10 @@ public class MatchPlayerRestController {
                     content = @Content)})
     @GetMapping("/matchesplayers/{matchId}/{playerId}")
     public ResponseEntity<Object> getMatchPlayerByMatchIdAndPlayerId(@PathVariable("matchId") Long matchId, @PathVariable("playerId") Long playerId) {
-        MatchPlayer matchPlayer;
+        MatchPlayerReadOnlyDTO dto;
 
         try {
-            matchPlayer = matchPlayerService.getMatchPlayerByMatchIdAndPlayerId(matchId, playerId);
-            MatchPlayerReadOnlyDTO dto = Mapper.mapMatchPlayerToReadOnlyDTO(matchPlayer);
+            dto = matchPlayerService.getMatchPlayerByMatchIdAndPlayerId(matchId, playerId);
             return new ResponseEntity<>(dto, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
@@ -86,7 +89,31 @@ public class MatchPlayerRestController {
         }
     }
 
-    @Operation(summary = "Update player statistics for a given match.")
+    @Operation(summary = "Add player statistics for a whole matchday in one request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch processed. Each entry reports whether it was created or why it was rejected.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = MatchPlayerBatchResultDTO.class))}),
+            @ApiResponse(responseCode = "400", description = "Empty or oversized batch.",
+                    content = @Content),
+            @ApiResponse(responseCode = "503", description = "Service unavailable",
+                    content = @Content)})
+    @PostMapping("/matchesplayers/batch")
+    public ResponseEntity<Object> addMatchPlayers(@RequestBody List<MatchPlayerInsertDTO> dtos) {
+        if (dtos.isEmpty() || dtos.size() > MAX_BATCH_SIZE) {
+            return new ResponseEntity<>(List.of("Batch must contain between 1 and " + MAX_BATCH_SIZE + " entries."), HttpStatus.BAD_REQUEST);
+        }
+
+        try {
+            List<MatchPlayerBatchResultDTO> results = matchPlayerService.insertMatchPlayers(dtos);
+            return new ResponseEntity<>(results, HttpStatus.OK);
+        } catch (Exception e) {
+            return new ResponseEntity<>(HttpStatus.SERVICE_UNAVAILABLE);
+        }
+    }
+
+    @Operation(summary = "Update player statistics for a given match. " +
+            "The version must be the one last read, the update is rejected with 409 if the statistics changed since.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Player statistics for the given match updated.",
                     content = { @Content(mediaType = "application/json",
@@ -96,6 +123,8 @@ public class MatchPlayerRestController {
             @ApiResponse(responseCode = "401", description = "Unauthorized user.",
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "Player statistics for the given match were not found.",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Match player was modified since the given version.",
                     content = @Content)})
     @PutMapping("/matchesplayers/{matchId}/{playerId}")
     public ResponseEntity<Object> updateMatchPlayer(@PathVariable("matchId") Long matchId, @PathVariable("playerId") Long playerId, @Valid @RequestBody MatchPlayerUpdateDTO dto, BindingResult bindingResult) {
@@ -113,6 +142,8 @@ public class MatchPlayerRestController {
             return new ResponseEntity<>(matchPlayerReadOnlyDTO, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (StaleEntityException | OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
         }
     }
 
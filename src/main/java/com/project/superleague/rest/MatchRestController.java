@@ -5,6 +5,7 @@ import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Match;
 import com.project.superleague.service.IMatchService;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,6 +15,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -32,26 +34,31 @@ import java.util.Objects;
 public class MatchRestController {
     private final IMatchService matchService;
 
-    @Operation(summary = "Get match by date.")
+    @Operation(summary = "Get match by date. " +
+            "Results are ordered by id and paginated, the next page is requested with the cursor of the X-Next-Cursor header.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Matches with the given date were found.",
                     content = { @Content(mediaType = "application/json",
                             schema = @Schema(implementation = MatchReadOnlyDTO.class))}),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor given.",
+                    content = @Content),
             @ApiResponse(responseCode = "404", description = "Matches with the given date were not found.",
                     content = @Content)})
     @GetMapping("/matches")
-    public ResponseEntity<Object> getMatchesByDate(@RequestParam("date") @DateTimeFormat(pattern = "ddMMyyyy") LocalDate date) {
-        List<Match> matches;
+    public ResponseEntity<Object> getMatchesByDate(@RequestParam("date") @DateTimeFormat(pattern = "ddMMyyyy") LocalDate date,
+                                                   @RequestParam(value = "after", required = false) String after,
+                                                   @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        KeysetPage<MatchReadOnlyDTO> matches;
 
         try {
-            matches = matchService.getMatchByDate(date);
-            List<MatchReadOnlyDTO> matchesReadOnlyDTOS = new ArrayList<>();
-            for (Match match : matches) {
-                matchesReadOnlyDTOS.add(Mapper.mapMatchToReadOnlyDTO(match));
-            }
-            return new ResponseEntity<>(matchesReadOnlyDTOS, HttpStatus.OK);
+            matches = matchService.getMatchByDate(date, after, limit);
+            return ResponseEntity.ok()
+                    .headers(KeysetHeaders.of(matches))
+                    .body(matches.getItems());
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
 
@@ -64,11 +71,10 @@ public class MatchRestController {
                     content = @Content)})
     @GetMapping("/matches/{id}")
     public ResponseEntity<Object> getMatchById(@PathVariable("id") Long id) {
-        Match match;
+        MatchReadOnlyDTO dto;
 
         try {
-            match = matchService.getMatchById(id);
-            MatchReadOnlyDTO dto = Mapper.mapMatchToReadOnlyDTO(match);
+            dto = matchService.getMatchById(id);
             return new ResponseEntity<>(dto, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
@@ -108,7 +114,7 @@ public class MatchRestController {
         }
     }
 
-    @Operation(summary = "Update a match.")
+    @Operation(summary = "Update a match. The version must be the one last read, the update is rejected with 409 if the match changed since.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Match updated.",
                     content = { @Content(mediaType = "application/json",
@@ -118,6 +124,8 @@ public class MatchRestController {
             @ApiResponse(responseCode = "401", description = "Unauthorized user.",
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "Match or associated teams were not found.",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Match was modified since the given version.",
                     content = @Content)})
     @PutMapping("/matches/{id}")
     public ResponseEntity<Object> updateMatch(@PathVariable("id") Long id, @Valid @RequestBody MatchUpdateDTO dto, BindingResult bindingResult) {
@@ -135,22 +143,23 @@ public class MatchRestController {
             return new ResponseEntity<>(matchReadOnlyDTO, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (StaleEntityException | OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
         }
     }
 
-    @Operation(summary = "Delete a match.")
+    @Operation(summary = "Delete a match together with its player statistics, returning the removed row counts.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Match deleted.",
                     content = { @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = MatchReadOnlyDTO.class))}),
+                            schema = @Schema(implementation = DeletionResultDTO.class))}),
             @ApiResponse(responseCode = "404", description = "Match not found.",
                     content = @Content)})
     @DeleteMapping("/matches/{id}")
     public ResponseEntity<Object> deleteMatch(@PathVariable("id") Long id) {
         try {
-            Match match = matchService.deleteMatch(id);
-            MatchReadOnlyDTO matchReadOnlyDTO = Mapper.mapMatchToReadOnlyDTO(match);
-            return new ResponseEntity<>(matchReadOnlyDTO, HttpStatus.OK);
+            DeletionResultDTO result = matchService.deleteMatch(id);
+            return new ResponseEntity<>(result, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         }
@@ -1,15 +1,20 @@
 package com.project.superleague.rest;
 
 
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetPage;
 import com.project.superleague.dto.PlayerInsertDTO;
 import com.project.superleague.dto.PlayerReadOnlyDTO;
+import com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO;
 import com.project.superleague.dto.PlayerUpdateDTO;
 import com.project.superleague.dto.TeamReadOnlyDTO;
 import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
+import com.project.superleague.service.IPlayerSeasonStatsService;
 import com.project.superleague.service.IPlayerService;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -19,6 +24,7 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.Value;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -36,26 +42,28 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PlayerRestController {
     private final IPlayerService playerService;
+    private final IPlayerSeasonStatsService playerSeasonStatsService;
 
-    @Operation(summary = "Get players by their lastname. Given lastname can be missing ending letters.")
+    @Operation(summary = "Get players by their lastname. Given lastname can be missing ending letters. " +
+            "Results are ordered by lastname and paginated, the next page is requested with the cursor of the X-Next-Cursor header.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Players with the given lastname were found.",
                     content = { @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PlayerReadOnlyDTO.class))}),
-            @ApiResponse(responseCode = "400", description = "Invalid lastname given.",
+            @ApiResponse(responseCode = "400", description = "Invalid lastname or cursor given.",
                     content = @Content)})
     @GetMapping("/players")
-    public ResponseEntity<Object> getPlayersByLastname(@RequestParam("lastname") String lastname) {
-        List<Player> players;
+    public ResponseEntity<Object> getPlayersByLastname(@RequestParam("lastname") String lastname,
+                                                       @RequestParam(value = "after", required = false) String after,
+                                                       @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        KeysetPage<PlayerReadOnlyDTO> players;
 
         try {
-            players = playerService.getPlayerByLastname(lastname);
-            List<PlayerReadOnlyDTO> playersReadOnlyDTOS = new ArrayList<>();
-            for (Player player : players) {
-                playersReadOnlyDTOS.add(Mapper.mapPlayerToReadOnlyDTO(player));
-            }
-            return new ResponseEntity<>(playersReadOnlyDTOS, HttpStatus.OK);
-        } catch (EntityNotFoundException e) {
+            players = playerService.getPlayerByLastname(lastname, after, limit);
+            return ResponseEntity.ok()
+                    .headers(KeysetHeaders.of(players))
+                    .body(players.getItems());
+        } catch (EntityNotFoundException | IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
@@ -69,17 +77,50 @@ public class PlayerRestController {
                     content = @Content)})
     @GetMapping("/players/{id}")
     public ResponseEntity<Object> getPlayerById(@PathVariable("id") Long id) {
-        Player player;
+        PlayerReadOnlyDTO dto;
+
+        try {
+            dto = playerService.getPlayerById(id);
+            return new ResponseEntity<>(dto, HttpStatus.OK);
+        } catch (EntityNotFoundException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Operation(summary = "Get a player's appearances, minutes, goals, assists and cards for a season. " +
+            "A season is named after the year it starts on the 1st of July, the current season is used when none is given.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Player stats were found.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = PlayerSeasonStatsReadOnlyDTO.class))}),
+            @ApiResponse(responseCode = "404", description = "Player was not found.",
+                    content = @Content)})
+    @GetMapping("/players/{id}/stats")
+    public ResponseEntity<Object> getPlayerSeasonStats(@PathVariable("id") Long id,
+                                                       @RequestParam(value = "season", required = false) Integer season) {
+        PlayerSeasonStatsReadOnlyDTO dto;
 
         try {
-            player = playerService.getPlayerById(id);
-            PlayerReadOnlyDTO dto = Mapper.mapPlayerToReadOnlyDTO(player);
+            dto = playerSeasonStatsService.getPlayerSeasonStats(id, season);
             return new ResponseEntity<>(dto, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         }
     }
 
+    @Operation(summary = "Recompute the player season stats of every player from the stored match statistics, returning the number of rows written.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Player season stats rebuilt.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = Integer.class))}),
+            @ApiResponse(responseCode = "403", description = "Forbidden for non admin users.",
+                    content = @Content)})
+    @PostMapping("/admin/players/stats/rebuild")
+    public ResponseEntity<Object> rebuildPlayerSeasonStats() {
+        int rows = playerSeasonStatsService.rebuildPlayerSeasonStats();
+        return new ResponseEntity<>(rows, HttpStatus.OK);
+    }
+
     @Operation(summary = "Add a player.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Player added.",
@@ -113,7 +154,7 @@ public class PlayerRestController {
         }
     }
 
-    @Operation(summary = "Update a player.")
+    @Operation(summary = "Update a player. The version must be the one last read, the update is rejected with 409 if the player changed since.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Player updated.",
                     content = { @Content(mediaType = "application/json",
@@ -123,6 +164,8 @@ public class PlayerRestController {
             @ApiResponse(responseCode = "401", description = "Unauthorized user.",
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "Player or team not found.",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Player was modified since the given version.",
                     content = @Content)})
     @PutMapping("/players/{id}")
     public ResponseEntity<Object> updatePlayer(@PathVariable("id") Long id, @Valid @RequestBody PlayerUpdateDTO dto, BindingResult bindingResult) {
@@ -140,22 +183,23 @@ public class PlayerRestController {
             return new ResponseEntity<>(playerReadOnlyDTO, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (StaleEntityException | OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
         }
     }
 
-    @Operation(summary = "Delete a player.")
+    @Operation(summary = "Delete a player together with their match statistics, returning the removed row counts.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Player deleted.",
                     content = { @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = PlayerReadOnlyDTO.class))}),
+                            schema = @Schema(implementation = DeletionResultDTO.class))}),
             @ApiResponse(responseCode = "404", description = "Player not found.",
                     content = @Content)})
     @DeleteMapping("/players/{id}")
     public ResponseEntity<Object> deletePlayer(@PathVariable("id") Long id) {
         try {
-            Player player = playerService.deletePlayer(id);
-            PlayerReadOnlyDTO playerReadOnlyDTO = Mapper.mapPlayerToReadOnlyDTO(player);
-            return new ResponseEntity<>(playerReadOnlyDTO, HttpStatus.OK);
+            DeletionResultDTO result = playerService.deletePlayer(id);
+            return new ResponseEntity<>(result, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         }
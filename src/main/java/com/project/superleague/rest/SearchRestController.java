@@ -0,0 +1,68 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.FullTextResultDTO;
+import com.project.superleague.dto.SearchResultDTO;
+import com.project.superleague.service.ISearchService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class SearchRestController {
+    private final ISearchService searchService;
+
+    @Operation(summary = "Autocomplete players and teams by name prefix. Matching ignores case and accents, " +
+            "and any word of the name may match.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching players and teams ordered by name.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = SearchResultDTO.class))}),
+            @ApiResponse(responseCode = "400", description = "Blank query given.",
+                    content = @Content)})
+    @GetMapping("/search")
+    public ResponseEntity<Object> search(@RequestParam("q") String query,
+                                         @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<SearchResultDTO> results;
+
+        try {
+            results = searchService.search(query, limit);
+            return new ResponseEntity<>(results, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Operation(summary = "Search players by first name, last name, nationality or role and teams by name, city or stadium. " +
+            "Any part of a word may match and results are ranked by relevance.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Matching players and teams ordered by score.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = FullTextResultDTO.class))}),
+            @ApiResponse(responseCode = "400", description = "Blank query given.",
+                    content = @Content)})
+    @GetMapping("/search/fulltext")
+    public ResponseEntity<Object> searchFullText(@RequestParam("q") String query,
+                                                 @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        List<FullTextResultDTO> results;
+
+        try {
+            results = searchService.searchFullText(query, limit);
+            return new ResponseEntity<>(results, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
+        }
+    }
+}
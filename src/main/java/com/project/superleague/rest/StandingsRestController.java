@@ -0,0 +1,49 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.StandingReadOnlyDTO;
+import com.project.superleague.dto.StandingsConsistencyDTO;
+import com.project.superleague.service.IStandingsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class StandingsRestController {
+    private final IStandingsService standingsService;
+
+    @Operation(summary = "Get the league standings table.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Standings ordered by rank.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = StandingReadOnlyDTO.class))})})
+    @GetMapping("/standings")
+    public ResponseEntity<Object> getStandings() {
+        List<StandingReadOnlyDTO> standings = standingsService.getStandings();
+        return new ResponseEntity<>(standings, HttpStatus.OK);
+    }
+
+    @Operation(summary = "Compare the in-memory standings against a full recompute from the stored matches.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Consistency check completed.",
+                    content = { @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = StandingsConsistencyDTO.class))}),
+            @ApiResponse(responseCode = "403", description = "Forbidden for non admin users.",
+                    content = @Content)})
+    @GetMapping("/admin/standings/consistency")
+    public ResponseEntity<Object> verifyStandings() {
+        List<Long> mismatchedTeamIds = standingsService.verifyStandings();
+        return new ResponseEntity<>(new StandingsConsistencyDTO(mismatchedTeamIds.isEmpty(), mismatchedTeamIds), HttpStatus.OK);
+    }
+}
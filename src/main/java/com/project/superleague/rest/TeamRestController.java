@@ -6,6 +6,7 @@ import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
 import com.project.superleague.service.ITeamService;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.BindingResult;
@@ -31,25 +33,26 @@ import java.util.Objects;
 public class TeamRestController {
     private final ITeamService teamService;
 
-    @Operation(summary = "Get teams by their name. Given team name can be missing ending letters.")
+    @Operation(summary = "Get teams by their name. Given team name can be missing ending letters. " +
+            "Results are ordered by team name and paginated, the next page is requested with the cursor of the X-Next-Cursor header.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Teams with the given team name were found.",
                     content = { @Content(mediaType = "application/json",
                             schema = @Schema(implementation = TeamReadOnlyDTO.class))}),
-            @ApiResponse(responseCode = "400", description = "Invalid team name given.",
+            @ApiResponse(responseCode = "400", description = "Invalid team name or cursor given.",
                     content = @Content)})
     @GetMapping("/teams")
-    public ResponseEntity<Object> getTeamsByTeamName(@RequestParam("teamname") String teamname) {
-        List<Team> teams;
+    public ResponseEntity<Object> getTeamsByTeamName(@RequestParam("teamname") String teamname,
+                                                     @RequestParam(value = "after", required = false) String after,
+                                                     @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        KeysetPage<TeamReadOnlyDTO> teams;
 
         try {
-            teams = teamService.getTeamByName(teamname);
-            List<TeamReadOnlyDTO> teamsReadOnlyDTOS = new ArrayList<>();
-            for (Team team : teams) {
-                teamsReadOnlyDTOS.add(Mapper.mapTeamToReadOnlyDTO(team));
-            }
-            return new ResponseEntity<>(teamsReadOnlyDTOS, HttpStatus.OK);
-        } catch (EntityNotFoundException e) {
+            teams = teamService.getTeamByName(teamname, after, limit);
+            return ResponseEntity.ok()
+                    .headers(KeysetHeaders.of(teams))
+                    .body(teams.getItems());
+        } catch (EntityNotFoundException | IllegalArgumentException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         }
     }
@@ -63,11 +66,10 @@ public class TeamRestController {
                     content = @Content)})
     @GetMapping("/teams/{id}")
     public ResponseEntity<Object> getTeamById(@PathVariable("id") Long id) {
-        Team team;
+        TeamReadOnlyDTO dto;
 
         try {
-            team = teamService.getTeamById(id);
-            TeamReadOnlyDTO dto = Mapper.mapTeamToReadOnlyDTO(team);
+            dto = teamService.getTeamById(id);
             return new ResponseEntity<>(dto, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
@@ -103,7 +105,7 @@ public class TeamRestController {
         }
     }
 
-    @Operation(summary = "Update a team.")
+    @Operation(summary = "Update a team. The version must be the one last read, the update is rejected with 409 if the team changed since.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Team updated.",
                     content = { @Content(mediaType = "application/json",
@@ -113,6 +115,8 @@ public class TeamRestController {
             @ApiResponse(responseCode = "401", description = "Unauthorized user.",
                     content = @Content),
             @ApiResponse(responseCode = "404", description = "Team not found.",
+                    content = @Content),
+            @ApiResponse(responseCode = "409", description = "Team was modified since the given version.",
                     content = @Content)})
     @PutMapping("/teams/{id}")
     public ResponseEntity<Object> updateTeam(@PathVariable("id") Long id, @Valid @RequestBody TeamUpdateDTO dto, BindingResult bindingResult) {
@@ -130,22 +134,23 @@ public class TeamRestController {
             return new ResponseEntity<>(teamReadOnlyDTO, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
+        } catch (StaleEntityException | OptimisticLockingFailureException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
         }
     }
 
-    @Operation(summary = "Delete a team.")
+    @Operation(summary = "Delete a team together with its matches, players and statistics, returning the removed row counts.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Team deleted.",
                     content = { @Content(mediaType = "application/json",
-                            schema = @Schema(implementation = TeamReadOnlyDTO.class))}),
+                            schema = @Schema(implementation = DeletionResultDTO.class))}),
             @ApiResponse(responseCode = "404", description = "Team not found.",
                     content = @Content)})
     @DeleteMapping("/teams/{id}")
     public ResponseEntity<Object> deleteTeam(@PathVariable("id") Long id) {
         try {
-            Team team = teamService.deleteTeam(id);
-            TeamReadOnlyDTO teamReadOnlyDTO = Mapper.mapTeamToReadOnlyDTO(team);
-            return new ResponseEntity<>(teamReadOnlyDTO, HttpStatus.OK);
+            DeletionResultDTO result = teamService.deleteTeam(id);
+            return new ResponseEntity<>(result, HttpStatus.OK);
         } catch (EntityNotFoundException e) {
             return new ResponseEntity<>(e.getMessage(), HttpStatus.NOT_FOUND);
         }
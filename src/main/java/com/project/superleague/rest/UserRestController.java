@@ -3,6 +3,7 @@ package com.project.superleague.rest;
 import com.project.superleague.dto.UserLoginDTO;
 import com.project.superleague.service.IUserService;
 import com.project.superleague.service.UserServiceImpl;
+import io.jsonwebtoken.JwtException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -12,10 +13,13 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.context.support.DefaultMessageSourceResolvable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/api")
@@ -28,6 +32,10 @@ public class UserRestController {
             @ApiResponse(responseCode = "200", description = "Login successful, returns a JSON Web Token.",
                     content = { @Content(mediaType = "text/plain")}),
             @ApiResponse(responseCode = "400", description = "Username and/or password is null.",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Invalid username and/or password.",
+                    content = @Content),
+            @ApiResponse(responseCode = "503", description = "Login verification pool is saturated, retry later.",
                     content = @Content)})
     @PostMapping("/login")
     public Object loginUser(@Valid @RequestBody UserLoginDTO userLoginDTO, BindingResult bindingResult) {
@@ -36,7 +44,39 @@ public class UserRestController {
             return new ResponseEntity<>(errors, HttpStatus.BAD_REQUEST);
         }
 
-        String token = userService.verifyUser(userLoginDTO);
-        return new ResponseEntity<>(token, HttpStatus.OK);
+        try {
+            return userService.verifyUserAsync(userLoginDTO).handle((token, e) -> {
+                if (e == null) {
+                    return new ResponseEntity<Object>(token, HttpStatus.OK);
+                }
+
+                Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+                return cause instanceof AuthenticationException
+                        ? new ResponseEntity<Object>(HttpStatus.UNAUTHORIZED)
+                        : new ResponseEntity<Object>(HttpStatus.SERVICE_UNAVAILABLE);
+            });
+        } catch (RejectedExecutionException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header("Retry-After", "1").build();
+        }
+    }
+
+    @Operation(summary = "Logout by revoking the JSON Web Token of the request.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Token revoked.",
+                    content = @Content),
+            @ApiResponse(responseCode = "401", description = "Unauthorized user.",
+                    content = @Content)})
+    @PostMapping("/logout")
+    public ResponseEntity<Object> logoutUser(@RequestHeader(value = "Authorization", required = false) String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith("Bearer ")) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
+
+        try {
+            userService.logoutUser(authorizationHeader.substring(7));
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        } catch (JwtException e) {
+            return new ResponseEntity<>(HttpStatus.UNAUTHORIZED);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.CacheStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class EntityCacheServiceImpl implements IEntityCacheService {
+    public static final List<String> REGIONS = List.of("teams", "players");
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Hit and miss counters are only kept while superleague.hibernate.statistics is on, otherwise they are null.
+     */
+    @Override
+    public List<CacheStatsDTO> getCacheStats() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        boolean enabled = statistics.isStatisticsEnabled();
+
+        return REGIONS.stream().map(region -> {
+            CacheRegionStatistics regionStatistics = statistics.getDomainDataRegionStatistics(region);
+            long size = regionStatistics.getElementCountInMemory();
+            return new CacheStatsDTO(region, size < 0 ? null : size, enabled ? regionStatistics.getHitCount() : null,
+                    enabled ? regionStatistics.getMissCount() : null, null);
+        }).toList();
+    }
+
+    @Override
+    public void evictAll() {
+        entityManagerFactory.getCache().evictAll();
+        log.info("Second-level entity cache cleared.");
+    }
+}
@@ -0,0 +1,98 @@
+package com.project.superleague.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import com.project.superleague.repository.MatchPlayerRepository;
+import com.project.superleague.repository.MatchRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.sql.DatabaseMetaData;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class ExportServiceImpl implements IExportService {
+    private static final int FLUSH_INTERVAL = 1000;
+    private static final int FETCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final int fetchSize;
+
+    /**
+     * Without useCursorFetch on the connection, MySQL Connector/J ignores any fetch size but Integer.MIN_VALUE,
+     * which streams the result row by row, and otherwise reads the whole result into memory.
+     * Only the export queries ask for it, so the rest of the application keeps its buffered result sets.
+     */
+    public ExportServiceImpl(EntityManager entityManager, ObjectMapper objectMapper, DataSource dataSource) {
+        this.entityManager = entityManager;
+        this.objectMapper = objectMapper;
+        this.fetchSize = "MySQL".equalsIgnoreCase(databaseProductName(dataSource)) ? Integer.MIN_VALUE : FETCH_SIZE;
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void exportMatches(LocalDate since, OutputStream outputStream) throws IOException {
+        try (Stream<MatchReadOnlyDTO> matches = stream(MatchRepository.SELECT_READ_ONLY_DTO,
+                MatchRepository.WHERE_MATCH_DATE_SINCE, MatchReadOnlyDTO.class, since)) {
+            long count = writeLines(matches.iterator(), outputStream);
+            log.info("Exported " + count + " matches.");
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public void exportMatchesPlayers(LocalDate since, OutputStream outputStream) throws IOException {
+        try (Stream<MatchPlayerReadOnlyDTO> matchesPlayers = stream(MatchPlayerRepository.SELECT_READ_ONLY_DTO,
+                MatchPlayerRepository.WHERE_MATCH_DATE_SINCE, MatchPlayerReadOnlyDTO.class, since)) {
+            long count = writeLines(matchesPlayers.iterator(), outputStream);
+            log.info("Exported " + count + " match player statistics.");
+        }
+    }
+
+    private <T> Stream<T> stream(String select, String whereSince, Class<T> type, LocalDate since) {
+        TypedQuery<T> query = entityManager.createQuery(since == null ? select : select + whereSince, type)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+
+        if (since != null) {
+            query.setParameter("since", since);
+        }
+        return query.getResultStream();
+    }
+
+    private static String databaseProductName(DataSource dataSource) {
+        try {
+            return JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+        } catch (MetaDataAccessException e) {
+            log.warn("Could not read the database product name, exports use a fetch size of " + FETCH_SIZE + ".", e);
+            return null;
+        }
+    }
+
+    private long writeLines(Iterator<?> rows, OutputStream outputStream) throws IOException {
+        long count = 0;
+
+        while (rows.hasNext()) {
+            outputStream.write(objectMapper.writeValueAsBytes(rows.next()));
+            outputStream.write('\n');
+            if (++count % FLUSH_INTERVAL == 0) {
+                outputStream.flush();
+            }
+        }
+        outputStream.flush();
+        return count;
+    }
+}
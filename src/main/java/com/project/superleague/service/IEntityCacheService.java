@@ -0,0 +1,10 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.CacheStatsDTO;
+
+import java.util.List;
+
+public interface IEntityCacheService {
+    List<CacheStatsDTO> getCacheStats();
+    void evictAll();
+}
@@ -0,0 +1,10 @@
+package com.project.superleague.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface IExportService {
+    void exportMatches(LocalDate since, OutputStream outputStream) throws IOException;
+    void exportMatchesPlayers(LocalDate since, OutputStream outputStream) throws IOException;
+}
@@ -1,9 +1,18 @@
 package com.project.superleague.service;
 
+import com.project.superleague.model.TokenClaims;
 import org.springframework.security.core.userdetails.UserDetails;
 
+import java.util.Collection;
+
 public interface IJWTService {
     String generateToken(String username);
+    String generateToken(String username, Collection<String> authorities);
     String extractUsername(String token);
+    TokenClaims parseToken(String token);
     boolean validateToken(String token, UserDetails userDetails);
-}
\ No newline at end of file
+    boolean validateToken(TokenClaims claims, UserDetails userDetails);
+    boolean validateToken(TokenClaims claims);
+    void revokeToken(TokenClaims claims);
+    boolean isTokenRevoked(TokenClaims claims);
+}
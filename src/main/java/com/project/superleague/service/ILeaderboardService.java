@@ -0,0 +1,12 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.LeaderboardEntryDTO;
+import com.project.superleague.service.exception.EntityNotFoundException;
+
+import java.util.List;
+
+public interface ILeaderboardService {
+    List<LeaderboardEntryDTO> getLeaderboard(String metric, int offset, int limit);
+    LeaderboardEntryDTO getPlayerRank(String metric, Long playerId) throws EntityNotFoundException;
+    void rebuildLeaderboards();
+}
@@ -0,0 +1,10 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchPlayerDeltaDTO;
+import com.project.superleague.live.LiveHub;
+import com.project.superleague.live.MatchPlayerTopic;
+
+public interface ILiveMatchPlayerService {
+    LiveHub<MatchPlayerTopic, MatchPlayerDeltaDTO>.Subscription subscribe(LiveHub.Sender<MatchPlayerDeltaDTO> sender);
+    int getSubscriberCount(MatchPlayerTopic topic);
+}
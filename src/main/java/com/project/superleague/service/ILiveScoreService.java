@@ -0,0 +1,14 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import com.project.superleague.live.LiveHub;
+import com.project.superleague.live.LiveSubscription;
+import com.project.superleague.service.exception.EntityNotFoundException;
+
+import java.time.LocalDate;
+
+public interface ILiveScoreService {
+    LiveSubscription subscribeToMatch(Long id, LiveHub.Sender<MatchReadOnlyDTO> sender) throws EntityNotFoundException;
+    LiveSubscription subscribeToMatchDate(LocalDate date, LiveHub.Sender<MatchReadOnlyDTO> sender);
+    int getSubscriberCount(Long matchId);
+}
@@ -1,14 +1,20 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.MatchPlayerBatchResultDTO;
 import com.project.superleague.dto.MatchPlayerInsertDTO;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
 import com.project.superleague.dto.MatchPlayerUpdateDTO;
 import com.project.superleague.model.MatchPlayer;
 import com.project.superleague.service.exception.EntityAlreadyExistsException;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
+
+import java.util.List;
 
 public interface IMatchPlayerService {
     MatchPlayer insertMatchPlayer(MatchPlayerInsertDTO dto) throws EntityAlreadyExistsException, EntityNotFoundException, Exception;
-    MatchPlayer updateMatchPlayer(MatchPlayerUpdateDTO dto) throws EntityNotFoundException;
+    List<MatchPlayerBatchResultDTO> insertMatchPlayers(List<MatchPlayerInsertDTO> dtos);
+    MatchPlayer updateMatchPlayer(MatchPlayerUpdateDTO dto) throws EntityNotFoundException, StaleEntityException;
     MatchPlayer deleteMatchPlayer(Long matchId, Long playerId) throws EntityNotFoundException;
-    MatchPlayer getMatchPlayerByMatchIdAndPlayerId(Long matchId, Long playerId) throws EntityNotFoundException;
+    MatchPlayerReadOnlyDTO getMatchPlayerByMatchIdAndPlayerId(Long matchId, Long playerId) throws EntityNotFoundException;
 }
\ No newline at end of file
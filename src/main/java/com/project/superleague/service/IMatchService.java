@@ -1,17 +1,20 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetPage;
 import com.project.superleague.dto.MatchInsertDTO;
+import com.project.superleague.dto.MatchReadOnlyDTO;
 import com.project.superleague.dto.MatchUpdateDTO;
 import com.project.superleague.model.Match;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 
 import java.time.LocalDate;
-import java.util.List;
 
 public interface IMatchService {
     Match insertMatch(MatchInsertDTO dto) throws EntityNotFoundException, Exception;
-    Match updateMatch(MatchUpdateDTO dto) throws EntityNotFoundException;
-    Match deleteMatch(Long id) throws EntityNotFoundException;
-    List<Match> getMatchByDate(LocalDate date) throws EntityNotFoundException;
-    Match getMatchById(Long id) throws EntityNotFoundException;
+    Match updateMatch(MatchUpdateDTO dto) throws EntityNotFoundException, StaleEntityException;
+    DeletionResultDTO deleteMatch(Long id) throws EntityNotFoundException;
+    KeysetPage<MatchReadOnlyDTO> getMatchByDate(LocalDate date, String after, int limit) throws EntityNotFoundException;
+    MatchReadOnlyDTO getMatchById(Long id) throws EntityNotFoundException;
 }
@@ -0,0 +1,17 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO;
+import com.project.superleague.service.exception.EntityNotFoundException;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Map;
+
+public interface IPlayerSeasonStatsService {
+    PlayerSeasonStatsReadOnlyDTO getPlayerSeasonStats(Long playerId, Integer season) throws EntityNotFoundException;
+    void recordMatchPlayerChange(MatchPlayerReadOnlyDTO previous, MatchPlayerReadOnlyDTO current, LocalDate matchDate);
+    void recordMatchPlayersInserted(Collection<MatchPlayerReadOnlyDTO> matchPlayers, Map<Long, LocalDate> matchDates);
+    void rebuildPlayerSeasonStats(Collection<Long> playerIds);
+    int rebuildPlayerSeasonStats();
+}
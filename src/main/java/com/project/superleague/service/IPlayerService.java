@@ -1,16 +1,18 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetPage;
 import com.project.superleague.dto.PlayerInsertDTO;
+import com.project.superleague.dto.PlayerReadOnlyDTO;
 import com.project.superleague.dto.PlayerUpdateDTO;
 import com.project.superleague.model.Player;
 import com.project.superleague.service.exception.EntityNotFoundException;
-
-import java.util.List;
+import com.project.superleague.service.exception.StaleEntityException;
 
 public interface IPlayerService {
     Player insertPlayer(PlayerInsertDTO dto) throws EntityNotFoundException, Exception;
-    Player updatePlayer(PlayerUpdateDTO dto) throws EntityNotFoundException;
-    Player deletePlayer(Long id) throws EntityNotFoundException;
-    List<Player> getPlayerByLastname(String lastname) throws EntityNotFoundException;
-    Player getPlayerById(Long id) throws EntityNotFoundException;
+    Player updatePlayer(PlayerUpdateDTO dto) throws EntityNotFoundException, StaleEntityException;
+    DeletionResultDTO deletePlayer(Long id) throws EntityNotFoundException;
+    KeysetPage<PlayerReadOnlyDTO> getPlayerByLastname(String lastname, String after, int limit) throws EntityNotFoundException;
+    PlayerReadOnlyDTO getPlayerById(Long id) throws EntityNotFoundException;
 }
\ No newline at end of file
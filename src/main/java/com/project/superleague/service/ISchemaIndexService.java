@@ -0,0 +1,9 @@
+package com.project.superleague.service;
+
+import java.sql.SQLException;
+import java.util.List;
+
+public interface ISchemaIndexService {
+    List<String> findMissingIndexes() throws SQLException;
+    void verifyIndexes();
+}
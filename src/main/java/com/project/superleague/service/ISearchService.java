@@ -0,0 +1,12 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.FullTextResultDTO;
+import com.project.superleague.dto.SearchResultDTO;
+
+import java.util.List;
+
+public interface ISearchService {
+    List<SearchResultDTO> search(String query, int limit);
+    List<FullTextResultDTO> searchFullText(String query, int limit);
+    void rebuildSearchIndex();
+}
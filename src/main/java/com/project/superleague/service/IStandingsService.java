@@ -0,0 +1,11 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.StandingReadOnlyDTO;
+
+import java.util.List;
+
+public interface IStandingsService {
+    List<StandingReadOnlyDTO> getStandings();
+    void rebuildStandings();
+    List<Long> verifyStandings();
+}
@@ -1,16 +1,18 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetPage;
 import com.project.superleague.dto.TeamInsertDTO;
+import com.project.superleague.dto.TeamReadOnlyDTO;
 import com.project.superleague.dto.TeamUpdateDTO;
 import com.project.superleague.model.Team;
 import com.project.superleague.service.exception.EntityNotFoundException;
-
-import java.util.List;
+import com.project.superleague.service.exception.StaleEntityException;
 
 public interface ITeamService {
     Team insertTeam(TeamInsertDTO dto) throws Exception;
-    Team updateTeam(TeamUpdateDTO dto) throws EntityNotFoundException;
-    Team deleteTeam(Long id) throws EntityNotFoundException;
-    List<Team> getTeamByName(String teamname) throws EntityNotFoundException;
-    Team getTeamById(Long id) throws EntityNotFoundException;
+    Team updateTeam(TeamUpdateDTO dto) throws EntityNotFoundException, StaleEntityException;
+    DeletionResultDTO deleteTeam(Long id) throws EntityNotFoundException;
+    KeysetPage<TeamReadOnlyDTO> getTeamByName(String teamname, String after, int limit) throws EntityNotFoundException;
+    TeamReadOnlyDTO getTeamById(Long id) throws EntityNotFoundException;
 }
\ No newline at end of file
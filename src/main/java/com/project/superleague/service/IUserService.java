@@ -2,6 +2,10 @@ package com.project.superleague.service;
 
 import com.project.superleague.dto.UserLoginDTO;
 
+import java.util.concurrent.CompletableFuture;
+
 public interface IUserService {
     String verifyUser(UserLoginDTO userLoginDTO);
+    CompletableFuture<String> verifyUserAsync(UserLoginDTO userLoginDTO);
+    void logoutUser(String token);
 }
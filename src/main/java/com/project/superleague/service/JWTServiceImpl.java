@@ -1,8 +1,11 @@
 package com.project.superleague.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.project.superleague.model.TokenClaims;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.JwtParser;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
@@ -11,22 +14,33 @@ import io.jsonwebtoken.Jwts;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import java.security.NoSuchAlgorithmException;
-import java.util.Base64;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
 @Slf4j
 public class JWTServiceImpl implements IJWTService {
-    private String secretKey = "";
+    private static final String AUTHORITIES_CLAIM = "authorities";
+
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final Cache<String, Date> revokedTokens = Caffeine.newBuilder()
+            .expireAfter(new UntilTokenExpires())
+            .build();
 
     public JWTServiceImpl() {
         try {
             KeyGenerator keyGenerator = KeyGenerator.getInstance("HmacSHA256");
-            SecretKey sk = keyGenerator.generateKey();
-            secretKey = Base64.getEncoder().encodeToString(sk.getEncoded());
+            key = keyGenerator.generateKey();
+            parser = Jwts.parser()
+                    .verifyWith(key)
+                    .build();
         } catch (NoSuchAlgorithmException e) {
             log.error(e.getMessage());
             throw new RuntimeException(e);
@@ -34,51 +48,81 @@ public class JWTServiceImpl implements IJWTService {
     }
 
     public String generateToken(String username) {
+        return generateToken(username, null);
+    }
+
+    public String generateToken(String username, Collection<String> authorities) {
         Map<String, Object> claims = new HashMap<>();
 
+        if (authorities != null) {
+            claims.put(AUTHORITIES_CLAIM, new ArrayList<>(authorities));
+        }
+
         return Jwts.builder()
                 .claims()
                 .add(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + 3600000))
                 .and()
-                .signWith(getKey())
+                .signWith(key)
                 .compact();
     }
 
-    private SecretKey getKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public String extractUsername(String token) {
+        return parseToken(token).getUsername();
     }
 
-    public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+    public TokenClaims parseToken(String token) {
+        Claims claims = parser.parseSignedClaims(token).getPayload();
+        List<?> authorities = claims.get(AUTHORITIES_CLAIM, List.class);
+
+        return new TokenClaims(claims.getId(), claims.getSubject(),
+                authorities == null ? null : authorities.stream().map(String::valueOf).toList(),
+                claims.getExpiration());
+    }
+
+    public boolean validateToken(String token, UserDetails userDetails) {
+        return validateToken(parseToken(token), userDetails);
     }
 
-    private <T> T extractClaim(String token, Function<Claims, T> claimResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimResolver.apply(claims);
+    public boolean validateToken(TokenClaims claims, UserDetails userDetails) {
+        return (claims.getUsername().equals(userDetails.getUsername()) && !claims.isExpired() && !isTokenRevoked(claims));
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public boolean validateToken(TokenClaims claims) {
+        return (claims.hasAuthorities() && !claims.isExpired() && !isTokenRevoked(claims));
     }
 
-    public boolean validateToken(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+    /**
+     * Revocations are kept in memory until the token expires and only apply to this instance.
+     */
+    public void revokeToken(TokenClaims claims) {
+        if (claims.getId() != null && !claims.isExpired()) {
+            revokedTokens.put(claims.getId(), claims.getExpiration());
+            log.info("Token of user " + claims.getUsername() + " revoked.");
+        }
     }
 
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public boolean isTokenRevoked(TokenClaims claims) {
+        return claims.getId() != null && revokedTokens.getIfPresent(claims.getId()) != null;
     }
 
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    private static class UntilTokenExpires implements Expiry<String, Date> {
+        @Override
+        public long expireAfterCreate(String id, Date expiration, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiration.getTime() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String id, Date expiration, long currentTime, long currentDuration) {
+            return expireAfterCreate(id, expiration, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String id, Date expiration, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
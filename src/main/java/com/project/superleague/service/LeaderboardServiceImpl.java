@@ -0,0 +1,222 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.KeysetPage;
+import com.project.superleague.dto.LeaderboardEntryDTO;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.event.PlayerDeletedEvent;
+import com.project.superleague.index.Leaderboard;
+import com.project.superleague.index.LeaderboardMetric;
+import com.project.superleague.mapper.Mapper;
+import com.project.superleague.model.Player;
+import com.project.superleague.repository.MatchPlayerRepository;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Keeps one ranked leaderboard per metric in memory, so that pages and rank
+ * lookups are answered in O(log n) without touching the database. The boards
+ * follow committed match player changes, including the removal of every match
+ * player that a match, player or team deletion takes with it.
+ */
+@Service
+@Slf4j
+public class LeaderboardServiceImpl implements ILeaderboardService {
+    private final MatchPlayerRepository matchPlayerRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private Boards boards = new Boards();
+    private List<Consumer<Boards>> changesDuringRebuild;
+
+    public LeaderboardServiceImpl(MatchPlayerRepository matchPlayerRepository, PlatformTransactionManager transactionManager) {
+        this.matchPlayerRepository = matchPlayerRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public List<LeaderboardEntryDTO> getLeaderboard(String metric, int offset, int limit) {
+        Leaderboard leaderboard;
+        List<LeaderboardEntryDTO> entries = new ArrayList<>();
+
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset must not be negative.");
+        }
+        lock.readLock().lock();
+        try {
+            leaderboard = boards.leaderboards.get(LeaderboardMetric.fromName(metric));
+            for (Leaderboard.Entry entry : leaderboard.range(offset, KeysetPage.clampLimit(limit))) {
+                entries.add(Mapper.mapLeaderboardEntryToDTO(entry, offset + entries.size() + 1));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return entries;
+    }
+
+    @Override
+    public LeaderboardEntryDTO getPlayerRank(String metric, Long playerId) throws EntityNotFoundException {
+        Leaderboard leaderboard;
+        Integer rank;
+        Long total;
+
+        lock.readLock().lock();
+        try {
+            leaderboard = boards.leaderboards.get(LeaderboardMetric.fromName(metric));
+            rank = leaderboard.rankOf(playerId);
+            total = leaderboard.totalOf(playerId);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (rank == null) {
+            EntityNotFoundException e = new EntityNotFoundException(Player.class, playerId);
+            log.error(e.getMessage());
+            throw e;
+        }
+        return new LeaderboardEntryDTO(rank, playerId, total);
+    }
+
+    // Changes committed while the match players are streamed are recorded and replayed on the rebuilt boards.
+    // Applying a match player is idempotent by version, so a change the stream already saw is neither lost
+    // nor counted twice.
+    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    public void rebuildLeaderboards() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Boards rebuilt;
+            try {
+                rebuilt = readOnlyTransaction.execute(status -> {
+                    Boards recomputed = new Boards();
+
+                    try (Stream<MatchPlayerReadOnlyDTO> matchPlayers = matchPlayerRepository.streamAllReadOnlyDTOs()) {
+                        matchPlayers.forEach(matchPlayer -> recomputed.apply(null, matchPlayer));
+                    }
+                    return recomputed;
+                });
+            } catch (RuntimeException e) {
+                stopRecordingChanges();
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                changesDuringRebuild = null;
+                boards = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Leaderboards rebuilt for " + rebuilt.leaderboards.get(LeaderboardMetric.GOALS).size() + " players.");
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchPlayerChanged(MatchPlayerChangedEvent event) {
+        change(target -> target.apply(event.getPrevious(), event.getCurrent()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerDeleted(PlayerDeletedEvent event) {
+        change(target -> target.removePlayer(event.getPlayerId()));
+    }
+
+    private void change(Consumer<Boards> change) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+            change.accept(boards);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void stopRecordingChanges() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The leaderboards together with the match players counted in them.
+     */
+    private static class Boards {
+        private final Map<LeaderboardMetric, Leaderboard> leaderboards = new EnumMap<>(LeaderboardMetric.class);
+        private final Map<Long, MatchPlayerReadOnlyDTO> matchPlayers = new HashMap<>();
+
+        private Boards() {
+            for (LeaderboardMetric metric : LeaderboardMetric.values()) {
+                leaderboards.put(metric, new Leaderboard());
+            }
+        }
+
+        /**
+         * Replaces the counted values of the changed match player. A change that is not newer than the counted
+         * version was already applied and is ignored.
+         */
+        private void apply(MatchPlayerReadOnlyDTO previous, MatchPlayerReadOnlyDTO current) {
+            if (current == null) {
+                MatchPlayerReadOnlyDTO counted = matchPlayers.remove(previous.getId());
+                if (counted != null) {
+                    add(counted, -1);
+                }
+                return;
+            }
+
+            MatchPlayerReadOnlyDTO counted = matchPlayers.get(current.getId());
+            if (counted != null && counted.getVersion() != null && current.getVersion() != null
+                    && counted.getVersion() >= current.getVersion()) {
+                return;
+            }
+            if (counted != null) {
+                add(counted, -1);
+            }
+            add(current, 1);
+            matchPlayers.put(current.getId(), current);
+        }
+
+        private void removePlayer(Long playerId) {
+            matchPlayers.values().removeIf(matchPlayer -> playerId.equals(matchPlayer.getPlayerId()));
+            leaderboards.values().forEach(leaderboard -> leaderboard.remove(playerId));
+        }
+
+        private void add(MatchPlayerReadOnlyDTO matchPlayer, int sign) {
+            leaderboards.forEach((metric, leaderboard) -> leaderboard.add(matchPlayer.getPlayerId(), (long) sign * metric.valueOf(matchPlayer)));
+        }
+    }
+}
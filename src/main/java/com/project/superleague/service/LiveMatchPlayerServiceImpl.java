@@ -0,0 +1,46 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchPlayerDeltaDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.live.LiveHub;
+import com.project.superleague.live.MatchPlayerTopic;
+import com.project.superleague.mapper.Mapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+/**
+ * Fans match player stat deltas out to subscribers of the match or the player once the change is committed.
+ * Deltas of the same match player that pile up while a subscriber is still being written to are merged into one.
+ * Deltas are relative, so a subscriber that falls further behind than the buffer allows is closed rather than
+ * silently skipping one, and reloads its totals when it reconnects.
+ */
+@Service
+public class LiveMatchPlayerServiceImpl implements ILiveMatchPlayerService {
+    private final LiveHub<MatchPlayerTopic, MatchPlayerDeltaDTO> hub;
+
+    public LiveMatchPlayerServiceImpl(Executor liveExecutor, @Value("${superleague.live.ws.buffer-size:256}") int bufferSize) {
+        this.hub = new LiveHub<>(liveExecutor, bufferSize,
+                delta -> List.of(delta.getMatchId(), delta.getPlayerId()), MatchPlayerDeltaDTO::coalesce, LiveHub.OverflowPolicy.CLOSE);
+    }
+
+    @Override
+    public LiveHub<MatchPlayerTopic, MatchPlayerDeltaDTO>.Subscription subscribe(LiveHub.Sender<MatchPlayerDeltaDTO> sender) {
+        return hub.subscribe(sender);
+    }
+
+    @Override
+    public int getSubscriberCount(MatchPlayerTopic topic) {
+        return hub.getSubscriberCount(topic);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchPlayerChanged(MatchPlayerChangedEvent event) {
+        MatchPlayerDeltaDTO delta = Mapper.mapMatchPlayerChangeToDeltaDTO(event.getPrevious(), event.getCurrent());
+
+        hub.publish(List.of(MatchPlayerTopic.match(delta.getMatchId()), MatchPlayerTopic.player(delta.getPlayerId())), delta);
+    }
+}
@@ -0,0 +1,117 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import com.project.superleague.event.MatchChangedEvent;
+import com.project.superleague.live.LiveHub;
+import com.project.superleague.live.LiveSubscription;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Pushes score changes to live watchers of a match or of a match date.
+ * Watchers of a match first receive the stored match, every later update is fanned out from the committed
+ * MatchChangedEvent without reading the database again. Updates of the same match that pile up for a watcher are
+ * merged into the newest one, so a full buffer only ever drops whole matches of a busy date, never the latest score
+ * of a match. Updates can reach a buffer out of order, either from listeners of concurrent commits or because the
+ * stored match was read before an update, so no watcher ever receives a version older than the last one sent.
+ */
+@Service
+@Slf4j
+public class LiveScoreServiceImpl implements ILiveScoreService {
+    private final IMatchService matchService;
+    private final LiveHub<Long, MatchReadOnlyDTO> matchHub;
+    private final LiveHub<LocalDate, MatchReadOnlyDTO> dateHub;
+
+    public LiveScoreServiceImpl(IMatchService matchService, Executor liveExecutor,
+                                @Value("${superleague.live.buffer-size:16}") int bufferSize) {
+        this.matchService = matchService;
+        this.matchHub = new LiveHub<>(liveExecutor, bufferSize, MatchReadOnlyDTO::getId, LiveScoreServiceImpl::newer,
+                LiveHub.OverflowPolicy.DROP_OLDEST);
+        this.dateHub = new LiveHub<>(liveExecutor, bufferSize, MatchReadOnlyDTO::getId, LiveScoreServiceImpl::newer,
+                LiveHub.OverflowPolicy.DROP_OLDEST);
+    }
+
+    @Override
+    public LiveSubscription subscribeToMatch(Long id, LiveHub.Sender<MatchReadOnlyDTO> sender) throws EntityNotFoundException {
+        LiveHub<Long, MatchReadOnlyDTO>.Subscription subscription = matchHub.subscribe(id, newerVersionsOnly(sender));
+
+        try {
+            subscription.offer(matchService.getMatchById(id));
+        } catch (EntityNotFoundException e) {
+            subscription.close();
+            throw e;
+        }
+        return subscription;
+    }
+
+    private static MatchReadOnlyDTO newer(MatchReadOnlyDTO buffered, MatchReadOnlyDTO match) {
+        if (buffered.getVersion() != null && match.getVersion() != null && buffered.getVersion() > match.getVersion()) {
+            return buffered;
+        }
+        return match;
+    }
+
+    private static LiveHub.Sender<MatchReadOnlyDTO> newerVersionsOnly(LiveHub.Sender<MatchReadOnlyDTO> sender) {
+        Map<Long, Long> lastVersions = new ConcurrentHashMap<>();
+
+        return new LiveHub.Sender<>() {
+            @Override
+            public void send(MatchReadOnlyDTO match) throws Exception {
+                Long lastVersion = lastVersions.get(match.getId());
+
+                if (match.getVersion() == null || lastVersion == null || match.getVersion() > lastVersion) {
+                    sender.send(match);
+                    if (match.getVersion() != null) {
+                        lastVersions.put(match.getId(), match.getVersion());
+                    }
+                }
+            }
+
+            @Override
+            public void close() {
+                sender.close();
+            }
+
+            @Override
+            public void overflowed() {
+                sender.overflowed();
+            }
+        };
+    }
+
+    @Override
+    public LiveSubscription subscribeToMatchDate(LocalDate date, LiveHub.Sender<MatchReadOnlyDTO> sender) {
+        return dateHub.subscribe(date, newerVersionsOnly(sender));
+    }
+
+    @Override
+    public int getSubscriberCount(Long matchId) {
+        return matchHub.getSubscriberCount(matchId);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchChanged(MatchChangedEvent event) {
+        MatchReadOnlyDTO previous = event.getPrevious();
+        MatchReadOnlyDTO current = event.getCurrent();
+
+        if (current == null) {
+            matchHub.closeTopic(previous.getId());
+            return;
+        }
+        if (previous == null || (Objects.equals(previous.getGoalsHost(), current.getGoalsHost())
+                && Objects.equals(previous.getGoalsGuest(), current.getGoalsGuest()))) {
+            return;
+        }
+        int watchers = matchHub.publish(current.getId(), current) + dateHub.publish(current.getMatchDate(), current);
+        log.debug("Score of match {} pushed to {} live watchers.", current.getId(), watchers);
+    }
+}
@@ -1,7 +1,11 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.MatchPlayerBatchResultDTO;
 import com.project.superleague.dto.MatchPlayerInsertDTO;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.MatchPlayerReferencesDTO;
 import com.project.superleague.dto.MatchPlayerUpdateDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
 import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Match;
 import com.project.superleague.model.MatchPlayer;
@@ -11,14 +15,23 @@ import com.project.superleague.repository.MatchRepository;
 import com.project.superleague.repository.PlayerRepository;
 import com.project.superleague.service.exception.EntityAlreadyExistsException;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @Slf4j
@@ -27,26 +40,35 @@ public class MatchPlayerServiceImpl implements IMatchPlayerService {
     private final MatchPlayerRepository matchPlayerRepository;
     private final MatchRepository matchRepository;
     private final PlayerRepository playerRepository;
+    private final IPlayerSeasonStatsService playerSeasonStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
     public MatchPlayer insertMatchPlayer(MatchPlayerInsertDTO dto) throws EntityAlreadyExistsException, EntityNotFoundException, Exception {
-        Optional<MatchPlayer> existingMatchPlayer;
+        MatchPlayerReferencesDTO references;
         MatchPlayer matchPlayer = null;
-        Match match = null;
-        Player player = null;
+        MatchPlayerReadOnlyDTO current;
 
         try {
-            existingMatchPlayer = matchPlayerRepository.findByMatchIdAndPlayerId(dto.getMatchId(), dto.getPlayerId());
-            if (existingMatchPlayer.isPresent()) {
+            references = matchPlayerRepository.findReferencesByMatchIdAndPlayerId(dto.getMatchId(), dto.getPlayerId());
+            if (references.isMatchPlayerExists()) {
                 throw new EntityAlreadyExistsException(dto.getMatchId(), dto.getPlayerId());
             }
-            match = matchRepository.findById(dto.getMatchId()).orElseThrow(() -> new EntityNotFoundException(Match.class, dto.getMatchId()));
-            player = playerRepository.findById(dto.getPlayerId()).orElseThrow(() -> new EntityNotFoundException(Player.class, dto.getPlayerId()));
-            matchPlayer = matchPlayerRepository.save(Mapper.mapInsertDTOToMatchPlayer(dto, match, player));
+            if (!references.isMatchExists()) {
+                throw new EntityNotFoundException(Match.class, dto.getMatchId());
+            }
+            if (!references.isPlayerExists()) {
+                throw new EntityNotFoundException(Player.class, dto.getPlayerId());
+            }
+            matchPlayer = matchPlayerRepository.save(Mapper.mapInsertDTOToMatchPlayer(dto,
+                    matchRepository.getReferenceById(dto.getMatchId()), playerRepository.getReferenceById(dto.getPlayerId())));
             if (matchPlayer.getId() == null) {
                 throw new Exception("Insert error.");
             }
+            current = Mapper.mapMatchPlayerToReadOnlyDTO(matchPlayer);
+            playerSeasonStatsService.recordMatchPlayerChange(null, current, references.getMatchDate());
+            eventPublisher.publishEvent(new MatchPlayerChangedEvent(null, current));
             log.info("Insert successful.");
         } catch (EntityAlreadyExistsException | EntityNotFoundException e) {
             log.error(e.getMessage());
@@ -60,18 +82,76 @@ public class MatchPlayerServiceImpl implements IMatchPlayerService {
 
     @Transactional
     @Override
-    public MatchPlayer updateMatchPlayer(MatchPlayerUpdateDTO dto) throws EntityNotFoundException {
+    public List<MatchPlayerBatchResultDTO> insertMatchPlayers(List<MatchPlayerInsertDTO> dtos) {
+        List<MatchPlayerBatchResultDTO> results = new ArrayList<>();
+        Map<Integer, MatchPlayer> pendingMatchPlayers = new LinkedHashMap<>();
+        Set<Long> matchIds = new HashSet<>();
+        Set<Long> playerIds = new HashSet<>();
+        Set<List<Long>> takenKeys = new HashSet<>();
+
+        for (MatchPlayerInsertDTO dto : dtos) {
+            if (dto != null && dto.getMatchId() != null && dto.getPlayerId() != null) {
+                matchIds.add(dto.getMatchId());
+                playerIds.add(dto.getPlayerId());
+            }
+        }
+        Map<Long, LocalDate> matchDates = new HashMap<>();
+        if (!matchIds.isEmpty()) {
+            matchRepository.findReadOnlyDTOsByIdIn(matchIds).forEach(match -> matchDates.put(match.getId(), match.getMatchDate()));
+        }
+        Set<Long> existingMatchIds = matchDates.keySet();
+        Set<Long> existingPlayerIds = playerIds.isEmpty() ? Set.of() : playerRepository.findExistingIds(playerIds);
+        if (!existingMatchIds.isEmpty() && !existingPlayerIds.isEmpty()) {
+            matchPlayerRepository.findReadOnlyDTOsByMatchIdInAndPlayerIdIn(existingMatchIds, existingPlayerIds)
+                    .forEach(mp -> takenKeys.add(List.of(mp.getMatchId(), mp.getPlayerId())));
+        }
+
+        for (int i = 0; i < dtos.size(); i++) {
+            MatchPlayerInsertDTO dto = dtos.get(i);
+
+            if (dto == null || dto.getMatchId() == null || dto.getPlayerId() == null) {
+                results.add(new MatchPlayerBatchResultDTO(i, MatchPlayerBatchResultDTO.Status.INVALID, "Match id and player id are required.", null));
+            } else if (!existingMatchIds.contains(dto.getMatchId())) {
+                results.add(new MatchPlayerBatchResultDTO(i, MatchPlayerBatchResultDTO.Status.NOT_FOUND, new EntityNotFoundException(Match.class, dto.getMatchId()).getMessage(), null));
+            } else if (!existingPlayerIds.contains(dto.getPlayerId())) {
+                results.add(new MatchPlayerBatchResultDTO(i, MatchPlayerBatchResultDTO.Status.NOT_FOUND, new EntityNotFoundException(Player.class, dto.getPlayerId()).getMessage(), null));
+            } else if (!takenKeys.add(List.of(dto.getMatchId(), dto.getPlayerId()))) {
+                results.add(new MatchPlayerBatchResultDTO(i, MatchPlayerBatchResultDTO.Status.ALREADY_EXISTS, new EntityAlreadyExistsException(dto.getMatchId(), dto.getPlayerId()).getMessage(), null));
+            } else {
+                pendingMatchPlayers.put(i, Mapper.mapInsertDTOToMatchPlayer(dto, matchRepository.getReferenceById(dto.getMatchId()), playerRepository.getReferenceById(dto.getPlayerId())));
+                results.add(null);
+            }
+        }
+
+        matchPlayerRepository.saveAll(pendingMatchPlayers.values());
+        pendingMatchPlayers.forEach((i, matchPlayer) -> results.set(i, new MatchPlayerBatchResultDTO(i, MatchPlayerBatchResultDTO.Status.CREATED, null, Mapper.mapMatchPlayerToReadOnlyDTO(matchPlayer))));
+        List<MatchPlayerReadOnlyDTO> inserted = pendingMatchPlayers.keySet().stream().map(i -> results.get(i).getMatchPlayer()).toList();
+        playerSeasonStatsService.recordMatchPlayersInserted(inserted, matchDates);
+        inserted.forEach(matchPlayer -> eventPublisher.publishEvent(new MatchPlayerChangedEvent(null, matchPlayer)));
+        log.info("Batch insert of " + pendingMatchPlayers.size() + " out of " + dtos.size() + " entries successful.");
+        return results;
+    }
+
+    @Transactional
+    @Override
+    public MatchPlayer updateMatchPlayer(MatchPlayerUpdateDTO dto) throws EntityNotFoundException, StaleEntityException {
         MatchPlayer updatedMatchPlayer;
-        Match match = null;
-        Player player = null;
+        MatchPlayer matchPlayer;
+        MatchPlayerReadOnlyDTO previous;
+        MatchPlayerReadOnlyDTO current;
 
         try {
-            matchPlayerRepository.findByMatchIdAndPlayerId(dto.getMatchId(), dto.getPlayerId()).orElseThrow(() -> new EntityNotFoundException(dto.getMatchId(), dto.getPlayerId()));
-            match = matchRepository.findById(dto.getMatchId()).orElseThrow(() -> new EntityNotFoundException(Match.class, dto.getMatchId()));
-            player = playerRepository.findById(dto.getPlayerId()).orElseThrow(() -> new EntityNotFoundException(Player.class, dto.getPlayerId()));
-            updatedMatchPlayer = matchPlayerRepository.save(Mapper.mapUpdateDTOToMatchPlayer(dto, match, player));
+            matchPlayer = matchPlayerRepository.findWithMatchByMatchIdAndPlayerId(dto.getMatchId(), dto.getPlayerId()).orElseThrow(() -> new EntityNotFoundException(dto.getMatchId(), dto.getPlayerId()));
+            if (!dto.getVersion().equals(matchPlayer.getVersion())) {
+                throw new StaleEntityException(dto.getMatchId(), dto.getPlayerId(), dto.getVersion());
+            }
+            previous = Mapper.mapMatchPlayerToReadOnlyDTO(matchPlayer);
+            updatedMatchPlayer = matchPlayerRepository.saveAndFlush(Mapper.mapUpdateDTOToMatchPlayer(dto, matchPlayer));
+            current = Mapper.mapMatchPlayerToReadOnlyDTO(updatedMatchPlayer);
+            playerSeasonStatsService.recordMatchPlayerChange(previous, current, updatedMatchPlayer.getMatch().getMatchDate());
+            eventPublisher.publishEvent(new MatchPlayerChangedEvent(previous, current));
             log.info("Update successful.");
-        } catch (EntityNotFoundException e) {
+        } catch (EntityNotFoundException | StaleEntityException e) {
             log.error(e.getMessage());
             throw e;
         }
@@ -82,10 +162,14 @@ public class MatchPlayerServiceImpl implements IMatchPlayerService {
     @Override
     public MatchPlayer deleteMatchPlayer(Long matchId, Long playerId) throws EntityNotFoundException {
         MatchPlayer matchPlayer = null;
+        MatchPlayerReadOnlyDTO previous;
 
         try {
-            matchPlayer = matchPlayerRepository.findByMatchIdAndPlayerId(matchId, playerId).orElseThrow(() -> new EntityNotFoundException(matchId, playerId));
+            matchPlayer = matchPlayerRepository.findWithMatchByMatchIdAndPlayerId(matchId, playerId).orElseThrow(() -> new EntityNotFoundException(matchId, playerId));
             matchPlayerRepository.deleteByMatchIdAndPlayerId(matchId, playerId);
+            previous = Mapper.mapMatchPlayerToReadOnlyDTO(matchPlayer);
+            playerSeasonStatsService.recordMatchPlayerChange(previous, null, matchPlayer.getMatch().getMatchDate());
+            eventPublisher.publishEvent(new MatchPlayerChangedEvent(previous, null));
             log.info("Deletion successful.");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
@@ -95,11 +179,11 @@ public class MatchPlayerServiceImpl implements IMatchPlayerService {
     }
 
     @Override
-    public MatchPlayer getMatchPlayerByMatchIdAndPlayerId(Long matchId, Long playerId) throws EntityNotFoundException {
-        MatchPlayer matchPlayer;
+    public MatchPlayerReadOnlyDTO getMatchPlayerByMatchIdAndPlayerId(Long matchId, Long playerId) throws EntityNotFoundException {
+        MatchPlayerReadOnlyDTO matchPlayer;
 
         try {
-            matchPlayer = matchPlayerRepository.findByMatchIdAndPlayerId(matchId, playerId).orElseThrow(() -> new EntityNotFoundException(matchId, playerId));
+            matchPlayer = matchPlayerRepository.findReadOnlyDTOByMatchIdAndPlayerId(matchId, playerId).orElseThrow(() -> new EntityNotFoundException(matchId, playerId));
             log.info("Search by id " + matchId + playerId + " was successful");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
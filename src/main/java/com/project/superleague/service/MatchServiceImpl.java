@@ -1,21 +1,37 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetCursor;
+import com.project.superleague.dto.KeysetPage;
 import com.project.superleague.dto.MatchInsertDTO;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.MatchReadOnlyDTO;
 import com.project.superleague.dto.MatchUpdateDTO;
+import com.project.superleague.event.MatchChangedEvent;
+import com.project.superleague.event.MatchPlayerChangedEvent;
 import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Match;
+import com.project.superleague.model.MatchPlayer;
+import com.project.superleague.model.PlayerSeasonStats;
 import com.project.superleague.model.Team;
+import com.project.superleague.repository.MatchPlayerRepository;
 import com.project.superleague.repository.MatchRepository;
 import com.project.superleague.repository.TeamRepository;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Service
 @Slf4j
@@ -23,21 +39,27 @@ import java.util.List;
 public class MatchServiceImpl implements IMatchService {
     private final MatchRepository matchRepository;
     private final TeamRepository teamRepository;
+    private final MatchPlayerRepository matchPlayerRepository;
+    private final IPlayerSeasonStatsService playerSeasonStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
     public Match insertMatch(MatchInsertDTO dto) throws EntityNotFoundException, Exception {
         Match match = null;
+        List<Team> teams;
         Team hostTeam = null;
         Team guestTeam = null;
 
         try {
-            hostTeam = teamRepository.findById(dto.getHostTeamId()).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getHostTeamId()));
-            guestTeam = teamRepository.findById(dto.getGuestTeamId()).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getGuestTeamId()));
+            teams = teamRepository.multiLoad(List.of(dto.getHostTeamId(), dto.getGuestTeamId()));
+            hostTeam = Optional.ofNullable(teams.get(0)).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getHostTeamId()));
+            guestTeam = Optional.ofNullable(teams.get(1)).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getGuestTeamId()));
             match = matchRepository.save(Mapper.mapInsertDTOToMatch(dto, hostTeam, guestTeam));
             if (match.getId() == null) {
                 throw new Exception("Insert error.");
             }
+            eventPublisher.publishEvent(new MatchChangedEvent(null, Mapper.mapMatchToReadOnlyDTO(match)));
             log.info("Insert successful.");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
@@ -51,21 +73,30 @@ public class MatchServiceImpl implements IMatchService {
 
     @Transactional
     @Override
-    public Match updateMatch(MatchUpdateDTO dto) throws EntityNotFoundException {
+    public Match updateMatch(MatchUpdateDTO dto) throws EntityNotFoundException, StaleEntityException {
         Match updatedMatch;
         Match match;
+        MatchReadOnlyDTO previousMatch;
+        List<Team> teams;
         Team hostTeam = null;
         Team guestTeam = null;
 
         try {
             match = matchRepository.findById(dto.getId()).orElseThrow(() -> new EntityNotFoundException(Match.class, dto.getId()));
-            match.deleteHostTeam(match.getHostTeam());
-            match.deleteGuestTeam(match.getGuestTeam());
-            hostTeam = teamRepository.findById(dto.getHostTeamId()).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getHostTeamId()));
-            guestTeam = teamRepository.findById(dto.getGuestTeamId()).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getGuestTeamId()));
-            updatedMatch = matchRepository.save(Mapper.mapUpdateDTOToMatch(dto, hostTeam, guestTeam));
+            if (!dto.getVersion().equals(match.getVersion())) {
+                throw new StaleEntityException(Match.class, dto.getId(), dto.getVersion());
+            }
+            previousMatch = Mapper.mapMatchToReadOnlyDTO(match);
+            teams = teamRepository.multiLoad(List.of(dto.getHostTeamId(), dto.getGuestTeamId()));
+            hostTeam = Optional.ofNullable(teams.get(0)).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getHostTeamId()));
+            guestTeam = Optional.ofNullable(teams.get(1)).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getGuestTeamId()));
+            updatedMatch = matchRepository.saveAndFlush(Mapper.mapUpdateDTOToMatch(dto, match, hostTeam, guestTeam));
+            if (PlayerSeasonStats.seasonOf(previousMatch.getMatchDate()) != PlayerSeasonStats.seasonOf(updatedMatch.getMatchDate())) {
+                playerSeasonStatsService.rebuildPlayerSeasonStats(matchPlayerRepository.findPlayerIdsByMatchId(updatedMatch.getId()));
+            }
+            eventPublisher.publishEvent(new MatchChangedEvent(previousMatch, Mapper.mapMatchToReadOnlyDTO(updatedMatch)));
             log.info("Update successful.");
-        } catch (EntityNotFoundException e) {
+        } catch (EntityNotFoundException | StaleEntityException e) {
             log.error(e.getMessage());
             throw e;
         }
@@ -74,43 +105,61 @@ public class MatchServiceImpl implements IMatchService {
 
     @Transactional
     @Override
-    public Match deleteMatch(Long id) throws EntityNotFoundException {
-        Match match = null;
+    public DeletionResultDTO deleteMatch(Long id) throws EntityNotFoundException {
+        Map<String, Integer> removedRows = new LinkedHashMap<>();
+        MatchReadOnlyDTO match;
+        List<MatchPlayerReadOnlyDTO> matchPlayers;
 
         try {
-            match = matchRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Match.class, id));
-            matchRepository.deleteById(id);
+            match = matchRepository.findReadOnlyDTOById(id).orElseThrow(() -> new EntityNotFoundException(Match.class, id));
+            matchPlayers = matchPlayerRepository.findReadOnlyDTOsByMatchId(id);
+            removedRows.put(MatchPlayer.class.getSimpleName(), matchPlayerRepository.bulkDeleteByMatchId(id));
+            removedRows.put(Match.class.getSimpleName(), matchRepository.bulkDeleteById(id));
+            playerSeasonStatsService.rebuildPlayerSeasonStats(matchPlayers.stream().map(MatchPlayerReadOnlyDTO::getPlayerId).distinct().toList());
+            matchPlayers.forEach(matchPlayer -> eventPublisher.publishEvent(new MatchPlayerChangedEvent(matchPlayer, null)));
+            eventPublisher.publishEvent(new MatchChangedEvent(match, null));
             log.info("Deletion successful.");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
             throw e;
         }
-        return match;
+        return new DeletionResultDTO(id, removedRows);
     }
 
     @Override
-    public List<Match> getMatchByDate(LocalDate date) throws EntityNotFoundException {
-        List<Match> matches = new ArrayList<>();
+    public KeysetPage<MatchReadOnlyDTO> getMatchByDate(LocalDate date, String after, int limit) throws EntityNotFoundException {
+        List<MatchReadOnlyDTO> matches = new ArrayList<>();
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        int pageSize = KeysetPage.clampLimit(limit);
+        String nextCursor = null;
 
         try {
-            matches = matchRepository.findByMatchDate(date);
-            if (matches.isEmpty()) {
+            if (cursor == null) {
+                matches = matchRepository.findReadOnlyDTOsByMatchDate(date, Limit.of(pageSize + 1));
+            } else {
+                matches = matchRepository.findReadOnlyDTOsByMatchDateAfter(date, cursor.getId(), Limit.of(pageSize + 1));
+            }
+            if (matches.isEmpty() && cursor == null) {
                 throw new EntityNotFoundException(Match.class, 0L);
             }
+            if (matches.size() > pageSize) {
+                matches = matches.subList(0, pageSize);
+                nextCursor = new KeysetCursor(matches.get(pageSize - 1).getId(), null).encode();
+            }
             log.info("Matches with date " + date + " were found.");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
             throw e;
         }
-        return matches;
+        return new KeysetPage<>(matches, nextCursor);
     }
 
     @Override
-    public Match getMatchById(Long id) throws EntityNotFoundException {
-        Match match;
+    public MatchReadOnlyDTO getMatchById(Long id) throws EntityNotFoundException {
+        MatchReadOnlyDTO match;
 
         try {
-            match = matchRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Match.class, id));
+            match = matchRepository.findReadOnlyDTOById(id).orElseThrow(() -> new EntityNotFoundException(Match.class, id));
             log.info("Search by id " + id + " was successful");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
@@ -0,0 +1,158 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO;
+import com.project.superleague.mapper.Mapper;
+import com.project.superleague.model.Player;
+import com.project.superleague.model.PlayerSeasonStats;
+import com.project.superleague.repository.MatchPlayerRepository;
+import com.project.superleague.repository.PlayerRepository;
+import com.project.superleague.repository.PlayerSeasonStatsRepository;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.*;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class PlayerSeasonStatsServiceImpl implements IPlayerSeasonStatsService {
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
+    private final MatchPlayerRepository matchPlayerRepository;
+    private final PlayerRepository playerRepository;
+
+    @Override
+    public PlayerSeasonStatsReadOnlyDTO getPlayerSeasonStats(Long playerId, Integer season) throws EntityNotFoundException {
+        PlayerSeasonStatsReadOnlyDTO stats;
+        int requestedSeason = season != null ? season : PlayerSeasonStats.seasonOf(LocalDate.now());
+
+        try {
+            Optional<PlayerSeasonStatsReadOnlyDTO> storedStats = playerSeasonStatsRepository.findReadOnlyDTOByPlayerIdAndSeason(playerId, requestedSeason);
+            if (storedStats.isPresent()) {
+                stats = storedStats.get();
+            } else if (playerRepository.existsById(playerId)) {
+                stats = new PlayerSeasonStatsReadOnlyDTO(playerId, requestedSeason, 0, 0, 0, 0, 0);
+            } else {
+                throw new EntityNotFoundException(Player.class, playerId);
+            }
+            log.info("Stats of player " + playerId + " for season " + requestedSeason + " were found.");
+        } catch (EntityNotFoundException e) {
+            log.error(e.getMessage());
+            throw e;
+        }
+        return stats;
+    }
+
+    @Transactional
+    @Override
+    public void recordMatchPlayerChange(MatchPlayerReadOnlyDTO previous, MatchPlayerReadOnlyDTO current, LocalDate matchDate) {
+        Long playerId = current != null ? current.getPlayerId() : previous.getPlayerId();
+        int season = PlayerSeasonStats.seasonOf(matchDate);
+        int[] delta = totalsOf(current);
+        int[] previousTotals = totalsOf(previous);
+
+        for (int i = 0; i < delta.length; i++) {
+            delta[i] -= previousTotals[i];
+        }
+        if (previous == null) {
+            upsertDelta(playerId, season, delta);
+            return;
+        }
+        if (playerSeasonStatsRepository.applyDelta(playerId, season, delta[0], delta[1], delta[2], delta[3], delta[4]) > 0) {
+            return;
+        }
+        log.warn("Missing stats of player " + playerId + " for season " + season + ", rebuilding.");
+        rebuildPlayerSeasonStats(List.of(playerId));
+    }
+
+    @Transactional
+    @Override
+    public void recordMatchPlayersInserted(Collection<MatchPlayerReadOnlyDTO> matchPlayers, Map<Long, LocalDate> matchDates) {
+        Map<List<Number>, int[]> deltas = new LinkedHashMap<>();
+
+        for (MatchPlayerReadOnlyDTO matchPlayer : matchPlayers) {
+            int[] totals = totalsOf(matchPlayer);
+            int[] delta = deltas.computeIfAbsent(List.of(matchPlayer.getPlayerId(), PlayerSeasonStats.seasonOf(matchDates.get(matchPlayer.getMatchId()))), key -> new int[totals.length]);
+            for (int i = 0; i < totals.length; i++) {
+                delta[i] += totals[i];
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        Set<Long> playerIds = new HashSet<>();
+        Set<Integer> seasons = new HashSet<>();
+        deltas.keySet().forEach(key -> {
+            playerIds.add((Long) key.get(0));
+            seasons.add((Integer) key.get(1));
+        });
+        for (PlayerSeasonStats stats : playerSeasonStatsRepository.findByPlayerIdInAndSeasonIn(playerIds, seasons)) {
+            int[] delta = deltas.remove(List.of(stats.getPlayer().getId(), stats.getSeason()));
+            if (delta != null) {
+                stats.setAppearances(stats.getAppearances() + delta[0]);
+                stats.setMinutesPlayed(stats.getMinutesPlayed() + delta[1]);
+                stats.setGoals(stats.getGoals() + delta[2]);
+                stats.setAssists(stats.getAssists() + delta[3]);
+                stats.setCards(stats.getCards() + delta[4]);
+            }
+        }
+        deltas.forEach((key, delta) -> upsertDelta((Long) key.get(0), (Integer) key.get(1), delta));
+    }
+
+    @Transactional
+    @Override
+    public void rebuildPlayerSeasonStats(Collection<Long> playerIds) {
+        if (playerIds.isEmpty()) {
+            return;
+        }
+        playerSeasonStatsRepository.bulkDeleteByPlayerIdIn(playerIds);
+        playerSeasonStatsRepository.saveAll(playerSeasonStatsRepository.aggregateFromMatchesPlayersByPlayerIdIn(playerIds).stream()
+                .map(dto -> Mapper.mapReadOnlyDTOToPlayerSeasonStats(dto, playerRepository.getReferenceById(dto.getPlayerId())))
+                .toList());
+    }
+
+    @Transactional
+    @Override
+    public int rebuildPlayerSeasonStats() {
+        List<PlayerSeasonStatsReadOnlyDTO> aggregated;
+
+        playerSeasonStatsRepository.bulkDeleteAll();
+        aggregated = playerSeasonStatsRepository.aggregateAllFromMatchesPlayers();
+        playerSeasonStatsRepository.saveAll(aggregated.stream()
+                .map(dto -> Mapper.mapReadOnlyDTOToPlayerSeasonStats(dto, playerRepository.getReferenceById(dto.getPlayerId())))
+                .toList());
+        log.info("Player season stats rebuilt, " + aggregated.size() + " rows.");
+        return aggregated.size();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initializePlayerSeasonStats() {
+        if (playerSeasonStatsRepository.count() == 0 && matchPlayerRepository.count() > 0) {
+            rebuildPlayerSeasonStats();
+        }
+    }
+
+    // A first appearance of the season inserts its row, or adds to the row another transaction inserted meanwhile.
+    private void upsertDelta(Long playerId, int season, int[] delta) {
+        playerSeasonStatsRepository.upsertDelta(playerId, season, delta[0], delta[1], delta[2], delta[3], delta[4]);
+    }
+
+    private static int[] totalsOf(MatchPlayerReadOnlyDTO matchPlayer) {
+        if (matchPlayer == null) {
+            return new int[5];
+        }
+        return new int[] { 1, valueOf(matchPlayer.getPlayTime()), valueOf(matchPlayer.getGoals()), valueOf(matchPlayer.getAssists()), valueOf(matchPlayer.getCards()) };
+    }
+
+    private static int valueOf(Integer value) {
+        return value != null ? value : 0;
+    }
+}
@@ -1,16 +1,30 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetCursor;
+import com.project.superleague.dto.KeysetPage;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
 import com.project.superleague.dto.PlayerInsertDTO;
+import com.project.superleague.dto.PlayerReadOnlyDTO;
 import com.project.superleague.dto.PlayerUpdateDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.event.PlayerChangedEvent;
+import com.project.superleague.event.PlayerDeletedEvent;
 import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.MatchPlayer;
 import com.project.superleague.model.Player;
+import com.project.superleague.model.PlayerSeasonStats;
 import com.project.superleague.model.Team;
+import com.project.superleague.repository.MatchPlayerRepository;
 import com.project.superleague.repository.PlayerRepository;
+import com.project.superleague.repository.PlayerSeasonStatsRepository;
 import com.project.superleague.repository.TeamRepository;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,6 +36,9 @@ import java.util.*;
 public class PlayerServiceImpl implements IPlayerService {
     private final PlayerRepository playerRepository;
     private final TeamRepository teamRepository;
+    private final MatchPlayerRepository matchPlayerRepository;
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -35,6 +52,7 @@ public class PlayerServiceImpl implements IPlayerService {
             if (player.getId() == null) {
                 throw new Exception("Insert error.");
             }
+            eventPublisher.publishEvent(new PlayerChangedEvent(Mapper.mapPlayerToReadOnlyDTO(player)));
             log.info("Insert successful.");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
@@ -48,18 +66,21 @@ public class PlayerServiceImpl implements IPlayerService {
 
     @Transactional
     @Override
-    public Player updatePlayer(PlayerUpdateDTO dto) throws EntityNotFoundException {
+    public Player updatePlayer(PlayerUpdateDTO dto) throws EntityNotFoundException, StaleEntityException {
         Player updatedPlayer;
         Player player;
         Team team = null;
 
         try {
             player = playerRepository.findById(dto.getId()).orElseThrow(() -> new EntityNotFoundException(Player.class, dto.getId()));
-            player.deleteTeam(player.getTeam());
+            if (!dto.getVersion().equals(player.getVersion())) {
+                throw new StaleEntityException(Player.class, dto.getId(), dto.getVersion());
+            }
             team = teamRepository.findById(dto.getTeamId()).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getTeamId()));
-            updatedPlayer = playerRepository.save(Mapper.mapUpdateDTOToPlayer(dto, team));
+            updatedPlayer = playerRepository.saveAndFlush(Mapper.mapUpdateDTOToPlayer(dto, player, team));
+            eventPublisher.publishEvent(new PlayerChangedEvent(Mapper.mapPlayerToReadOnlyDTO(updatedPlayer)));
             log.info("Update successful.");
-        } catch (EntityNotFoundException e) {
+        } catch (EntityNotFoundException | StaleEntityException e) {
             log.error(e.getMessage());
             throw e;
         }
@@ -68,43 +89,63 @@ public class PlayerServiceImpl implements IPlayerService {
 
     @Transactional
     @Override
-    public Player deletePlayer(Long id) throws EntityNotFoundException {
-        Player player = null;
+    public DeletionResultDTO deletePlayer(Long id) throws EntityNotFoundException {
+        Map<String, Integer> removedRows = new LinkedHashMap<>();
+        List<MatchPlayerReadOnlyDTO> matchPlayers;
 
         try {
-            player = playerRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Player.class, id));
-            playerRepository.deleteById(id);
+            if (!playerRepository.existsById(id)) {
+                throw new EntityNotFoundException(Player.class, id);
+            }
+            matchPlayers = matchPlayerRepository.findReadOnlyDTOsByPlayerId(id);
+            removedRows.put(MatchPlayer.class.getSimpleName(), matchPlayerRepository.bulkDeleteByPlayerId(id));
+            removedRows.put(PlayerSeasonStats.class.getSimpleName(), playerSeasonStatsRepository.bulkDeleteByPlayerId(id));
+            removedRows.put(Player.class.getSimpleName(), playerRepository.bulkDeleteById(id));
+            matchPlayers.forEach(matchPlayer -> eventPublisher.publishEvent(new MatchPlayerChangedEvent(matchPlayer, null)));
+            eventPublisher.publishEvent(new PlayerDeletedEvent(id));
             log.info("Deletion successful.");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
             throw e;
         }
-        return player;
+        return new DeletionResultDTO(id, removedRows);
     }
 
     @Override
-    public List<Player> getPlayerByLastname(String lastname) throws EntityNotFoundException {
-        List<Player> players = new ArrayList<>();
+    public KeysetPage<PlayerReadOnlyDTO> getPlayerByLastname(String lastname, String after, int limit) throws EntityNotFoundException {
+        List<PlayerReadOnlyDTO> players = new ArrayList<>();
+        KeysetCursor cursor = KeysetCursor.decodeKeyed(after);
+        int pageSize = KeysetPage.clampLimit(limit);
+        String nextCursor = null;
 
         try {
-            players = playerRepository.findByLastnameStartingWith(lastname);
-            if (players.isEmpty()) {
+            if (cursor == null) {
+                players = playerRepository.findReadOnlyDTOsByLastnameStartingWith(lastname, Limit.of(pageSize + 1));
+            } else {
+                players = playerRepository.findReadOnlyDTOsByLastnameStartingWithAfter(lastname, cursor.getKey(), cursor.getId(), Limit.of(pageSize + 1));
+            }
+            if (players.isEmpty() && cursor == null) {
                 throw new EntityNotFoundException(Player.class, 0L);
             }
+            if (players.size() > pageSize) {
+                players = players.subList(0, pageSize);
+                PlayerReadOnlyDTO last = players.get(pageSize - 1);
+                nextCursor = new KeysetCursor(last.getId(), last.getLastname()).encode();
+            }
             log.info("Players starting with " + lastname + " were found.");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
             throw e;
         }
-        return players;
+        return new KeysetPage<>(players, nextCursor);
     }
 
     @Override
-    public Player getPlayerById(Long id) throws EntityNotFoundException {
-        Player player;
+    public PlayerReadOnlyDTO getPlayerById(Long id) throws EntityNotFoundException {
+        PlayerReadOnlyDTO player;
 
         try {
-            player = playerRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Player.class, id));
+            player = playerRepository.findReadOnlyDTOById(id).orElseThrow(() -> new EntityNotFoundException(Player.class, id));
             log.info("Search by id " + id + " was successful");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
@@ -0,0 +1,114 @@
+package com.project.superleague.service;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SchemaIndexServiceImpl implements ISchemaIndexService {
+    private final DataSource dataSource;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Override
+    public List<String> findMissingIndexes() throws SQLException {
+        List<Table> tables = new ArrayList<>();
+        for (EntityType<?> entityType : entityManagerFactory.getMetamodel().getEntities()) {
+            Table table = entityType.getJavaType().getAnnotation(Table.class);
+            if (table != null && table.indexes().length > 0) {
+                tables.add(table);
+            }
+        }
+        tables.sort(Comparator.comparing(Table::name));
+
+        List<String> missingIndexes = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (Table table : tables) {
+                Collection<List<String>> existingIndexes = findIndexColumns(metaData, connection, table.name());
+                for (Index index : table.indexes()) {
+                    List<String> columns = new ArrayList<>();
+                    for (String column : index.columnList().split(",")) {
+                        columns.add(normalize(column));
+                    }
+                    if (existingIndexes.stream().noneMatch(existing -> startsWith(existing, columns))) {
+                        missingIndexes.add(table.name() + "." + index.name());
+                    }
+                }
+            }
+        }
+        return missingIndexes;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    public void verifyIndexes() {
+        try {
+            List<String> missingIndexes = findMissingIndexes();
+            if (missingIndexes.isEmpty()) {
+                log.info("All declared indexes are present.");
+            } else {
+                log.warn("Missing indexes " + missingIndexes + ", queries on these columns will scan the whole table.");
+            }
+        } catch (SQLException e) {
+            log.warn("Index verification failed: " + e.getMessage());
+        }
+    }
+
+    // Indexes are matched on their leading columns rather than their names, since engines rename the
+    // indexes backing unique constraints and an equivalent index created by hand serves the same queries.
+    private Collection<List<String>> findIndexColumns(DatabaseMetaData metaData, Connection connection, String tableName) throws SQLException {
+        Map<String, List<String>> indexColumns = new HashMap<>();
+        String physicalName = null;
+
+        try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), null, new String[] { "TABLE" })) {
+            while (tables.next() && physicalName == null) {
+                if (normalize(tables.getString("TABLE_NAME")).equals(normalize(tableName))) {
+                    physicalName = tables.getString("TABLE_NAME");
+                }
+            }
+        }
+        if (physicalName == null) {
+            return indexColumns.values();
+        }
+
+        try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), physicalName, false, true)) {
+            while (indexes.next()) {
+                String indexName = indexes.getString("INDEX_NAME");
+                String columnName = indexes.getString("COLUMN_NAME");
+                if (indexName != null && columnName != null) {
+                    List<String> columns = indexColumns.computeIfAbsent(indexName, name -> new ArrayList<>());
+                    int position = indexes.getShort("ORDINAL_POSITION") - 1;
+                    while (columns.size() <= position) {
+                        columns.add(null);
+                    }
+                    columns.set(position, normalize(columnName));
+                }
+            }
+        }
+        return indexColumns.values();
+    }
+
+    private static boolean startsWith(List<String> existing, List<String> columns) {
+        return existing.size() >= columns.size() && existing.subList(0, columns.size()).equals(columns);
+    }
+
+    // The naming strategy turns the mapped CamelCase names into snake_case, and engines differ in case.
+    private static String normalize(String identifier) {
+        return identifier.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+}
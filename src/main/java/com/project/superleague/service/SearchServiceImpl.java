@@ -0,0 +1,223 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.FullTextResultDTO;
+import com.project.superleague.dto.KeysetPage;
+import com.project.superleague.dto.PlayerReadOnlyDTO;
+import com.project.superleague.dto.SearchResultDTO;
+import com.project.superleague.dto.TeamReadOnlyDTO;
+import com.project.superleague.event.PlayerChangedEvent;
+import com.project.superleague.event.PlayerDeletedEvent;
+import com.project.superleague.event.TeamChangedEvent;
+import com.project.superleague.event.TeamDeletedEvent;
+import com.project.superleague.index.InvertedIndex;
+import com.project.superleague.index.PrefixIndex;
+import com.project.superleague.index.SearchDocument;
+import com.project.superleague.mapper.Mapper;
+import com.project.superleague.repository.PlayerRepository;
+import com.project.superleague.repository.TeamRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Answers name autocompletion and full-text search for players and teams from in-memory
+ * indexes, so keystrokes never reach the database. Both indexes follow committed player
+ * and team changes; a team deletion also drops the team's players. Changes committed while
+ * the indexes are rebuilt are replayed on the rebuilt indexes before they replace the old ones.
+ */
+@Service
+@Slf4j
+public class SearchServiceImpl implements ISearchService {
+    private final PlayerRepository playerRepository;
+    private final TeamRepository teamRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private Indexes indexes = new Indexes();
+    private List<Consumer<Indexes>> changesDuringRebuild;
+
+    public SearchServiceImpl(PlayerRepository playerRepository, TeamRepository teamRepository, PlatformTransactionManager transactionManager) {
+        this.playerRepository = playerRepository;
+        this.teamRepository = teamRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public List<SearchResultDTO> search(String query, int limit) {
+        List<SearchDocument> documents;
+        List<SearchResultDTO> results = new ArrayList<>();
+
+        if (PrefixIndex.fold(query).isEmpty()) {
+            throw new IllegalArgumentException("Search query must not be blank.");
+        }
+        lock.readLock().lock();
+        try {
+            documents = indexes.prefixIndex.search(query, KeysetPage.clampLimit(limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (SearchDocument document : documents) {
+            results.add(Mapper.mapSearchDocumentToDTO(document));
+        }
+        return results;
+    }
+
+    @Override
+    public List<FullTextResultDTO> searchFullText(String query, int limit) {
+        List<InvertedIndex.Hit> hits;
+        List<FullTextResultDTO> results = new ArrayList<>();
+
+        if (PrefixIndex.fold(query).isEmpty()) {
+            throw new IllegalArgumentException("Search query must not be blank.");
+        }
+        lock.readLock().lock();
+        try {
+            hits = indexes.invertedIndex.search(query, KeysetPage.clampLimit(limit));
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (InvertedIndex.Hit hit : hits) {
+            results.add(Mapper.mapSearchHitToDTO(hit));
+        }
+        return results;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    public void rebuildSearchIndex() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Indexes rebuilt = new Indexes();
+            try {
+                readOnlyTransaction.executeWithoutResult(status -> {
+                    try (Stream<TeamReadOnlyDTO> teams = teamRepository.streamAllReadOnlyDTOs()) {
+                        teams.forEach(team -> rebuilt.put(Mapper.mapTeamReadOnlyDTOToSearchDocument(team), texts(team)));
+                    }
+                    try (Stream<PlayerReadOnlyDTO> players = playerRepository.streamAllReadOnlyDTOs()) {
+                        players.forEach(player -> rebuilt.put(Mapper.mapPlayerReadOnlyDTOToSearchDocument(player), texts(player)));
+                    }
+                });
+            } catch (RuntimeException e) {
+                stopRecordingChanges();
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild.forEach(change -> change.accept(rebuilt));
+                changesDuringRebuild = null;
+                indexes = rebuilt;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Search indexes rebuilt for " + rebuilt.prefixIndex.size() + " players and teams.");
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerChanged(PlayerChangedEvent event) {
+        SearchDocument document = Mapper.mapPlayerReadOnlyDTOToSearchDocument(event.getPlayer());
+        List<String> texts = texts(event.getPlayer());
+
+        change(target -> target.put(document, texts));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamChanged(TeamChangedEvent event) {
+        SearchDocument document = Mapper.mapTeamReadOnlyDTOToSearchDocument(event.getTeam());
+        List<String> texts = texts(event.getTeam());
+
+        change(target -> target.put(document, texts));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPlayerDeleted(PlayerDeletedEvent event) {
+        SearchDocument document = new SearchDocument(SearchDocument.PLAYER, event.getPlayerId(), null, null);
+
+        change(target -> {
+            target.prefixIndex.remove(document);
+            target.invertedIndex.remove(document);
+        });
+    }
+
+    // Teams carry their own id as team id, so this removes the team together with its players.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamDeleted(TeamDeletedEvent event) {
+        Predicate<SearchDocument> ofTeam = document -> Objects.equals(document.getTeamId(), event.getTeamId());
+
+        change(target -> {
+            target.prefixIndex.removeIf(ofTeam);
+            target.invertedIndex.removeIf(ofTeam);
+        });
+    }
+
+    /**
+     * Applies a committed change to the live indexes and, while a rebuild is streaming, records it for the rebuilt ones.
+     */
+    private void change(Consumer<Indexes> change) {
+        lock.writeLock().lock();
+        try {
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+            change.accept(indexes);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void stopRecordingChanges() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<String> texts(PlayerReadOnlyDTO player) {
+        return Arrays.asList(player.getFirstname(), player.getLastname(), player.getNationality(), player.getPlayerRole());
+    }
+
+    private static List<String> texts(TeamReadOnlyDTO team) {
+        return Arrays.asList(team.getTeamName(), team.getCityName(), team.getStadiumName());
+    }
+
+    private static class Indexes {
+        private final PrefixIndex prefixIndex = new PrefixIndex();
+        private final InvertedIndex invertedIndex = new InvertedIndex();
+
+        private void put(SearchDocument document, List<String> texts) {
+            prefixIndex.put(document);
+            invertedIndex.put(document, texts);
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import com.project.superleague.dto.StandingReadOnlyDTO;
+import com.project.superleague.event.MatchChangedEvent;
+import com.project.superleague.event.TeamDeletedEvent;
+import com.project.superleague.mapper.Mapper;
+import com.project.superleague.model.TeamStanding;
+import com.project.superleague.repository.MatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+@Service
+@Slf4j
+public class StandingsServiceImpl implements IStandingsService {
+    private static final Comparator<TeamStanding> RANKING = Comparator.comparingInt(TeamStanding::getPoints).reversed()
+            .thenComparing(Comparator.comparingInt(TeamStanding::getGoalDifference).reversed())
+            .thenComparing(Comparator.comparingInt(TeamStanding::getGoalsFor).reversed())
+            .thenComparing(TeamStanding::getTeamId);
+
+    private final MatchRepository matchRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Map<Long, TeamStanding> standings = new HashMap<>();
+    private final Map<Long, MatchReadOnlyDTO> appliedMatches = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+    private List<MatchChangedEvent> eventsDuringRebuild;
+
+    public StandingsServiceImpl(MatchRepository matchRepository, PlatformTransactionManager transactionManager) {
+        this.matchRepository = matchRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Override
+    public List<StandingReadOnlyDTO> getStandings() {
+        List<TeamStanding> ordered;
+
+        lock.readLock().lock();
+        try {
+            ordered = new ArrayList<>(standings.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+        ordered.sort(RANKING);
+
+        List<StandingReadOnlyDTO> standingsReadOnlyDTOS = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            standingsReadOnlyDTOS.add(Mapper.mapTeamStandingToReadOnlyDTO(ordered.get(i), i + 1));
+        }
+        return standingsReadOnlyDTOS;
+    }
+
+    // The matches are streamed before the lock is taken, so a request thread never holds a monitor
+    // across JDBC calls, which would pin its carrier when running on a virtual thread.
+    // Events committed while the matches are streamed are recorded and replayed on the rebuilt state. Applying a
+    // match is idempotent by version, so an event the stream already saw is neither lost nor counted twice.
+    @EventListener(ApplicationReadyEvent.class)
+    @Override
+    public void rebuildStandings() {
+        rebuildLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                eventsDuringRebuild = new ArrayList<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Map<Long, MatchReadOnlyDTO> matches;
+            try {
+                matches = loadMatches();
+            } catch (RuntimeException e) {
+                stopRecordingEvents();
+                throw e;
+            }
+
+            lock.writeLock().lock();
+            try {
+                appliedMatches.clear();
+                appliedMatches.putAll(matches);
+                standings.clear();
+                standings.putAll(computeStandings(matches.values()));
+                eventsDuringRebuild.forEach(event -> applyEvent(appliedMatches, standings, event));
+                eventsDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Standings rebuilt from " + matches.size() + " matches.");
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    @Override
+    public List<Long> verifyStandings() {
+        Map<Long, TeamStanding> recomputed = computeStandings(loadMatches().values());
+        Set<Long> teamIds = new TreeSet<>(recomputed.keySet());
+        List<Long> mismatchedTeamIds = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            teamIds.addAll(standings.keySet());
+            for (Long teamId : teamIds) {
+                if (!Objects.equals(standings.get(teamId), recomputed.get(teamId))) {
+                    mismatchedTeamIds.add(teamId);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (!mismatchedTeamIds.isEmpty()) {
+            log.error("Standings mismatch for teams " + mismatchedTeamIds);
+        }
+        return mismatchedTeamIds;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMatchChanged(MatchChangedEvent event) {
+        lock.writeLock().lock();
+        try {
+            if (eventsDuringRebuild != null) {
+                eventsDuringRebuild.add(event);
+            }
+            applyEvent(appliedMatches, standings, event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTeamDeleted(TeamDeletedEvent event) {
+        rebuildStandings();
+    }
+
+    private void stopRecordingEvents() {
+        lock.writeLock().lock();
+        try {
+            eventsDuringRebuild = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Map<Long, MatchReadOnlyDTO> loadMatches() {
+        return readOnlyTransaction.execute(status -> {
+            Map<Long, MatchReadOnlyDTO> matches = new HashMap<>();
+
+            try (Stream<MatchReadOnlyDTO> stream = matchRepository.streamAllReadOnlyDTOs()) {
+                stream.forEach(match -> matches.put(match.getId(), match));
+            }
+            return matches;
+        });
+    }
+
+    private static Map<Long, TeamStanding> computeStandings(Collection<MatchReadOnlyDTO> matches) {
+        Map<Long, TeamStanding> computed = new HashMap<>();
+
+        matches.forEach(match -> applyMatch(computed, match, 1));
+        return computed;
+    }
+
+    /**
+     * Replaces the applied state of the changed match. A change that is not newer than the applied version was
+     * already counted and is ignored.
+     */
+    private static void applyEvent(Map<Long, MatchReadOnlyDTO> matches, Map<Long, TeamStanding> target, MatchChangedEvent event) {
+        MatchReadOnlyDTO current = event.getCurrent();
+
+        if (current == null) {
+            MatchReadOnlyDTO applied = matches.remove(event.getPrevious().getId());
+            if (applied != null) {
+                applyMatch(target, applied, -1);
+            }
+            return;
+        }
+
+        MatchReadOnlyDTO applied = matches.get(current.getId());
+        if (applied != null && applied.getVersion() != null && current.getVersion() != null
+                && applied.getVersion() >= current.getVersion()) {
+            return;
+        }
+        if (applied != null) {
+            applyMatch(target, applied, -1);
+        }
+        applyMatch(target, current, 1);
+        matches.put(current.getId(), current);
+    }
+
+    private static void applyMatch(Map<Long, TeamStanding> target, MatchReadOnlyDTO match, int sign) {
+        applyResult(target, match.getHostTeamId(), match.getGoalsHost(), match.getGoalsGuest(), sign);
+        applyResult(target, match.getGuestTeamId(), match.getGoalsGuest(), match.getGoalsHost(), sign);
+    }
+
+    private static void applyResult(Map<Long, TeamStanding> target, Long teamId, int scored, int conceded, int sign) {
+        TeamStanding standing = target.computeIfAbsent(teamId, TeamStanding::new);
+        standing.applyResult(scored, conceded, sign);
+        if (standing.isEmpty()) {
+            target.remove(teamId);
+        }
+    }
+}
@@ -1,20 +1,39 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetCursor;
+import com.project.superleague.dto.KeysetPage;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
 import com.project.superleague.dto.TeamInsertDTO;
+import com.project.superleague.dto.TeamReadOnlyDTO;
 import com.project.superleague.dto.TeamUpdateDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.event.TeamChangedEvent;
+import com.project.superleague.event.TeamDeletedEvent;
 import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Match;
+import com.project.superleague.model.MatchPlayer;
 import com.project.superleague.model.Player;
+import com.project.superleague.model.PlayerSeasonStats;
 import com.project.superleague.model.Team;
+import com.project.superleague.repository.MatchPlayerRepository;
+import com.project.superleague.repository.MatchRepository;
+import com.project.superleague.repository.PlayerRepository;
+import com.project.superleague.repository.PlayerSeasonStatsRepository;
 import com.project.superleague.repository.TeamRepository;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Service
@@ -22,6 +41,12 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class TeamServiceImpl implements ITeamService {
     private final TeamRepository teamRepository;
+    private final MatchRepository matchRepository;
+    private final PlayerRepository playerRepository;
+    private final MatchPlayerRepository matchPlayerRepository;
+    private final PlayerSeasonStatsRepository playerSeasonStatsRepository;
+    private final IPlayerSeasonStatsService playerSeasonStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     @Override
@@ -33,6 +58,7 @@ public class TeamServiceImpl implements ITeamService {
             if (team.getId() == null) {
                 throw new Exception("Insert error.");
             }
+            eventPublisher.publishEvent(new TeamChangedEvent(Mapper.mapTeamToReadOnlyDTO(team)));
             log.info("Insert successful.");
         } catch (Exception e) {
             log.error(e.getMessage());
@@ -43,14 +69,19 @@ public class TeamServiceImpl implements ITeamService {
 
     @Transactional
     @Override
-    public Team updateTeam(TeamUpdateDTO dto) throws EntityNotFoundException {
+    public Team updateTeam(TeamUpdateDTO dto) throws EntityNotFoundException, StaleEntityException {
         Team updatedTeam;
+        Team team;
 
         try {
-            teamRepository.findById(dto.getId()).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getId()));
-            updatedTeam = teamRepository.save(Mapper.mapUpdateDTOToTeam(dto));
+            team = teamRepository.findById(dto.getId()).orElseThrow(() -> new EntityNotFoundException(Team.class, dto.getId()));
+            if (!dto.getVersion().equals(team.getVersion())) {
+                throw new StaleEntityException(Team.class, dto.getId(), dto.getVersion());
+            }
+            updatedTeam = teamRepository.saveAndFlush(Mapper.mapUpdateDTOToTeam(dto, team));
+            eventPublisher.publishEvent(new TeamChangedEvent(Mapper.mapTeamToReadOnlyDTO(updatedTeam)));
             log.info("Update successful.");
-        } catch (EntityNotFoundException e) {
+        } catch (EntityNotFoundException | StaleEntityException e) {
             log.error(e.getMessage());
             throw e;
         }
@@ -59,43 +90,66 @@ public class TeamServiceImpl implements ITeamService {
 
     @Transactional
     @Override
-    public Team deleteTeam(Long id) throws EntityNotFoundException {
-        Team team = null;
+    public DeletionResultDTO deleteTeam(Long id) throws EntityNotFoundException {
+        Map<String, Integer> removedRows = new LinkedHashMap<>();
+        List<MatchPlayerReadOnlyDTO> matchPlayers;
 
         try {
-            team = teamRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Team.class, id));
-            teamRepository.deleteById(id);
+            if (!teamRepository.existsById(id)) {
+                throw new EntityNotFoundException(Team.class, id);
+            }
+            matchPlayers = matchPlayerRepository.findReadOnlyDTOsByTeamId(id);
+            removedRows.put(MatchPlayer.class.getSimpleName(), matchPlayerRepository.bulkDeleteByTeamId(id));
+            removedRows.put(Match.class.getSimpleName(), matchRepository.bulkDeleteByTeamId(id));
+            removedRows.put(PlayerSeasonStats.class.getSimpleName(), playerSeasonStatsRepository.bulkDeleteByTeamId(id));
+            playerSeasonStatsService.rebuildPlayerSeasonStats(matchPlayers.stream().map(MatchPlayerReadOnlyDTO::getPlayerId).distinct().toList());
+            removedRows.put(Player.class.getSimpleName(), playerRepository.bulkDeleteByTeamId(id));
+            removedRows.put(Team.class.getSimpleName(), teamRepository.bulkDeleteById(id));
+            matchPlayers.forEach(matchPlayer -> eventPublisher.publishEvent(new MatchPlayerChangedEvent(matchPlayer, null)));
+            eventPublisher.publishEvent(new TeamDeletedEvent(id));
             log.info("Deletion successful.");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
             throw e;
         }
-        return team;
+        return new DeletionResultDTO(id, removedRows);
     }
 
     @Override
-    public List<Team> getTeamByName(String teamname) throws EntityNotFoundException {
-        List<Team> teams = new ArrayList<>();
+    public KeysetPage<TeamReadOnlyDTO> getTeamByName(String teamname, String after, int limit) throws EntityNotFoundException {
+        List<TeamReadOnlyDTO> teams = new ArrayList<>();
+        KeysetCursor cursor = KeysetCursor.decodeKeyed(after);
+        int pageSize = KeysetPage.clampLimit(limit);
+        String nextCursor = null;
 
         try {
-            teams = teamRepository.findByTeamNameStartingWith(teamname);
-            if (teams.isEmpty()) {
+            if (cursor == null) {
+                teams = teamRepository.findReadOnlyDTOsByTeamNameStartingWith(teamname, Limit.of(pageSize + 1));
+            } else {
+                teams = teamRepository.findReadOnlyDTOsByTeamNameStartingWithAfter(teamname, cursor.getKey(), cursor.getId(), Limit.of(pageSize + 1));
+            }
+            if (teams.isEmpty() && cursor == null) {
                 throw new EntityNotFoundException(Team.class, 0L);
             }
+            if (teams.size() > pageSize) {
+                teams = teams.subList(0, pageSize);
+                TeamReadOnlyDTO last = teams.get(pageSize - 1);
+                nextCursor = new KeysetCursor(last.getId(), last.getTeamName()).encode();
+            }
             log.info("Teams starting with " + teamname + " were found.");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
             throw e;
         }
-        return teams;
+        return new KeysetPage<>(teams, nextCursor);
     }
 
     @Override
-    public Team getTeamById(Long id) throws EntityNotFoundException {
-        Team team;
+    public TeamReadOnlyDTO getTeamById(Long id) throws EntityNotFoundException {
+        TeamReadOnlyDTO team;
 
         try {
-            team = teamRepository.findById(id).orElseThrow(() -> new EntityNotFoundException(Team.class, id));
+            team = teamRepository.findReadOnlyDTOById(id).orElseThrow(() -> new EntityNotFoundException(Team.class, id));
             log.info("Search by id " + id + " was successful");
         } catch (EntityNotFoundException e) {
             log.error(e.getMessage());
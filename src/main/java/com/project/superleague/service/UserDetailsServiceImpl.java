@@ -1,29 +1,82 @@
 package com.project.superleague.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.project.superleague.dto.CacheStatsDTO;
+import com.project.superleague.event.UserChangedEvent;
 import com.project.superleague.model.UserPrincipal;
 import com.project.superleague.model.Users;
 import com.project.superleague.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-public class UserDetailsServiceImpl implements UserDetailsService {
+public class UserDetailsServiceImpl implements UserDetailsService, UserDetailsPasswordService {
+    public static final String CACHE_NAME = "userDetails";
+
     private final UserRepository userRepository;
+    private final Cache<String, UserDetails> userDetailsCache;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        UserDetails cached = userDetailsCache.getIfPresent(username);
+        if (cached != null) {
+            return cached;
+        }
+
         Users user = userRepository.findByUsername(username);
         if (user == null) {
             log.error("User not found.");
             throw new UsernameNotFoundException("User not found.");
         }
 
+        UserDetails userDetails = new UserPrincipal(user);
+        userDetailsCache.put(username, userDetails);
+        return userDetails;
+    }
+
+    @Transactional
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        Users user = userRepository.findByUsername(userDetails.getUsername());
+        if (user == null) {
+            return userDetails;
+        }
+
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        log.info("Password hash of user " + user.getUsername() + " rehashed.");
         return new UserPrincipal(user);
     }
-}
\ No newline at end of file
+
+    public void evictUser(String username) {
+        userDetailsCache.invalidate(username);
+    }
+
+    public void evictAll() {
+        userDetailsCache.invalidateAll();
+        log.info("User details cache cleared.");
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evictUser(event.getUsername());
+        if (event.getPreviousUsername() != null && !event.getPreviousUsername().equals(event.getUsername())) {
+            evictUser(event.getPreviousUsername());
+        }
+    }
+
+    public CacheStatsDTO getCacheStats() {
+        CacheStats stats = userDetailsCache.stats();
+        return new CacheStatsDTO(CACHE_NAME, userDetailsCache.estimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+    }
+}
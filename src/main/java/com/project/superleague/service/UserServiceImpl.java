@@ -6,18 +6,31 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @Slf4j
 @RequiredArgsConstructor
 public class UserServiceImpl implements IUserService {
     private final IJWTService jwtService;
     private final AuthenticationManager authenticationManager;
+    private final ThreadPoolTaskExecutor loginExecutor;
 
     public String verifyUser(UserLoginDTO userLoginDTO) {
-        authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(userLoginDTO.getUsername(), userLoginDTO.getPassword()));
-        return jwtService.generateToken(userLoginDTO.getUsername());
+        Authentication authentication = authenticationManager.authenticate(new UsernamePasswordAuthenticationToken(userLoginDTO.getUsername(), userLoginDTO.getPassword()));
+        return jwtService.generateToken(userLoginDTO.getUsername(), authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+
+    public CompletableFuture<String> verifyUserAsync(UserLoginDTO userLoginDTO) {
+        return CompletableFuture.supplyAsync(() -> verifyUser(userLoginDTO), loginExecutor);
+    }
+
+    public void logoutUser(String token) {
+        jwtService.revokeToken(jwtService.parseToken(token));
     }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.project.superleague.service.exception;
+
+public class StaleEntityException extends Exception {
+    private static final long serialVersionUID = 3L;
+
+    public StaleEntityException(Class<?> entityClass, Long id, Long version) {
+        super("Entity " + entityClass.getSimpleName() + " with id " + id + " was modified after version " + version + ".");
+    }
+
+    public StaleEntityException(Long matchId, Long playerId, Long version) {
+        super("Entity MatchPlayer with match id " + matchId + " and player id " + playerId + " was modified after version " + version + ".");
+    }
+}
@@ -0,0 +1,36 @@
+package com.project.superleague.config;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+public class VirtualThreadPinningMonitorTests {
+
+    @Test
+    public void VirtualThreadPinningMonitor_BlockingInsideMonitor_CountsPinnedThread() throws Exception {
+        VirtualThreadPinningMonitor monitor = new VirtualThreadPinningMonitor(Duration.ofMillis(10));
+        Object lock = new Object();
+
+        try {
+            Thread.ofVirtual().start(() -> {
+                synchronized (lock) {
+                    try {
+                        Thread.sleep(50);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }).join();
+
+            long deadline = System.currentTimeMillis() + 10_000;
+            while (monitor.getPinnedCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+
+            Assertions.assertThat(monitor.getPinnedCount()).isPositive();
+        } finally {
+            monitor.close();
+        }
+    }
+}
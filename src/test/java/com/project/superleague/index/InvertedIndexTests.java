@@ -0,0 +1,58 @@
+package com.project.superleague.index;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class InvertedIndexTests {
+    private InvertedIndex invertedIndex;
+    private SearchDocument giorgos;
+    private SearchDocument georgiou;
+    private SearchDocument aris;
+
+    @BeforeEach
+    public void init() {
+        invertedIndex = new InvertedIndex();
+        giorgos = new SearchDocument(SearchDocument.PLAYER, 1L, "Giorgos Masouras", 1L);
+        georgiou = new SearchDocument(SearchDocument.PLAYER, 2L, "Nikos Georgiou", 2L);
+        aris = new SearchDocument(SearchDocument.TEAM, 2L, "Aris", 2L);
+
+        invertedIndex.put(giorgos, Arrays.asList("Giorgos", "Masouras", "Greece", "Forward"));
+        invertedIndex.put(georgiou, Arrays.asList("Nikos", "Georgiou", "Greece", null));
+        invertedIndex.put(aris, List.of("Aris", "Thessaloniki", "Kleanthis Vikelidis"));
+    }
+
+    @Test
+    public void InvertedIndex_Search_MatchesAnyFieldAndSubstring() {
+        Assertions.assertThat(invertedIndex.search("giorgos", 10)).extracting(InvertedIndex.Hit::getDocument).containsExactly(giorgos);
+        Assertions.assertThat(invertedIndex.search("ouras", 10)).extracting(InvertedIndex.Hit::getDocument).containsExactly(giorgos);
+        Assertions.assertThat(invertedIndex.search("saloni", 10)).extracting(InvertedIndex.Hit::getDocument).containsExactly(aris);
+        Assertions.assertThat(invertedIndex.search("GREECE", 10)).extracting(InvertedIndex.Hit::getDocument).containsExactlyInAnyOrder(giorgos, georgiou);
+    }
+
+    @Test
+    public void InvertedIndex_Search_ToleratesTyposAndRanksBetterMatchFirst() {
+        List<InvertedIndex.Hit> hits = invertedIndex.search("giorgso", 10);
+
+        Assertions.assertThat(hits).extracting(InvertedIndex.Hit::getDocument).startsWith(giorgos);
+        Assertions.assertThat(invertedIndex.search("giorgos greece", 10)).extracting(InvertedIndex.Hit::getDocument).containsExactly(giorgos, georgiou);
+        Assertions.assertThat(invertedIndex.search("giorgos greece", 1)).hasSize(1);
+        Assertions.assertThat(invertedIndex.search("xyz", 10)).isEmpty();
+    }
+
+    @Test
+    public void InvertedIndex_PutAndRemove_ReplacesDocumentTexts() {
+        invertedIndex.put(giorgos, List.of("Giorgos", "Giakoumakis"));
+
+        Assertions.assertThat(invertedIndex.search("masouras", 10)).isEmpty();
+        Assertions.assertThat(invertedIndex.search("giakoumakis", 10)).hasSize(1);
+
+        invertedIndex.removeIf(document -> document.getTeamId() == 2L);
+
+        Assertions.assertThat(invertedIndex.size()).isEqualTo(1);
+        Assertions.assertThat(invertedIndex.search("aris", 10)).isEmpty();
+    }
+}
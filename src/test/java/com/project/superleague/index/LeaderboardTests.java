@@ -0,0 +1,38 @@
+package com.project.superleague.index;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class LeaderboardTests {
+
+    @Test
+    public void Leaderboard_Add_RanksByTotalThenPlayerId() {
+        Leaderboard leaderboard = new Leaderboard();
+
+        leaderboard.add(3L, 2);
+        leaderboard.add(1L, 5);
+        leaderboard.add(2L, 2);
+        leaderboard.add(3L, 1);
+
+        Assertions.assertThat(leaderboard.range(0, 10)).extracting(Leaderboard.Entry::getPlayerId).containsExactly(1L, 3L, 2L);
+        Assertions.assertThat(leaderboard.rankOf(2L)).isEqualTo(3);
+        Assertions.assertThat(leaderboard.totalOf(3L)).isEqualTo(3L);
+
+        leaderboard.remove(1L);
+
+        Assertions.assertThat(leaderboard.rankOf(3L)).isEqualTo(1);
+        Assertions.assertThat(leaderboard.rankOf(1L)).isNull();
+    }
+
+    @Test
+    public void Leaderboard_Add_TotalDropsToZero_RemovesPlayer() {
+        Leaderboard leaderboard = new Leaderboard();
+
+        leaderboard.add(1L, 2);
+        leaderboard.add(2L, 0);
+        leaderboard.add(1L, -2);
+
+        Assertions.assertThat(leaderboard.size()).isZero();
+        Assertions.assertThat(leaderboard.rankOf(1L)).isNull();
+    }
+}
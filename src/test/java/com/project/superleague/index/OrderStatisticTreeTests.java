@@ -0,0 +1,51 @@
+package com.project.superleague.index;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+public class OrderStatisticTreeTests {
+
+    @Test
+    public void OrderStatisticTree_RandomOperations_MatchSortedSet() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 20000; i++) {
+            int value = random.nextInt(2000);
+            if (random.nextInt(3) == 0) {
+                Assertions.assertThat(tree.remove(value)).isEqualTo(expected.remove(value));
+            } else {
+                Assertions.assertThat(tree.add(value)).isEqualTo(expected.add(value));
+            }
+        }
+
+        List<Integer> sorted = new ArrayList<>(expected);
+        Assertions.assertThat(tree.size()).isEqualTo(sorted.size());
+        Assertions.assertThat(tree.range(0, sorted.size())).isEqualTo(sorted);
+        for (int i = 0; i < sorted.size(); i += 7) {
+            Assertions.assertThat(tree.get(i)).isEqualTo(sorted.get(i));
+            Assertions.assertThat(tree.indexOf(sorted.get(i))).isEqualTo(i);
+        }
+        Assertions.assertThat(tree.indexOf(-1)).isEqualTo(-1);
+    }
+
+    @Test
+    public void OrderStatisticTree_Range_ReturnsPageFromOffset() {
+        OrderStatisticTree<Integer> tree = new OrderStatisticTree<>(Comparator.reverseOrder());
+
+        for (int i = 1; i <= 100; i++) {
+            tree.add(i);
+        }
+
+        Assertions.assertThat(tree.range(10, 3)).containsExactly(90, 89, 88);
+        Assertions.assertThat(tree.range(98, 5)).containsExactly(2, 1);
+        Assertions.assertThat(tree.range(100, 5)).isEmpty();
+    }
+}
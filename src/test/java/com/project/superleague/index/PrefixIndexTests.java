@@ -0,0 +1,49 @@
+package com.project.superleague.index;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PrefixIndexTests {
+
+    @Test
+    public void PrefixIndex_Fold_RemovesCaseAndAccents() {
+        Assertions.assertThat(PrefixIndex.fold("  Ολυμπιακός   Πειραιώς ")).isEqualTo("ολυμπιακοσ πειραιωσ");
+        Assertions.assertThat(PrefixIndex.fold("Müller")).isEqualTo("muller");
+    }
+
+    @Test
+    public void PrefixIndex_Search_MatchesAnyWordOncePerDocument() {
+        PrefixIndex prefixIndex = new PrefixIndex();
+        SearchDocument dijk = new SearchDocument(SearchDocument.PLAYER, 1L, "Virgil Van Dijk", 1L);
+        SearchDocument vanEck = new SearchDocument(SearchDocument.PLAYER, 2L, "Vangelis Vanek", 1L);
+        SearchDocument panathinaikos = new SearchDocument(SearchDocument.TEAM, 1L, "Παναθηναϊκός", 1L);
+
+        prefixIndex.put(dijk);
+        prefixIndex.put(vanEck);
+        prefixIndex.put(panathinaikos);
+
+        Assertions.assertThat(prefixIndex.search("VAN", 10)).extracting(SearchDocument::getId).containsExactly(1L, 2L);
+        Assertions.assertThat(prefixIndex.search("dij", 10)).containsExactly(dijk);
+        Assertions.assertThat(prefixIndex.search("van d", 10)).containsExactly(dijk);
+        Assertions.assertThat(prefixIndex.search("παναθηναι", 10)).containsExactly(panathinaikos);
+        Assertions.assertThat(prefixIndex.search("v", 1)).hasSize(1);
+    }
+
+    @Test
+    public void PrefixIndex_PutAndRemove_ReplacesPreviousName() {
+        PrefixIndex prefixIndex = new PrefixIndex();
+
+        prefixIndex.put(new SearchDocument(SearchDocument.TEAM, 1L, "Aris", 1L));
+        prefixIndex.put(new SearchDocument(SearchDocument.TEAM, 1L, "Atromitos", 1L));
+        prefixIndex.put(new SearchDocument(SearchDocument.PLAYER, 5L, "Aris Player", 1L));
+        prefixIndex.put(new SearchDocument(SearchDocument.PLAYER, 6L, "Other Player", 2L));
+
+        Assertions.assertThat(prefixIndex.search("aris", 10)).extracting(SearchDocument::getType).containsExactly(SearchDocument.PLAYER);
+        Assertions.assertThat(prefixIndex.search("atro", 10)).hasSize(1);
+
+        prefixIndex.removeIf(document -> document.getTeamId() == 1L);
+
+        Assertions.assertThat(prefixIndex.size()).isEqualTo(1);
+        Assertions.assertThat(prefixIndex.search("a", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,160 @@
+package com.project.superleague.live;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+public class LiveHubTests {
+
+    @Test
+    public void LiveHub_Publish_FansOutToTopicSubscribers() {
+        LiveHub<Long, String> hub = new LiveHub<>(Runnable::run, 4);
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        List<String> other = new ArrayList<>();
+
+        hub.subscribe(1L, first::add);
+        hub.subscribe(1L, second::add);
+        hub.subscribe(2L, other::add);
+
+        Assertions.assertThat(hub.publish(1L, "1-0")).isEqualTo(2);
+        Assertions.assertThat(hub.publish(3L, "0-0")).isZero();
+        Assertions.assertThat(first).containsExactly("1-0");
+        Assertions.assertThat(second).containsExactly("1-0");
+        Assertions.assertThat(other).isEmpty();
+    }
+
+    @Test
+    public void LiveHub_SlowSubscriber_DropsOldestMessages() {
+        Queue<Runnable> pending = new ArrayDeque<>();
+        LiveHub<Long, String> hub = new LiveHub<>(pending::add, 2);
+        List<String> received = new ArrayList<>();
+        LiveSubscription subscription = hub.subscribe(1L, received::add);
+
+        hub.publish(1L, "1-0");
+        hub.publish(1L, "2-0");
+        hub.publish(1L, "2-1");
+        hub.publish(1L, "3-1");
+
+        Assertions.assertThat(pending).hasSize(1);
+        pending.poll().run();
+
+        Assertions.assertThat(received).containsExactly("2-1", "3-1");
+        Assertions.assertThat(subscription.getDroppedCount()).isEqualTo(2);
+    }
+
+    @Test
+    public void LiveHub_FailingSender_IsUnsubscribed() {
+        LiveHub<Long, String> hub = new LiveHub<>(Runnable::run, 4);
+        LiveSubscription subscription = hub.subscribe(1L, message -> {
+            throw new IllegalStateException("Client disconnected.");
+        });
+
+        hub.publish(1L, "1-0");
+
+        Assertions.assertThat(subscription.isClosed()).isTrue();
+        Assertions.assertThat(hub.getSubscriberCount(1L)).isZero();
+        Assertions.assertThat(hub.getTopicCount()).isZero();
+    }
+
+    @Test
+    public void LiveHub_CloseTopic_ClosesSenders() {
+        LiveHub<Long, String> hub = new LiveHub<>(Runnable::run, 4);
+        List<String> closed = new ArrayList<>();
+        LiveSubscription subscription = hub.subscribe(1L, new LiveHub.Sender<>() {
+            @Override
+            public void send(String message) {
+            }
+
+            @Override
+            public void close() {
+                closed.add("closed");
+            }
+        });
+
+        hub.closeTopic(1L);
+        hub.publish(1L, "1-0");
+
+        Assertions.assertThat(subscription.isClosed()).isTrue();
+        Assertions.assertThat(closed).containsExactly("closed");
+    }
+
+    @Test
+    public void LiveHub_CoalescingKey_MergesBufferedMessages() {
+        Queue<Runnable> pending = new ArrayDeque<>();
+        LiveHub<Long, String> hub = new LiveHub<>(pending::add, 4, message -> message.charAt(0), (older, newer) -> older + newer.substring(1),
+                LiveHub.OverflowPolicy.DROP_OLDEST);
+        List<List<String>> batches = new ArrayList<>();
+        hub.subscribe(1L, new LiveHub.Sender<>() {
+            @Override
+            public void send(String message) {
+            }
+
+            @Override
+            public void sendAll(List<String> messages) {
+                batches.add(messages);
+            }
+        });
+
+        hub.publish(1L, "a1");
+        hub.publish(1L, "b1");
+        hub.publish(1L, "a2");
+        hub.publish(1L, "a3");
+        pending.poll().run();
+
+        Assertions.assertThat(batches).containsExactly(List.of("a123", "b1"));
+    }
+
+    @Test
+    public void LiveHub_PublishToSeveralTopics_DeliversOncePerSubscription() {
+        LiveHub<String, String> hub = new LiveHub<>(Runnable::run, 4);
+        List<String> received = new ArrayList<>();
+        LiveHub<String, String>.Subscription subscription = hub.subscribe(received::add);
+
+        subscription.follow("match:1");
+        subscription.follow("player:7");
+
+        Assertions.assertThat(hub.publish(List.of("match:1", "player:7"), "goal")).isEqualTo(1);
+
+        subscription.unfollow("match:1");
+        hub.publish("match:1", "assist");
+
+        Assertions.assertThat(received).containsExactly("goal");
+        Assertions.assertThat(hub.getTopicCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void LiveHub_OverflowPolicyClose_ClosesSubscriptionInsteadOfDropping() {
+        Queue<Runnable> pending = new ArrayDeque<>();
+        LiveHub<Long, String> hub = new LiveHub<>(pending::add, 2, message -> message.charAt(0), (older, newer) -> newer,
+                LiveHub.OverflowPolicy.CLOSE);
+        List<String> received = new ArrayList<>();
+        List<String> overflowed = new ArrayList<>();
+        LiveSubscription subscription = hub.subscribe(1L, new LiveHub.Sender<>() {
+            @Override
+            public void send(String message) {
+                received.add(message);
+            }
+
+            @Override
+            public void overflowed() {
+                overflowed.add("overflowed");
+            }
+        });
+
+        hub.publish(1L, "a1");
+        hub.publish(1L, "b1");
+        hub.publish(1L, "a2");
+        hub.publish(1L, "c1");
+        pending.forEach(Runnable::run);
+
+        Assertions.assertThat(subscription.isClosed()).isTrue();
+        Assertions.assertThat(overflowed).containsExactly("overflowed");
+        Assertions.assertThat(received).isEmpty();
+        Assertions.assertThat(hub.getSubscriberCount(1L)).isZero();
+    }
+}
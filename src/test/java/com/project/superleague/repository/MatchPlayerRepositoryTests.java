@@ -1,10 +1,12 @@
 package com.project.superleague.repository;
 
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
 import com.project.superleague.model.Match;
 import com.project.superleague.model.MatchPlayer;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.support.SqlStatementCounter;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,12 +14,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 
-@DataJpaTest
+@DataJpaTest(properties = SqlStatementCounter.PROPERTY)
 @AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
 public class MatchPlayerRepositoryTests {
     @Autowired
@@ -32,6 +38,9 @@ public class MatchPlayerRepositoryTests {
     @Autowired
     private TeamRepository teamRepository;
 
+    @Autowired
+    private TestEntityManager testEntityManager;
+
     private MatchPlayer matchPlayer;
     private Match match;
     private Player player;
@@ -144,4 +153,56 @@ public class MatchPlayerRepositoryTests {
 
         Assertions.assertThat(deletedRecordCount).isEqualTo(0L);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void MatchPlayerRepository_SaveAll_BatchesInserts() {
+        List<MatchPlayer> matchPlayers = new ArrayList<>();
+
+        teamRepository.save(team1);
+        teamRepository.save(team2);
+        matchRepository.save(match);
+        for (int i = 0; i < 120; i++) {
+            Player squadPlayer = Player.builder()
+                    .firstname("Nikos")
+                    .lastname("Papadimitriou" + i)
+                    .build();
+            squadPlayer.addTeam(team1);
+            playerRepository.save(squadPlayer);
+
+            MatchPlayer squadMatchPlayer = MatchPlayer.builder()
+                    .playTime(90)
+                    .build();
+            squadMatchPlayer.addMatch(match);
+            squadMatchPlayer.addPlayer(squadPlayer);
+            matchPlayers.add(squadMatchPlayer);
+        }
+        SqlStatementCounter.reset();
+
+        matchPlayerRepository.saveAllAndFlush(matchPlayers);
+
+        Assertions.assertThat(matchPlayers).allMatch(mp -> mp.getId() != null);
+        Assertions.assertThat(SqlStatementCounter.getCount()).isEqualTo(3);
+    }
+
+    @Test
+    public void MatchPlayerRepository_WhereMatchDateSince_FiltersByMatchDate() {
+        teamRepository.save(team1);
+        teamRepository.save(team2);
+        matchRepository.save(match);
+        playerRepository.save(player);
+        matchPlayerRepository.save(matchPlayer);
+
+        try (Stream<MatchPlayerReadOnlyDTO> included = streamReadOnlyDTOsByMatchDateSince(LocalDate.parse("2024-10-04"));
+             Stream<MatchPlayerReadOnlyDTO> excluded = streamReadOnlyDTOsByMatchDateSince(LocalDate.parse("2024-10-05"))) {
+            Assertions.assertThat(included).extracting(MatchPlayerReadOnlyDTO::getPlayerId).containsExactly(player.getId());
+            Assertions.assertThat(excluded).isEmpty();
+        }
+    }
+
+    private Stream<MatchPlayerReadOnlyDTO> streamReadOnlyDTOsByMatchDateSince(LocalDate since) {
+        return testEntityManager.getEntityManager()
+                .createQuery(MatchPlayerRepository.SELECT_READ_ONLY_DTO + MatchPlayerRepository.WHERE_MATCH_DATE_SINCE, MatchPlayerReadOnlyDTO.class)
+                .setParameter("since", since)
+                .getResultStream();
+    }
+}
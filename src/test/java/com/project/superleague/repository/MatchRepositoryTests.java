@@ -1,5 +1,6 @@
 package com.project.superleague.repository;
 
+import com.project.superleague.dto.MatchReadOnlyDTO;
 import com.project.superleague.model.Match;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
@@ -10,9 +11,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 @DataJpaTest
 @AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
@@ -72,26 +75,66 @@ public class MatchRepositoryTests {
     }
 
     @Test
-    public void MatchRepository_FindByMatchDate_ReturnsMatchesNotNull() {
+    public void MatchRepository_FindReadOnlyDTOsByMatchDate_ReturnsMatchesNotNull() {
         teamRepository.save(team1);
         teamRepository.save(team2);
         matchRepository.save(match1);
         matchRepository.save(match2);
 
-        List<Match> matches  = matchRepository.findByMatchDate(LocalDate.parse("2024-10-27"));
+        List<MatchReadOnlyDTO> matches  = matchRepository.findReadOnlyDTOsByMatchDate(LocalDate.parse("2024-10-27"), Limit.of(50));
 
         Assertions.assertThat(matches.size()).isEqualTo(1);
     }
 
     @Test
-    public void MatchRepository_FindByMatchDate_ReturnsMatchesEmpty() {
+    public void MatchRepository_FindReadOnlyDTOsByMatchDate_ReturnsMatchesEmpty() {
         teamRepository.save(team1);
         teamRepository.save(team2);
         matchRepository.save(match1);
         matchRepository.save(match2);
 
-        List<Match> matches  = matchRepository.findByMatchDate(LocalDate.parse("2024-10-15"));
+        List<MatchReadOnlyDTO> matches  = matchRepository.findReadOnlyDTOsByMatchDate(LocalDate.parse("2024-10-15"), Limit.of(50));
 
         Assertions.assertThat(matches).isEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void MatchRepository_StreamAllReadOnlyDTOs_ReturnsAllMatches() {
+        teamRepository.save(team1);
+        teamRepository.save(team2);
+        matchRepository.save(match1);
+        matchRepository.save(match2);
+
+        List<MatchReadOnlyDTO> matches;
+        try (Stream<MatchReadOnlyDTO> stream = matchRepository.streamAllReadOnlyDTOs()) {
+            matches = stream.toList();
+        }
+
+        Assertions.assertThat(matches.size()).isEqualTo(2);
+        Assertions.assertThat(matches).extracting(MatchReadOnlyDTO::getHostTeamId).containsExactlyInAnyOrder(team1.getId(), team2.getId());
+    }
+
+    @Test
+    public void MatchRepository_FindReadOnlyDTOsByMatchDateAfter_ReturnsNextPage() {
+        Match match3 = Match.builder()
+                .matchDate(LocalDate.parse("2024-10-27"))
+                .goalsHost(2)
+                .goalsGuest(2)
+                .build();
+
+        match3.addHostTeam(team1);
+        match3.addGuestTeam(team2);
+
+        teamRepository.save(team1);
+        teamRepository.save(team2);
+        matchRepository.save(match1);
+        matchRepository.save(match2);
+        matchRepository.save(match3);
+
+        List<MatchReadOnlyDTO> firstPage = matchRepository.findReadOnlyDTOsByMatchDate(LocalDate.parse("2024-10-27"), Limit.of(1));
+        List<MatchReadOnlyDTO> secondPage = matchRepository.findReadOnlyDTOsByMatchDateAfter(LocalDate.parse("2024-10-27"), firstPage.get(0).getId(), Limit.of(1));
+
+        Assertions.assertThat(firstPage).extracting(MatchReadOnlyDTO::getId).containsExactly(match2.getId());
+        Assertions.assertThat(secondPage).extracting(MatchReadOnlyDTO::getId).containsExactly(match3.getId());
+    }
+}
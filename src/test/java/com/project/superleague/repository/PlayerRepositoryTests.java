@@ -1,5 +1,6 @@
 package com.project.superleague.repository;
 
+import com.project.superleague.dto.PlayerReadOnlyDTO;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
 import org.assertj.core.api.Assertions;
@@ -9,9 +10,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 
 @DataJpaTest
@@ -64,35 +67,71 @@ public class PlayerRepositoryTests {
     }
 
     @Test
-    public void PlayerRepository_FindByLastnameStartingWith_ReturnsPlayersNotNull() {
+    public void PlayerRepository_FindReadOnlyDTOsByLastnameStartingWith_ReturnsPlayersNotNull() {
         teamRepository.save(team);
         playerRepository.save(player1);
         playerRepository.save(player2);
 
-        List<Player> players  = playerRepository.findByLastnameStartingWith("Papa");
+        List<PlayerReadOnlyDTO> players  = playerRepository.findReadOnlyDTOsByLastnameStartingWith("Papa", Limit.of(50));
 
         Assertions.assertThat(players.size()).isEqualTo(2);
     }
 
     @Test
-    public void PlayerRepository_FindByLastnameStartingWith_ReturnsPlayersEmpty() {
+    public void PlayerRepository_FindReadOnlyDTOsByLastnameStartingWith_ReturnsPlayersEmpty() {
         teamRepository.save(team);
         playerRepository.save(player1);
         playerRepository.save(player2);
 
-        List<Player> players  = playerRepository.findByLastnameStartingWith("Xatzi");
+        List<PlayerReadOnlyDTO> players  = playerRepository.findReadOnlyDTOsByLastnameStartingWith("Xatzi", Limit.of(50));
 
         Assertions.assertThat(players).isEmpty();
     }
 
     @Test
-    public void PlayerRepository_FindByLastnameStartingWith_ReturnsAllPlayers() {
+    public void PlayerRepository_FindReadOnlyDTOsByLastnameStartingWith_ReturnsAllPlayers() {
         teamRepository.save(team);
         playerRepository.save(player1);
         playerRepository.save(player2);
 
-        List<Player> players  = playerRepository.findByLastnameStartingWith("");
+        List<PlayerReadOnlyDTO> players  = playerRepository.findReadOnlyDTOsByLastnameStartingWith("", Limit.of(50));
 
         Assertions.assertThat(players.size()).isEqualTo(playerRepository.count());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void PlayerRepository_FindReadOnlyDTOsByLastnameStartingWithAfter_ReturnsNextPage() {
+        teamRepository.save(team);
+        playerRepository.save(player1);
+        playerRepository.save(player2);
+
+        List<PlayerReadOnlyDTO> firstPage = playerRepository.findReadOnlyDTOsByLastnameStartingWith("Papa", Limit.of(1));
+        List<PlayerReadOnlyDTO> secondPage = playerRepository.findReadOnlyDTOsByLastnameStartingWithAfter("Papa", firstPage.get(0).getLastname(), firstPage.get(0).getId(), Limit.of(1));
+
+        Assertions.assertThat(firstPage).extracting(PlayerReadOnlyDTO::getLastname).containsExactly("Papadimitriou");
+        Assertions.assertThat(secondPage).extracting(PlayerReadOnlyDTO::getLastname).containsExactly("Papadopoulos");
+    }
+
+    @Test
+    public void PlayerRepository_FindReadOnlyDTOsByLastnameStartingWithAfter_EscapesWildcards() {
+        teamRepository.save(team);
+        playerRepository.save(player1);
+        playerRepository.save(player2);
+
+        List<PlayerReadOnlyDTO> players = playerRepository.findReadOnlyDTOsByLastnameStartingWithAfter("%", "", 0L, Limit.of(10));
+
+        Assertions.assertThat(players).isEmpty();
+    }
+
+    @Test
+    public void PlayerRepository_FindReadOnlyDTOById_ReturnsTeamIdWithoutJoin() {
+        teamRepository.save(team);
+        playerRepository.save(player1);
+
+        Optional<PlayerReadOnlyDTO> player = playerRepository.findReadOnlyDTOById(player1.getId());
+
+        Assertions.assertThat(player).isPresent();
+        Assertions.assertThat(player.get().getLastname()).isEqualTo(player1.getLastname());
+        Assertions.assertThat(player.get().getTeamId()).isEqualTo(team.getId());
+    }
+}
@@ -0,0 +1,133 @@
+package com.project.superleague.repository;
+
+import com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO;
+import com.project.superleague.model.Match;
+import com.project.superleague.model.MatchPlayer;
+import com.project.superleague.model.Player;
+import com.project.superleague.model.PlayerSeasonStats;
+import com.project.superleague.model.Team;
+import com.project.superleague.support.MySQLModeDatabase;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+@DataJpaTest(properties = {MySQLModeDatabase.URL, MySQLModeDatabase.DRIVER, MySQLModeDatabase.PASSWORD})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class PlayerSeasonStatsRepositoryTests {
+    @Autowired
+    private PlayerSeasonStatsRepository playerSeasonStatsRepository;
+
+    @Autowired
+    private MatchPlayerRepository matchPlayerRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    private Player player;
+
+    @BeforeEach
+    public void init() {
+        Team team1 = teamRepository.save(Team.builder()
+                .teamName("Aris")
+                .foundationYear(1914)
+                .cityName("Thessaloniki")
+                .stadiumName("Kleanthis Vikelidis")
+                .coachFirstname("Akis")
+                .coachLastname("Mantzios")
+                .presidentFirstname("Eirini")
+                .presidentLastname("Karypidou")
+                .build());
+
+        Team team2 = teamRepository.save(Team.builder()
+                .teamName("Ofi")
+                .foundationYear(1925)
+                .cityName("Irakleio")
+                .stadiumName("Theodoros Bardinogiannis")
+                .coachFirstname("Milan")
+                .coachLastname("Rastavats")
+                .presidentFirstname("Mihail")
+                .presidentLastname("Mpousis")
+                .build());
+
+        player = Player.builder()
+                .firstname("Nikos")
+                .lastname("Papadimitriou")
+                .dateOfBirth(LocalDate.parse("2000-02-23"))
+                .nationality("Greek")
+                .monetaryValue(50000)
+                .playerRole("Goalkeeper")
+                .build();
+        player.addTeam(team1);
+        player = playerRepository.save(player);
+
+        saveMatchPlayer(team1, team2, "2024-10-04", MatchPlayer.builder().playTime(90).goals(1).assists(0).cards(1).build());
+        saveMatchPlayer(team2, team1, "2025-03-01", MatchPlayer.builder().playTime(45).assists(2).build());
+        saveMatchPlayer(team1, team2, "2024-05-12", MatchPlayer.builder().playTime(20).goals(2).assists(0).cards(0).build());
+    }
+
+    @Test
+    public void PlayerSeasonStatsRepository_AggregateAllFromMatchesPlayers_GroupsBySeason() {
+        List<PlayerSeasonStatsReadOnlyDTO> aggregated = playerSeasonStatsRepository.aggregateAllFromMatchesPlayers().stream()
+                .sorted(Comparator.comparing(PlayerSeasonStatsReadOnlyDTO::getSeason))
+                .toList();
+
+        Assertions.assertThat(aggregated).hasSize(2);
+        Assertions.assertThat(aggregated.get(0)).usingRecursiveComparison()
+                .isEqualTo(new PlayerSeasonStatsReadOnlyDTO(player.getId(), 2023, 1, 20, 2, 0, 0));
+        Assertions.assertThat(aggregated.get(1)).usingRecursiveComparison()
+                .isEqualTo(new PlayerSeasonStatsReadOnlyDTO(player.getId(), 2024, 2, 135, 1, 2, 1));
+    }
+
+    @Test
+    public void PlayerSeasonStatsRepository_ApplyDelta_UpdatesExistingRowOnly() {
+        PlayerSeasonStats stats = new PlayerSeasonStats(null, 2024, 2, 135, 1, 2, 1);
+        stats.setPlayer(player);
+        playerSeasonStatsRepository.saveAndFlush(stats);
+
+        int updated = playerSeasonStatsRepository.applyDelta(player.getId(), 2024, -1, -45, 0, -2, 0);
+        int missing = playerSeasonStatsRepository.applyDelta(player.getId(), 2022, 1, 90, 0, 0, 0);
+
+        Assertions.assertThat(updated).isEqualTo(1);
+        Assertions.assertThat(missing).isZero();
+        Assertions.assertThat(playerSeasonStatsRepository.findReadOnlyDTOByPlayerIdAndSeason(player.getId(), 2024)).get().usingRecursiveComparison()
+                .isEqualTo(new PlayerSeasonStatsReadOnlyDTO(player.getId(), 2024, 1, 90, 1, 0, 1));
+    }
+
+    @Test
+    public void PlayerSeasonStatsRepository_UpsertDelta_InsertsOrAddsToExistingRow() {
+        int inserted = playerSeasonStatsRepository.upsertDelta(player.getId(), 2024, 1, 90, 1, 0, 1);
+        int updated = playerSeasonStatsRepository.upsertDelta(player.getId(), 2024, 1, 45, 0, 2, 0);
+
+        Assertions.assertThat(inserted).isPositive();
+        Assertions.assertThat(updated).isPositive();
+        Assertions.assertThat(playerSeasonStatsRepository.count()).isEqualTo(1);
+        Assertions.assertThat(playerSeasonStatsRepository.findReadOnlyDTOByPlayerIdAndSeason(player.getId(), 2024)).get().usingRecursiveComparison()
+                .isEqualTo(new PlayerSeasonStatsReadOnlyDTO(player.getId(), 2024, 2, 135, 1, 2, 1));
+    }
+
+    private void saveMatchPlayer(Team hostTeam, Team guestTeam, String matchDate, MatchPlayer matchPlayer) {
+        Match match = Match.builder()
+                .matchDate(LocalDate.parse(matchDate))
+                .goalsHost(1)
+                .goalsGuest(0)
+                .build();
+        match.addHostTeam(hostTeam);
+        match.addGuestTeam(guestTeam);
+        matchPlayer.addMatch(matchRepository.save(match));
+        matchPlayer.addPlayer(player);
+        matchPlayerRepository.save(matchPlayer);
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.superleague.repository;
 
+import com.project.superleague.dto.TeamReadOnlyDTO;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
 import org.assertj.core.api.Assertions;
@@ -9,6 +10,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 
@@ -47,31 +49,31 @@ public class TeamRepositoryTests {
     }
 
     @Test
-    public void TeamRepository_FindByTeamNameStartingWith_ReturnsTeamsNotNull() {
+    public void TeamRepository_FindReadOnlyDTOsByTeamNameStartingWith_ReturnsTeamsNotNull() {
         teamRepository.save(team1);
         teamRepository.save(team2);
 
-        List<Team> teams  = teamRepository.findByTeamNameStartingWith("Ar");
+        List<TeamReadOnlyDTO> teams  = teamRepository.findReadOnlyDTOsByTeamNameStartingWith("Ar", Limit.of(50));
 
         Assertions.assertThat(teams.size()).isEqualTo(1);
     }
 
     @Test
-    public void TeamRepository_FindByTeamNameStartingWith_ReturnsTeamsEmpty() {
+    public void TeamRepository_FindReadOnlyDTOsByTeamNameStartingWith_ReturnsTeamsEmpty() {
         teamRepository.save(team1);
         teamRepository.save(team2);
 
-        List<Team> teams  = teamRepository.findByTeamNameStartingWith("Leva");
+        List<TeamReadOnlyDTO> teams  = teamRepository.findReadOnlyDTOsByTeamNameStartingWith("Leva", Limit.of(50));
 
         Assertions.assertThat(teams).isEmpty();
     }
 
     @Test
-    public void TeamRepository_FindByTeamNameStartingWith_ReturnsAllTeams() {
+    public void TeamRepository_FindReadOnlyDTOsByTeamNameStartingWith_ReturnsAllTeams() {
         teamRepository.save(team1);
         teamRepository.save(team2);
 
-        List<Team> teams  = teamRepository.findByTeamNameStartingWith("");
+        List<TeamReadOnlyDTO> teams  = teamRepository.findReadOnlyDTOsByTeamNameStartingWith("", Limit.of(50));
 
         Assertions.assertThat(teams.size()).isEqualTo(teamRepository.count());
     }
@@ -0,0 +1,82 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.CacheStatsDTO;
+import com.project.superleague.service.IEntityCacheService;
+import com.project.superleague.service.UserDetailsServiceImpl;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+public class CacheRestTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private UserDetailsServiceImpl userDetailsService;
+
+    @MockBean
+    private IEntityCacheService entityCacheService;
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void CacheRest_GetCacheStats_ReturnsOk() throws Exception {
+        when(userDetailsService.getCacheStats()).thenReturn(new CacheStatsDTO(UserDetailsServiceImpl.CACHE_NAME, 1L, 5L, 1L, 0L));
+        when(entityCacheService.getCacheStats()).thenReturn(List.of(new CacheStatsDTO("teams", null, 12L, 2L, null)));
+
+        ResultActions response = mockMvc.perform(get("/api/admin/caches"));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name", CoreMatchers.is("userDetails")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].hitCount", CoreMatchers.is(5)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].name", CoreMatchers.is("teams")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].hitCount", CoreMatchers.is(12)));
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void CacheRest_EvictUsers_ReturnsNoContent() throws Exception {
+        ResultActions response = mockMvc.perform(delete("/api/admin/caches/users"));
+
+        response.andExpect(MockMvcResultMatchers.status().isNoContent());
+        Mockito.verify(userDetailsService).evictAll();
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void CacheRest_EvictEntities_ReturnsNoContent() throws Exception {
+        ResultActions response = mockMvc.perform(delete("/api/admin/caches/entities"));
+
+        response.andExpect(MockMvcResultMatchers.status().isNoContent());
+        Mockito.verify(entityCacheService).evictAll();
+    }
+
+    @Test
+    public void CacheRest_GetCacheStats_ReturnsForbidden() throws Exception {
+        ResultActions response = mockMvc.perform(get("/api/admin/caches"));
+
+        response.andExpect(MockMvcResultMatchers.status().is4xxClientError());
+    }
+}
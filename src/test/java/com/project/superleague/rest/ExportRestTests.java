@@ -0,0 +1,78 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.service.IExportService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+public class ExportRestTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IExportService exportService;
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void ExportRest_ExportMatches_StreamsNdjson() throws Exception {
+        Mockito.doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(1);
+            outputStream.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(exportService).exportMatches(Mockito.eq(LocalDate.parse("2024-10-01")), Mockito.any(OutputStream.class));
+
+        MvcResult result = mockMvc.perform(get("/api/export/matches").param("since", "01102024"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+        Assertions.assertThat(result.getRequest().getAsyncContext().getTimeout()).isEqualTo(600000L);
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", "application/x-ndjson"))
+                .andExpect(MockMvcResultMatchers.content().string("{\"id\":1}\n{\"id\":2}\n"));
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void ExportRest_ExportMatchesPlayers_WithoutSince_ExportsAll() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/export/matchesplayers"))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        Mockito.verify(exportService).exportMatchesPlayers(Mockito.isNull(), Mockito.any(OutputStream.class));
+    }
+
+    @Test
+    public void ExportRest_ExportMatches_ReturnsForbidden() throws Exception {
+        ResultActions response = mockMvc.perform(get("/api/export/matches"));
+
+        response.andExpect(MockMvcResultMatchers.status().is4xxClientError());
+    }
+}
@@ -0,0 +1,78 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.LeaderboardEntryDTO;
+import com.project.superleague.service.ILeaderboardService;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+public class LeaderboardRestTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ILeaderboardService leaderboardService;
+
+    @Test
+    public void LeaderboardRest_GetLeaderboard_ReturnsOk() throws Exception {
+        when(leaderboardService.getLeaderboard("goals", 10, 2)).thenReturn(List.of(new LeaderboardEntryDTO(11, 7L, 9L), new LeaderboardEntryDTO(12, 3L, 8L)));
+
+        ResultActions response = mockMvc.perform(get("/api/leaderboards/goals")
+                .param("offset", "10")
+                .param("limit", "2"));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].rank", CoreMatchers.is(11)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].playerId", CoreMatchers.is(3)));
+    }
+
+    @Test
+    public void LeaderboardRest_GetLeaderboard_ReturnsBadRequest() throws Exception {
+        when(leaderboardService.getLeaderboard("saves", 0, 50)).thenThrow(IllegalArgumentException.class);
+
+        ResultActions response = mockMvc.perform(get("/api/leaderboards/saves"));
+
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
+    @Test
+    public void LeaderboardRest_GetPlayerRank_ReturnsOk() throws Exception {
+        when(leaderboardService.getPlayerRank("assists", 7L)).thenReturn(new LeaderboardEntryDTO(4, 7L, 6L));
+
+        ResultActions response = mockMvc.perform(get("/api/leaderboards/assists/players/7"));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.rank", CoreMatchers.is(4)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", CoreMatchers.is(6)));
+    }
+
+    @Test
+    public void LeaderboardRest_GetPlayerRank_ReturnsNotFound() throws Exception {
+        when(leaderboardService.getPlayerRank("assists", 8L)).thenThrow(EntityNotFoundException.class);
+
+        ResultActions response = mockMvc.perform(get("/api/leaderboards/assists/players/8"));
+
+        response.andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+}
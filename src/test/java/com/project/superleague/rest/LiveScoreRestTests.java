@@ -0,0 +1,90 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import com.project.superleague.live.LiveHub;
+import com.project.superleague.live.LiveSubscription;
+import com.project.superleague.model.Match;
+import com.project.superleague.service.ILiveScoreService;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.LocalDate;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+public class LiveScoreRestTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ILiveScoreService liveScoreService;
+
+    private MatchReadOnlyDTO match;
+
+    @BeforeEach
+    public void init() {
+        match = new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-04"), 1, 0, 1L, 2L, 3L);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void LiveScoreRest_WatchMatch_StreamsScoreEvents() throws Exception {
+        when(liveScoreService.subscribeToMatch(Mockito.eq(1L), Mockito.any())).thenAnswer(invocation -> {
+            invocation.getArgument(1, LiveHub.Sender.class).send(match);
+            return Mockito.mock(LiveSubscription.class);
+        });
+
+        ResultActions response = mockMvc.perform(get("/api/matches/1/live")
+                .accept(MediaType.TEXT_EVENT_STREAM));
+
+        response.andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(MockMvcResultMatchers.content().string(CoreMatchers.containsString("event:score")))
+                .andExpect(MockMvcResultMatchers.content().string(CoreMatchers.containsString("id:3")))
+                .andExpect(MockMvcResultMatchers.content().string(CoreMatchers.containsString("\"goalsHost\":1")));
+    }
+
+    @Test
+    public void LiveScoreRest_WatchMatch_ReturnsNotFound() throws Exception {
+        when(liveScoreService.subscribeToMatch(Mockito.eq(1L), Mockito.any())).thenThrow(new EntityNotFoundException(Match.class, 1L));
+
+        ResultActions response = mockMvc.perform(get("/api/matches/1/live")
+                .accept(MediaType.TEXT_EVENT_STREAM));
+
+        response.andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    public void LiveScoreRest_WatchMatchesByDate_OpensStream() throws Exception {
+        when(liveScoreService.subscribeToMatchDate(Mockito.eq(LocalDate.parse("2024-10-04")), Mockito.any()))
+                .thenReturn(Mockito.mock(LiveSubscription.class));
+
+        ResultActions response = mockMvc.perform(get("/api/matches/live")
+                .param("date", "04102024")
+                .accept(MediaType.TEXT_EVENT_STREAM));
+
+        response.andExpect(MockMvcResultMatchers.request().asyncStarted());
+        Mockito.verify(liveScoreService).subscribeToMatchDate(Mockito.eq(LocalDate.parse("2024-10-04")), Mockito.any());
+    }
+}
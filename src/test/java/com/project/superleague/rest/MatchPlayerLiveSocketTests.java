@@ -0,0 +1,116 @@
+package com.project.superleague.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.superleague.config.WebSocketConfig;
+import com.project.superleague.dto.LiveSubscriptionRequestDTO;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.live.MatchPlayerTopic;
+import com.project.superleague.service.ILiveMatchPlayerService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestPropertySource(properties = "superleague.live.ws.max-sessions=2")
+public class MatchPlayerLiveSocketTests {
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ILiveMatchPlayerService liveMatchPlayerService;
+
+    private final List<WebSocketSession> sessions = new ArrayList<>();
+
+    @AfterEach
+    public void cleanUp() throws Exception {
+        for (WebSocketSession session : sessions) {
+            if (session.isOpen()) {
+                session.close();
+            }
+        }
+    }
+
+    @Test
+    public void MatchPlayerLiveSocket_Subscribe_ReceivesDeltas() throws Exception {
+        BlockingQueue<String> received = new LinkedBlockingQueue<>();
+        WebSocketSession session = connect(received, new LinkedBlockingQueue<>());
+
+        session.sendMessage(new TextMessage(objectMapper.writeValueAsString(LiveSubscriptionRequestDTO.builder()
+                .action(LiveSubscriptionRequestDTO.SUBSCRIBE)
+                .matchIds(List.of(1L))
+                .build())));
+        awaitSubscribers(MatchPlayerTopic.match(1L), 1);
+        eventPublisher.publishEvent(new MatchPlayerChangedEvent(
+                new MatchPlayerReadOnlyDTO(1L, 1L, 7L, 90, 0, 0, 0, 0L),
+                new MatchPlayerReadOnlyDTO(1L, 1L, 7L, 90, 1, 1, 0, 1L)));
+
+        Assertions.assertThat(received.poll(5, TimeUnit.SECONDS))
+                .isEqualTo("[{\"matchId\":1,\"playerId\":7,\"goals\":1,\"assists\":1,\"version\":1}]");
+    }
+
+    @Test
+    public void MatchPlayerLiveSocket_InvalidRequest_ClosesSession() throws Exception {
+        BlockingQueue<CloseStatus> closed = new LinkedBlockingQueue<>();
+        WebSocketSession session = connect(new LinkedBlockingQueue<>(), closed);
+
+        session.sendMessage(new TextMessage("{\"action\":\"watch\"}"));
+
+        Assertions.assertThat(closed.poll(5, TimeUnit.SECONDS)).extracting(CloseStatus::getCode).isEqualTo(CloseStatus.BAD_DATA.getCode());
+    }
+
+    @Test
+    public void MatchPlayerLiveSocket_SessionLimitReached_RejectsSession() throws Exception {
+        connect(new LinkedBlockingQueue<>(), new LinkedBlockingQueue<>());
+        connect(new LinkedBlockingQueue<>(), new LinkedBlockingQueue<>());
+        BlockingQueue<CloseStatus> closed = new LinkedBlockingQueue<>();
+        connect(new LinkedBlockingQueue<>(), closed);
+
+        Assertions.assertThat(closed.poll(5, TimeUnit.SECONDS)).extracting(CloseStatus::getCode).isEqualTo(CloseStatus.POLICY_VIOLATION.getCode());
+    }
+
+    private WebSocketSession connect(BlockingQueue<String> received, BlockingQueue<CloseStatus> closed) throws Exception {
+        WebSocketSession session = new StandardWebSocketClient().execute(new TextWebSocketHandler() {
+            @Override
+            protected void handleTextMessage(WebSocketSession session, TextMessage message) {
+                received.add(message.getPayload());
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+                closed.add(status);
+            }
+        }, "ws://localhost:" + port + WebSocketConfig.MATCH_PLAYER_LIVE_PATH).get(5, TimeUnit.SECONDS);
+
+        sessions.add(session);
+        return session;
+    }
+
+    private void awaitSubscribers(MatchPlayerTopic topic, int expected) throws InterruptedException {
+        for (int attempt = 0; attempt < 50 && liveMatchPlayerService.getSubscriberCount(topic) < expected; attempt++) {
+            Thread.sleep(100);
+        }
+    }
+}
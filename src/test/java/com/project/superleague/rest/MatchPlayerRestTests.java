@@ -1,10 +1,12 @@
 package com.project.superleague.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.superleague.dto.MatchPlayerBatchResultDTO;
 import com.project.superleague.dto.MatchPlayerInsertDTO;
 import com.project.superleague.dto.MatchPlayerUpdateDTO;
 import com.project.superleague.dto.PlayerInsertDTO;
 import com.project.superleague.dto.PlayerUpdateDTO;
+import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Match;
 import com.project.superleague.model.MatchPlayer;
 import com.project.superleague.model.Player;
@@ -12,6 +14,7 @@ import com.project.superleague.model.Team;
 import com.project.superleague.service.IMatchPlayerService;
 import com.project.superleague.service.exception.EntityAlreadyExistsException;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import org.hamcrest.CoreMatchers;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +35,7 @@ import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -148,6 +152,7 @@ public class MatchPlayerRestTests {
                 .cards(1)
                 .matchId(1L)
                 .playerId(1L)
+                .version(0L)
                 .build();
     }
 
@@ -156,7 +161,7 @@ public class MatchPlayerRestTests {
         Long matchId = 1L;
         Long playerId = 1L;
 
-        when(matchPlayerService.getMatchPlayerByMatchIdAndPlayerId(matchId, playerId)).thenReturn(matchPlayer);
+        when(matchPlayerService.getMatchPlayerByMatchIdAndPlayerId(matchId, playerId)).thenReturn(Mapper.mapMatchPlayerToReadOnlyDTO(matchPlayer));
 
         ResultActions response = mockMvc.perform(get("/api/matchesplayers/1/1")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -231,6 +236,35 @@ public class MatchPlayerRestTests {
         response.andExpect(MockMvcResultMatchers.status().isServiceUnavailable());
     }
 
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void MatchPlayerRest_AddMatchPlayers_ReturnsOk() throws Exception {
+        List<MatchPlayerBatchResultDTO> results = List.of(
+                new MatchPlayerBatchResultDTO(0, MatchPlayerBatchResultDTO.Status.CREATED, null, Mapper.mapMatchPlayerToReadOnlyDTO(matchPlayer)),
+                new MatchPlayerBatchResultDTO(1, MatchPlayerBatchResultDTO.Status.ALREADY_EXISTS, "Entity with match id 1 and player id 1 already exists.", null));
+
+        when(matchPlayerService.insertMatchPlayers(Mockito.anyList())).thenReturn(results);
+
+        ResultActions response = mockMvc.perform(post("/api/matchesplayers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(List.of(matchPlayerInsertDTO, matchPlayerInsertDTO))));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].status", CoreMatchers.is("CREATED")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].matchPlayer.id", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[1].status", CoreMatchers.is("ALREADY_EXISTS")));
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void MatchPlayerRest_AddMatchPlayers_EmptyBatch_ReturnsBadRequest() throws Exception {
+        ResultActions response = mockMvc.perform(post("/api/matchesplayers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("[]"));
+
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
     @Test
     @WithMockUser(authorities = "admin")
     public void MatchPlayerRest_UpdateMatchPlayer_ReturnsOk() throws Exception {
@@ -268,6 +302,31 @@ public class MatchPlayerRestTests {
         response.andExpect(MockMvcResultMatchers.status().isNotFound());
     }
 
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void MatchPlayerRest_UpdateMatchPlayer_StaleVersion_ReturnsConflict() throws Exception {
+        when(matchPlayerService.updateMatchPlayer(Mockito.any(MatchPlayerUpdateDTO.class))).thenThrow(new StaleEntityException(1L, 1L, 0L));
+
+        ResultActions response = mockMvc.perform(put("/api/matchesplayers/1/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(matchPlayerUpdateDTO)));
+
+        response.andExpect(MockMvcResultMatchers.status().isConflict());
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void MatchPlayerRest_UpdateMatchPlayer_MissingVersion_ReturnsBadRequest() throws Exception {
+        matchPlayerUpdateDTO.setVersion(null);
+
+        ResultActions response = mockMvc.perform(put("/api/matchesplayers/1/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(matchPlayerUpdateDTO)));
+
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+        Mockito.verify(matchPlayerService, Mockito.never()).updateMatchPlayer(Mockito.any(MatchPlayerUpdateDTO.class));
+    }
+
     @Test
     @WithMockUser(authorities = "admin")
     public void MatchPlayerRest_DeleteMatchPlayer_ReturnsOk() throws Exception {
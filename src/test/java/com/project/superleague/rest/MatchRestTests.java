@@ -1,10 +1,14 @@
 package com.project.superleague.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetPage;
 import com.project.superleague.dto.MatchInsertDTO;
+import com.project.superleague.dto.MatchReadOnlyDTO;
 import com.project.superleague.dto.MatchUpdateDTO;
 import com.project.superleague.dto.PlayerInsertDTO;
 import com.project.superleague.dto.PlayerUpdateDTO;
+import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Match;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
@@ -111,6 +115,7 @@ public class MatchRestTests {
                 .goalsGuest(0)
                 .hostTeamId(1L)
                 .guestTeamId(2L)
+                .version(0L)
                 .build();
 
         matchInsertDTOInvalid = MatchInsertDTO.builder()
@@ -128,6 +133,7 @@ public class MatchRestTests {
                 .goalsGuest(null)
                 .hostTeamId(1L)
                 .guestTeamId(2L)
+                .version(0L)
                 .build();
 
         updatedMatch = Match.builder()
@@ -144,10 +150,10 @@ public class MatchRestTests {
     @Test
     public void MatchRest_GetMatchesByDate_ReturnsOk() throws Exception {
         LocalDate searchParameter = LocalDate.parse("2024-10-04");
-        List<Match> matches = new ArrayList<>();
-        matches.add(match);
+        List<MatchReadOnlyDTO> matches = new ArrayList<>();
+        matches.add(Mapper.mapMatchToReadOnlyDTO(match));
 
-        when(matchService.getMatchByDate(searchParameter)).thenReturn(matches);
+        when(matchService.getMatchByDate(searchParameter, null, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(matches, null));
 
         ResultActions response = mockMvc.perform(get("/api/matches?date=04102024")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -160,7 +166,7 @@ public class MatchRestTests {
     public void MatchRest_GetMatchesByDate_ReturnsNotFound() throws Exception {
         LocalDate searchParameter = LocalDate.parse("2024-10-08");
 
-        when(matchService.getMatchByDate(searchParameter)).thenThrow(EntityNotFoundException.class);
+        when(matchService.getMatchByDate(searchParameter, null, KeysetPage.DEFAULT_LIMIT)).thenThrow(EntityNotFoundException.class);
 
         ResultActions response = mockMvc.perform(get("/api/matches?date=08102024")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -172,7 +178,7 @@ public class MatchRestTests {
     public void MatchRest_GetMatchById_ReturnsOk() throws Exception {
         Long matchId = 1L;
 
-        when(matchService.getMatchById(matchId)).thenReturn(match);
+        when(matchService.getMatchById(matchId)).thenReturn(Mapper.mapMatchToReadOnlyDTO(match));
 
         ResultActions response = mockMvc.perform(get("/api/matches/1")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -294,7 +300,7 @@ public class MatchRestTests {
     public void MatchRest_DeleteMatch_ReturnsOk() throws Exception {
         Long matchId = 1L;
 
-        when(matchService.deleteMatch(matchId)).thenReturn(match);
+        when(matchService.deleteMatch(matchId)).thenReturn(new DeletionResultDTO(matchId, Map.of("Match", 1)));
 
         ResultActions response = mockMvc.perform(delete("/api/matches/1")
                 .contentType(MediaType.APPLICATION_JSON));
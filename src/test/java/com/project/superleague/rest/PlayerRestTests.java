@@ -2,11 +2,17 @@ package com.project.superleague.rest;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.superleague.dto.KeysetCursor;
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetPage;
 import com.project.superleague.dto.PlayerInsertDTO;
 import com.project.superleague.dto.PlayerReadOnlyDTO;
+import com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO;
 import com.project.superleague.dto.PlayerUpdateDTO;
+import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
+import com.project.superleague.service.IPlayerSeasonStatsService;
 import com.project.superleague.service.IPlayerService;
 import com.project.superleague.service.exception.EntityNotFoundException;
 import org.hamcrest.CoreMatchers;
@@ -31,6 +37,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -47,6 +54,9 @@ public class PlayerRestTests {
     @MockBean
     private IPlayerService playerService;
 
+    @MockBean
+    private IPlayerSeasonStatsService playerSeasonStatsService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -124,6 +134,7 @@ public class PlayerRestTests {
                 .monetaryValue(60000)
                 .playerRole("Goalkeeper")
                 .teamId(1L)
+                .version(0L)
                 .build();
 
         playerUpdateDTOInvalid = PlayerUpdateDTO.builder()
@@ -134,29 +145,59 @@ public class PlayerRestTests {
                 .nationality("Greek")
                 .monetaryValue(50000)
                 .playerRole("Goalkeeper")
+                .version(0L)
                 .build();
     }
 
     @Test
     public void PlayerRest_GetPlayersByLastname_ReturnsOk() throws Exception {
         String searchParameter = "Papa";
-        List<Player> players = new ArrayList<>();
-        players.add(player);
+        List<PlayerReadOnlyDTO> players = new ArrayList<>();
+        players.add(Mapper.mapPlayerToReadOnlyDTO(player));
 
-        when(playerService.getPlayerByLastname(searchParameter)).thenReturn(players);
+        when(playerService.getPlayerByLastname(searchParameter, null, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(players, null));
 
         ResultActions response = mockMvc.perform(get("/api/players?lastname=Papa")
                 .contentType(MediaType.APPLICATION_JSON));
 
         response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().doesNotExist(KeysetHeaders.NEXT_CURSOR))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.size()", CoreMatchers.is(players.size())));
     }
 
+    @Test
+    public void PlayerRest_GetPlayersByLastname_ReturnsNextCursor() throws Exception {
+        String searchParameter = "Papa";
+        String after = new KeysetCursor(1L, "Papadimitriou").encode();
+        String nextCursor = new KeysetCursor(2L, "Papadopoulos").encode();
+        List<PlayerReadOnlyDTO> players = new ArrayList<>();
+        players.add(Mapper.mapPlayerToReadOnlyDTO(player));
+
+        when(playerService.getPlayerByLastname(searchParameter, after, 1)).thenReturn(new KeysetPage<>(players, nextCursor));
+
+        ResultActions response = mockMvc.perform(get("/api/players?lastname=Papa&limit=1&after=" + after)
+                .contentType(MediaType.APPLICATION_JSON));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(KeysetHeaders.NEXT_CURSOR, nextCursor))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.size()", CoreMatchers.is(1)));
+    }
+
+    @Test
+    public void PlayerRest_GetPlayersByLastname_InvalidCursor_ReturnsBadRequest() throws Exception {
+        when(playerService.getPlayerByLastname("Papa", "invalid", KeysetPage.DEFAULT_LIMIT)).thenThrow(IllegalArgumentException.class);
+
+        ResultActions response = mockMvc.perform(get("/api/players?lastname=Papa&after=invalid")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+
     @Test
     public void PlayerRest_GetPlayersByLastname_ReturnsBadRequest() throws Exception {
         String searchParameter = "Xatzi";
 
-        when(playerService.getPlayerByLastname(searchParameter)).thenThrow(EntityNotFoundException.class);
+        when(playerService.getPlayerByLastname(searchParameter, null, KeysetPage.DEFAULT_LIMIT)).thenThrow(EntityNotFoundException.class);
 
         ResultActions response = mockMvc.perform(get("/api/players?lastname=Xatzi")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -168,7 +209,7 @@ public class PlayerRestTests {
     public void PlayerRest_GetPlayerById_ReturnsOk() throws Exception {
         Long playerId = 1L;
 
-        when(playerService.getPlayerById(playerId)).thenReturn(player);
+        when(playerService.getPlayerById(playerId)).thenReturn(Mapper.mapPlayerToReadOnlyDTO(player));
 
         ResultActions response = mockMvc.perform(get("/api/players/1")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -190,6 +231,41 @@ public class PlayerRestTests {
         response.andExpect(MockMvcResultMatchers.status().isNotFound());
     }
 
+    @Test
+    public void PlayerRest_GetPlayerSeasonStats_ReturnsOk() throws Exception {
+        when(playerSeasonStatsService.getPlayerSeasonStats(1L, 2024)).thenReturn(new PlayerSeasonStatsReadOnlyDTO(1L, 2024, 12, 980, 3, 5, 2));
+
+        ResultActions response = mockMvc.perform(get("/api/players/1/stats")
+                .param("season", "2024")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.season", CoreMatchers.is(2024)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.appearances", CoreMatchers.is(12)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.minutesPlayed", CoreMatchers.is(980)));
+    }
+
+    @Test
+    public void PlayerRest_GetPlayerSeasonStats_ReturnsNotFound() throws Exception {
+        when(playerSeasonStatsService.getPlayerSeasonStats(2L, null)).thenThrow(EntityNotFoundException.class);
+
+        ResultActions response = mockMvc.perform(get("/api/players/2/stats")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        response.andExpect(MockMvcResultMatchers.status().isNotFound());
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void PlayerRest_RebuildPlayerSeasonStats_ReturnsOk() throws Exception {
+        when(playerSeasonStatsService.rebuildPlayerSeasonStats()).thenReturn(42);
+
+        ResultActions response = mockMvc.perform(post("/api/admin/players/stats/rebuild"));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string("42"));
+    }
+
     @Test
     @WithMockUser(authorities = "admin")
     public void PlayerRest_AddPlayer_ReturnsCreated() throws Exception {
@@ -291,7 +367,7 @@ public class PlayerRestTests {
     public void PlayerRest_DeletePlayer_ReturnsOk() throws Exception {
         Long playerId = 1L;
 
-        when(playerService.deletePlayer(playerId)).thenReturn(player);
+        when(playerService.deletePlayer(playerId)).thenReturn(new DeletionResultDTO(playerId, Map.of("Player", 1)));
 
         ResultActions response = mockMvc.perform(delete("/api/players/1")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -0,0 +1,171 @@
+package com.project.superleague.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.superleague.dto.KeysetPage;
+import com.project.superleague.config.ResponseCacheFilter;
+import com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO;
+import com.project.superleague.dto.TeamReadOnlyDTO;
+import com.project.superleague.dto.TeamUpdateDTO;
+import com.project.superleague.model.Team;
+import com.project.superleague.service.IPlayerSeasonStatsService;
+import com.project.superleague.service.ITeamService;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+public class ResponseCacheTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ResponseCacheFilter responseCacheFilter;
+
+    @MockBean
+    private ITeamService teamService;
+
+    @MockBean
+    private IPlayerSeasonStatsService playerSeasonStatsService;
+
+    private TeamReadOnlyDTO teamReadOnlyDTO;
+
+    @BeforeEach
+    public void init() {
+        responseCacheFilter.evictAll();
+
+        teamReadOnlyDTO = new TeamReadOnlyDTO(1L, "Aris", 1914, "Thessaloniki", "Kleanthis Vikelidis",
+                "Akis", "Mantzios", "Eirini", "Karypidou");
+    }
+
+    @Test
+    public void ResponseCache_RepeatedGet_ServedFromCache() throws Exception {
+        when(teamService.getTeamById(1L)).thenReturn(teamReadOnlyDTO);
+
+        String etag = mockMvc.perform(get("/api/teams/1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/teams/1"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag))
+                .andExpect(MockMvcResultMatchers.content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.teamName", CoreMatchers.is("Aris")));
+
+        Mockito.verify(teamService, Mockito.times(1)).getTeamById(1L);
+    }
+
+    @Test
+    public void ResponseCache_IfNoneMatch_ReturnsNotModified() throws Exception {
+        when(teamService.getTeamById(1L)).thenReturn(teamReadOnlyDTO);
+
+        String etag = mockMvc.perform(get("/api/teams/1"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/teams/1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, etag))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        mockMvc.perform(get("/api/teams/1").header(HttpHeaders.IF_NONE_MATCH, "\"stale\""))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+    }
+
+    @Test
+    public void ResponseCache_QueryParameterOrder_SharesEntryAndHeaders() throws Exception {
+        when(teamService.getTeamByName("Ar", null, 1)).thenReturn(new KeysetPage<>(List.of(teamReadOnlyDTO), "cursor"));
+
+        mockMvc.perform(get("/api/teams?teamname=Ar&limit=1"))
+                .andExpect(MockMvcResultMatchers.header().stringValues(KeysetHeaders.NEXT_CURSOR, "cursor"));
+        mockMvc.perform(get("/api/teams?limit=1&teamname=Ar"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().stringValues(KeysetHeaders.NEXT_CURSOR, "cursor"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].teamName", CoreMatchers.is("Aris")));
+
+        Mockito.verify(teamService, Mockito.times(1)).getTeamByName("Ar", null, 1);
+    }
+
+    @Test
+    public void ResponseCache_NotFound_IsNotCached() throws Exception {
+        when(teamService.getTeamById(2L)).thenThrow(new EntityNotFoundException(Team.class, 2L));
+
+        mockMvc.perform(get("/api/teams/2")).andExpect(MockMvcResultMatchers.status().isNotFound());
+        mockMvc.perform(get("/api/teams/2")).andExpect(MockMvcResultMatchers.status().isNotFound());
+
+        Mockito.verify(teamService, Mockito.times(2)).getTeamById(2L);
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void ResponseCache_SuccessfulWrite_InvalidatesCache() throws Exception {
+        Team updatedTeam = Team.builder()
+                .id(1L)
+                .teamName("Arhs")
+                .cityName("Thessaloniki")
+                .stadiumName("Kleanthis Vikelidis")
+                .build();
+        TeamUpdateDTO teamUpdateDTO = TeamUpdateDTO.builder()
+                .id(1L)
+                .teamName("Arhs")
+                .cityName("Thessaloniki")
+                .stadiumName("Kleanthis Vikelidis")
+                .version(0L)
+                .build();
+
+        when(teamService.getTeamById(1L)).thenReturn(teamReadOnlyDTO);
+        when(teamService.updateTeam(Mockito.any(TeamUpdateDTO.class))).thenReturn(updatedTeam);
+
+        MvcResult first = mockMvc.perform(get("/api/teams/1")).andReturn();
+        mockMvc.perform(put("/api/teams/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(teamUpdateDTO)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(get("/api/teams/1").header(HttpHeaders.IF_NONE_MATCH, first.getResponse().getHeader(HttpHeaders.ETAG)))
+                .andExpect(MockMvcResultMatchers.status().isNotModified());
+
+        Mockito.verify(teamService, Mockito.times(2)).getTeamById(1L);
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void ResponseCache_PlayerSeasonStatsRebuilt_InvalidatesCache() throws Exception {
+        when(playerSeasonStatsService.getPlayerSeasonStats(1L, 2024)).thenReturn(new PlayerSeasonStatsReadOnlyDTO(1L, 2024, 12, 980, 3, 5, 2));
+        when(playerSeasonStatsService.rebuildPlayerSeasonStats()).thenReturn(1);
+
+        mockMvc.perform(get("/api/players/1/stats?season=2024")).andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(post("/api/admin/players/stats/rebuild")).andExpect(MockMvcResultMatchers.status().isOk());
+        mockMvc.perform(get("/api/players/1/stats?season=2024")).andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(playerSeasonStatsService, Mockito.times(2)).getPlayerSeasonStats(1L, 2024);
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.FullTextResultDTO;
+import com.project.superleague.dto.SearchResultDTO;
+import com.project.superleague.service.ISearchService;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+public class SearchRestTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ISearchService searchService;
+
+    @Test
+    public void SearchRest_Search_ReturnsOk() throws Exception {
+        when(searchService.search("ari", 5)).thenReturn(List.of(new SearchResultDTO("team", 2L, "Aris", 2L)));
+
+        ResultActions response = mockMvc.perform(get("/api/search")
+                .param("q", "ari")
+                .param("limit", "5"));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].type", CoreMatchers.is("team")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].name", CoreMatchers.is("Aris")));
+    }
+
+    @Test
+    public void SearchRest_SearchFullText_ReturnsOk() throws Exception {
+        when(searchService.searchFullText("saloniki", 10)).thenReturn(List.of(new FullTextResultDTO("team", 2L, "Aris", 2L, 4.5)));
+
+        ResultActions response = mockMvc.perform(get("/api/search/fulltext").param("q", "saloniki"));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].id", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].score", CoreMatchers.is(4.5)));
+    }
+
+    @Test
+    public void SearchRest_Search_ReturnsBadRequest() throws Exception {
+        when(searchService.search(" ", 10)).thenThrow(IllegalArgumentException.class);
+
+        ResultActions response = mockMvc.perform(get("/api/search").param("q", " "));
+
+        response.andExpect(MockMvcResultMatchers.status().isBadRequest());
+    }
+}
@@ -0,0 +1,558 @@
+package com.project.superleague.rest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.superleague.config.ResponseCacheFilter;
+import com.project.superleague.dto.CacheStatsDTO;
+import com.project.superleague.dto.MatchInsertDTO;
+import com.project.superleague.dto.MatchPlayerInsertDTO;
+import com.project.superleague.dto.MatchPlayerUpdateDTO;
+import com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO;
+import com.project.superleague.dto.MatchUpdateDTO;
+import com.project.superleague.dto.PlayerUpdateDTO;
+import com.project.superleague.dto.TeamUpdateDTO;
+import com.project.superleague.model.Match;
+import com.project.superleague.model.MatchPlayer;
+import com.project.superleague.model.Player;
+import com.project.superleague.model.PlayerSeasonStats;
+import com.project.superleague.model.Team;
+import com.project.superleague.repository.MatchPlayerRepository;
+import com.project.superleague.repository.MatchRepository;
+import com.project.superleague.repository.PlayerRepository;
+import com.project.superleague.repository.PlayerSeasonStatsRepository;
+import com.project.superleague.repository.TeamRepository;
+import com.project.superleague.service.IEntityCacheService;
+import com.project.superleague.service.IPlayerSeasonStatsService;
+import com.project.superleague.support.MySQLModeDatabase;
+import com.project.superleague.support.SqlStatementCounter;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hamcrest.CoreMatchers;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+@SpringBootTest(properties = {SqlStatementCounter.PROPERTY, "superleague.hibernate.statistics=true",
+        MySQLModeDatabase.URL, MySQLModeDatabase.DRIVER, MySQLModeDatabase.PASSWORD})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class SqlStatementCountTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TeamRepository teamRepository;
+
+    @Autowired
+    private PlayerRepository playerRepository;
+
+    @Autowired
+    private MatchRepository matchRepository;
+
+    @Autowired
+    private MatchPlayerRepository matchPlayerRepository;
+
+    @Autowired
+    private PlayerSeasonStatsRepository playerSeasonStatsRepository;
+
+    @Autowired
+    private IPlayerSeasonStatsService playerSeasonStatsService;
+
+    @Autowired
+    private IEntityCacheService entityCacheService;
+
+    @Autowired
+    private ResponseCacheFilter responseCacheFilter;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Team team1;
+    private Team team2;
+    private Player player;
+    private Match match1;
+    private Match match2;
+
+    @BeforeEach
+    public void init() {
+        responseCacheFilter.evictAll();
+        entityCacheService.evictAll();
+
+        team1 = teamRepository.save(Team.builder()
+                .teamName("Aris")
+                .cityName("Thessaloniki")
+                .stadiumName("Kleanthis Vikelidis")
+                .build());
+
+        team2 = teamRepository.save(Team.builder()
+                .teamName("Ofi")
+                .cityName("Irakleio")
+                .stadiumName("Theodoros Bardinogiannis")
+                .build());
+
+        player = Player.builder()
+                .firstname("Fabiano")
+                .lastname("Leismann")
+                .build();
+        player.setTeam(team1);
+        player = playerRepository.save(player);
+
+        match1 = Match.builder()
+                .matchDate(LocalDate.parse("2024-10-27"))
+                .goalsHost(1)
+                .goalsGuest(0)
+                .build();
+        match1.setHostTeam(team1);
+        match1.setGuestTeam(team2);
+        match1 = matchRepository.save(match1);
+
+        match2 = Match.builder()
+                .matchDate(LocalDate.parse("2024-10-27"))
+                .goalsHost(2)
+                .goalsGuest(2)
+                .build();
+        match2.setHostTeam(team2);
+        match2.setGuestTeam(team1);
+        match2 = matchRepository.save(match2);
+
+        MatchPlayer matchPlayer = MatchPlayer.builder()
+                .playTime(90)
+                .goals(1)
+                .build();
+        matchPlayer.setMatch(match1);
+        matchPlayer.setPlayer(player);
+        matchPlayerRepository.save(matchPlayer);
+    }
+
+    @AfterEach
+    public void cleanUp() {
+        playerSeasonStatsRepository.deleteAllInBatch();
+        matchPlayerRepository.deleteAllInBatch();
+        matchRepository.deleteAllInBatch();
+        playerRepository.deleteAllInBatch();
+        teamRepository.deleteAllInBatch();
+    }
+
+    @Test
+    public void GetTeamById_IssuesOneStatement() throws Exception {
+        assertStatementCount(get("/api/teams/" + team1.getId()), 1);
+    }
+
+    @Test
+    public void GetPlayerById_IssuesOneStatement() throws Exception {
+        assertStatementCount(get("/api/players/" + player.getId()), 1);
+    }
+
+    @Test
+    public void GetPlayersByLastname_IssuesOneStatement() throws Exception {
+        assertStatementCount(get("/api/players").param("lastname", "Leis"), 1);
+    }
+
+    @Test
+    public void GetMatchById_IssuesOneStatement() throws Exception {
+        assertStatementCount(get("/api/matches/" + match1.getId()), 1);
+    }
+
+    @Test
+    public void GetMatchesByDate_IssuesOneStatement() throws Exception {
+        assertStatementCount(get("/api/matches").param("date", "2024-10-27"), 1);
+    }
+
+    @Test
+    public void GetMatchPlayer_IssuesOneStatement() throws Exception {
+        assertStatementCount(get("/api/matchesplayers/" + match1.getId() + "/" + player.getId()), 1);
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void InsertMatch_LoadsBothTeamsInOneStatement() throws Exception {
+        MatchInsertDTO dto = MatchInsertDTO.builder()
+                .matchDate(LocalDate.parse("2024-11-03"))
+                .goalsHost(0)
+                .goalsGuest(1)
+                .hostTeamId(team1.getId())
+                .guestTeamId(team2.getId())
+                .build();
+        entityCacheService.evictAll();
+
+        assertStatementCount(post("/api/matches")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)), MockMvcResultMatchers.status().isCreated(), 2);
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void InsertMatchPlayer_ResolvesReferencesInOneStatement() throws Exception {
+        MatchPlayerInsertDTO dto = MatchPlayerInsertDTO.builder()
+                .matchId(match2.getId())
+                .playerId(player.getId())
+                .playTime(90)
+                .build();
+        playerSeasonStatsService.rebuildPlayerSeasonStats();
+
+        // one for the references, one insert and one season stats upsert
+        assertStatementCount(post("/api/matchesplayers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)), MockMvcResultMatchers.status().isCreated(), 3);
+        assertPlayerSeasonStatsInStep();
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void UpdateMatch_IssuesFixedStatementCount() throws Exception {
+        MatchUpdateDTO dto = MatchUpdateDTO.builder()
+                .id(match1.getId())
+                .matchDate(LocalDate.parse("2024-10-27"))
+                .goalsHost(3)
+                .goalsGuest(0)
+                .hostTeamId(team1.getId())
+                .guestTeamId(team2.getId())
+                .version(match1.getVersion())
+                .build();
+
+        assertStatementCount(put("/api/matches/" + match1.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)), 3);
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void UpdatePlayer_IssuesFixedStatementCount() throws Exception {
+        PlayerUpdateDTO dto = PlayerUpdateDTO.builder()
+                .id(player.getId())
+                .firstname("Fabiano")
+                .lastname("Leismann")
+                .playerRole("Midfielder")
+                .teamId(team2.getId())
+                .version(player.getVersion())
+                .build();
+
+        assertStatementCount(put("/api/players/" + player.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)), 3);
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void UpdateMatch_DoesNotLoadTeamMatchHistory() throws Exception {
+        List<Match> history = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Match match = Match.builder()
+                    .matchDate(LocalDate.parse("2023-09-01").plusDays(i))
+                    .goalsHost(i % 3)
+                    .goalsGuest(1)
+                    .build();
+            match.setHostTeam(i % 2 == 0 ? team1 : team2);
+            match.setGuestTeam(i % 2 == 0 ? team2 : team1);
+            history.add(match);
+        }
+        matchRepository.saveAll(history);
+
+        MatchUpdateDTO dto = MatchUpdateDTO.builder()
+                .id(match1.getId())
+                .matchDate(LocalDate.parse("2024-10-27"))
+                .goalsHost(0)
+                .goalsGuest(1)
+                .hostTeamId(team2.getId())
+                .guestTeamId(team1.getId())
+                .version(match1.getVersion())
+                .build();
+
+        assertLoadCounts(put("/api/matches/" + match1.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)), 3);
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void UpdatePlayer_DoesNotLoadTeamSquads() throws Exception {
+        List<Player> squad = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Player teammate = Player.builder()
+                    .firstname("Player")
+                    .lastname("Number" + i)
+                    .build();
+            teammate.setTeam(i % 2 == 0 ? team1 : team2);
+            squad.add(teammate);
+        }
+        playerRepository.saveAll(squad);
+
+        PlayerUpdateDTO dto = PlayerUpdateDTO.builder()
+                .id(player.getId())
+                .firstname("Fabiano")
+                .lastname("Leismann")
+                .teamId(team2.getId())
+                .version(player.getVersion())
+                .build();
+
+        assertLoadCounts(put("/api/players/" + player.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)), 2);
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void UpdateTeam_IssuesOneReadAndOneUpdate() throws Exception {
+        TeamUpdateDTO dto = TeamUpdateDTO.builder()
+                .id(team1.getId())
+                .teamName("Aris")
+                .cityName("Thessaloniki")
+                .stadiumName("Kleanthis Vikelidis")
+                .coachFirstname("Akis")
+                .version(team1.getVersion())
+                .build();
+
+        assertStatementCount(put("/api/teams/" + team1.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)), 2);
+        Assertions.assertThat(teamRepository.findById(team1.getId()).orElseThrow().getVersion()).isEqualTo(team1.getVersion() + 1);
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void UpdateTeam_StaleVersion_ReturnsConflict() throws Exception {
+        TeamUpdateDTO dto = TeamUpdateDTO.builder()
+                .id(team1.getId())
+                .teamName("Arhs")
+                .cityName("Thessaloniki")
+                .stadiumName("Kleanthis Vikelidis")
+                .version(team1.getVersion() - 1)
+                .build();
+
+        mockMvc.perform(put("/api/teams/" + team1.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(MockMvcResultMatchers.status().isConflict());
+        Assertions.assertThat(teamRepository.findById(team1.getId()).orElseThrow().getTeamName()).isEqualTo("Aris");
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void DeleteTeam_IssuesSetBasedStatements() throws Exception {
+        List<Match> history = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            Match match = Match.builder()
+                    .matchDate(LocalDate.parse("2023-09-01").plusDays(i))
+                    .goalsHost(1)
+                    .goalsGuest(1)
+                    .build();
+            match.setHostTeam(team1);
+            match.setGuestTeam(team2);
+            history.add(match);
+        }
+        List<MatchPlayer> stats = new ArrayList<>();
+        for (Match match : matchRepository.saveAll(history)) {
+            MatchPlayer matchPlayer = MatchPlayer.builder().playTime(90).build();
+            matchPlayer.setMatch(match);
+            matchPlayer.setPlayer(player);
+            stats.add(matchPlayer);
+        }
+        matchPlayerRepository.saveAll(stats);
+
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(delete("/api/teams/" + team1.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.removedRows.MatchPlayer", CoreMatchers.is(31)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.removedRows.Match", CoreMatchers.is(32)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.removedRows.Player", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.removedRows.Team", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalRemovedRows", CoreMatchers.is(65)));
+
+        // existence check, the removed match players, five bulk deletes, their players' season stats rebuild,
+        // then the standings rebuild after commit
+        Assertions.assertThat(SqlStatementCounter.getCount()).isEqualTo(10);
+        Assertions.assertThat(teamRepository.existsById(team1.getId())).isFalse();
+        Assertions.assertThat(matchPlayerRepository.count()).isZero();
+        Assertions.assertThat(matchRepository.count()).isZero();
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void AddMatchPlayers_IssuesFixedStatementCount() throws Exception {
+        Player substitute = Player.builder()
+                .firstname("Loukas")
+                .lastname("Gkonis")
+                .build();
+        substitute.setTeam(team1);
+        playerRepository.save(substitute);
+
+        List<MatchPlayerInsertDTO> dtos = List.of(
+                MatchPlayerInsertDTO.builder().matchId(match1.getId()).playerId(player.getId()).build(),
+                MatchPlayerInsertDTO.builder().matchId(match1.getId()).playerId(substitute.getId()).build(),
+                MatchPlayerInsertDTO.builder().matchId(match2.getId()).playerId(player.getId()).build(),
+                MatchPlayerInsertDTO.builder().matchId(match2.getId()).playerId(substitute.getId()).build());
+        playerSeasonStatsService.rebuildPlayerSeasonStats();
+        PlayerSeasonStats substituteStats = new PlayerSeasonStats(null, 2024, 0, 0, 0, 0, 0);
+        substituteStats.setPlayer(substitute);
+        playerSeasonStatsRepository.save(substituteStats);
+
+        // four for the batch, then one read and one batched update of both players' season stats
+        assertStatementCount(post("/api/matchesplayers/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dtos)), 6);
+        assertPlayerSeasonStatsInStep();
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void UpdateMatchPlayer_AppliesSeasonStatsDeltaInOneStatement() throws Exception {
+        MatchPlayer stored = matchPlayerRepository.findByMatchIdAndPlayerId(match1.getId(), player.getId()).orElseThrow();
+        MatchPlayerUpdateDTO dto = MatchPlayerUpdateDTO.builder()
+                .id(stored.getId())
+                .matchId(match1.getId())
+                .playerId(player.getId())
+                .playTime(75)
+                .goals(2)
+                .assists(1)
+                .version(stored.getVersion())
+                .build();
+        playerSeasonStatsService.rebuildPlayerSeasonStats();
+
+        assertStatementCount(put("/api/matchesplayers/" + match1.getId() + "/" + player.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)), 3);
+        assertPlayerSeasonStatsInStep();
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void PlayerSeasonStats_FollowMatchPlayerAndMatchChanges() throws Exception {
+        MatchUpdateDTO nextSeason = MatchUpdateDTO.builder()
+                .id(match2.getId())
+                .matchDate(LocalDate.parse("2025-08-24"))
+                .goalsHost(2)
+                .goalsGuest(2)
+                .hostTeamId(team2.getId())
+                .guestTeamId(team1.getId())
+                .version(match2.getVersion())
+                .build();
+        playerSeasonStatsService.rebuildPlayerSeasonStats();
+
+        mockMvc.perform(post("/api/matchesplayers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(MatchPlayerInsertDTO.builder().matchId(match2.getId()).playerId(player.getId()).playTime(30).cards(1).build())))
+                .andExpect(MockMvcResultMatchers.status().isCreated());
+        assertPlayerSeasonStatsInStep();
+        mockMvc.perform(get("/api/players/" + player.getId() + "/stats").param("season", "2024"))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.appearances", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.minutesPlayed", CoreMatchers.is(120)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.goals", CoreMatchers.is(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.cards", CoreMatchers.is(1)));
+
+        mockMvc.perform(put("/api/matches/" + match2.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(nextSeason)))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertPlayerSeasonStatsInStep();
+
+        mockMvc.perform(delete("/api/matchesplayers/" + match1.getId() + "/" + player.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertPlayerSeasonStatsInStep();
+        mockMvc.perform(get("/api/players/" + player.getId() + "/stats").param("season", "2024"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.appearances", CoreMatchers.is(0)));
+
+        mockMvc.perform(delete("/api/matches/" + match2.getId()))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+        assertPlayerSeasonStatsInStep();
+    }
+
+    @Test
+    public void FindByMatchIdAndPlayerId_DoesNotLoadAssociations() {
+        SqlStatementCounter.reset();
+
+        matchPlayerRepository.findByMatchIdAndPlayerId(match1.getId(), player.getId());
+
+        Assertions.assertThat(SqlStatementCounter.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void FindTeamById_IsServedFromSecondLevelCache() {
+        entityCacheService.evictAll();
+        long hitsBefore = teamsRegionStats().getHitCount();
+
+        teamRepository.findById(team1.getId());
+        SqlStatementCounter.reset();
+        teamRepository.findById(team1.getId());
+
+        Assertions.assertThat(SqlStatementCounter.getCount()).isZero();
+        Assertions.assertThat(teamsRegionStats().getHitCount()).isEqualTo(hitsBefore + 1);
+    }
+
+    @Test
+    public void FindPlayerById_IsServedFromSecondLevelCache() {
+        entityCacheService.evictAll();
+
+        playerRepository.findById(player.getId());
+        SqlStatementCounter.reset();
+        playerRepository.findById(player.getId());
+
+        Assertions.assertThat(SqlStatementCounter.getCount()).isZero();
+    }
+
+    private CacheStatsDTO teamsRegionStats() {
+        return entityCacheService.getCacheStats().stream()
+                .filter(stats -> stats.getName().equals("teams"))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private void assertLoadCounts(RequestBuilder request, int expectedEntityLoads) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        long entityLoads = statistics.getEntityLoadCount();
+        long collectionLoads = statistics.getCollectionLoadCount();
+
+        mockMvc.perform(request).andExpect(MockMvcResultMatchers.status().isOk());
+
+        Assertions.assertThat(statistics.getEntityLoadCount() - entityLoads).isEqualTo(expectedEntityLoads);
+        Assertions.assertThat(statistics.getCollectionLoadCount() - collectionLoads).isZero();
+    }
+
+    private void assertStatementCount(RequestBuilder request, int expected) throws Exception {
+        assertStatementCount(request, MockMvcResultMatchers.status().isOk(), expected);
+    }
+
+    private void assertStatementCount(RequestBuilder request, ResultMatcher status, int expected) throws Exception {
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(request).andExpect(status);
+
+        // pooled id allocation is amortised over many inserts and depends on test order, so it is not counted
+        Assertions.assertThat(SqlStatementCounter.getCount() - SqlStatementCounter.getSequenceCount()).isEqualTo(expected);
+    }
+
+    private void assertPlayerSeasonStatsInStep() {
+        List<PlayerSeasonStatsReadOnlyDTO> stored = playerSeasonStatsRepository.findAll().stream()
+                .filter(stats -> stats.getAppearances() > 0)
+                .map(stats -> new PlayerSeasonStatsReadOnlyDTO(stats.getPlayer().getId(), stats.getSeason(), stats.getAppearances(),
+                        stats.getMinutesPlayed(), stats.getGoals(), stats.getAssists(), stats.getCards()))
+                .toList();
+
+        Assertions.assertThat(stored).usingRecursiveFieldByFieldElementComparator()
+                .containsExactlyInAnyOrderElementsOf(playerSeasonStatsRepository.aggregateAllFromMatchesPlayers());
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.dto.StandingReadOnlyDTO;
+import com.project.superleague.service.IStandingsService;
+import org.hamcrest.CoreMatchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ExtendWith(MockitoExtension.class)
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration
+public class StandingsRestTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IStandingsService standingsService;
+
+    private StandingReadOnlyDTO standing1;
+    private StandingReadOnlyDTO standing2;
+
+    @BeforeEach
+    public void init() {
+        standing1 = new StandingReadOnlyDTO(1, 3L, 1, 1, 0, 0, 3, 0, 3, 3);
+        standing2 = new StandingReadOnlyDTO(2, 2L, 1, 0, 0, 1, 0, 3, -3, 0);
+    }
+
+    @Test
+    public void StandingsRest_GetStandings_ReturnsOk() throws Exception {
+        when(standingsService.getStandings()).thenReturn(List.of(standing1, standing2));
+
+        ResultActions response = mockMvc.perform(get("/api/standings")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.length()", CoreMatchers.is(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].teamId", CoreMatchers.is(3)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$[0].points", CoreMatchers.is(3)));
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void StandingsRest_VerifyStandings_ReturnsOk() throws Exception {
+        when(standingsService.verifyStandings()).thenReturn(List.of(2L));
+
+        ResultActions response = mockMvc.perform(get("/api/admin/standings/consistency")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.consistent", CoreMatchers.is(false)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.mismatchedTeamIds[0]", CoreMatchers.is(2)));
+    }
+
+    @Test
+    public void StandingsRest_VerifyStandings_ReturnsForbidden() throws Exception {
+        ResultActions response = mockMvc.perform(get("/api/admin/standings/consistency")
+                .contentType(MediaType.APPLICATION_JSON));
+
+        response.andExpect(MockMvcResultMatchers.status().is4xxClientError());
+    }
+}
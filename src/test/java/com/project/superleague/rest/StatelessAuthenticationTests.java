@@ -0,0 +1,54 @@
+package com.project.superleague.rest;
+
+import com.project.superleague.service.IJWTService;
+import com.project.superleague.support.SqlStatementCounter;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+@SpringBootTest(properties = {SqlStatementCounter.PROPERTY, "superleague.jwt.stateless=true"})
+@AutoConfigureMockMvc
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+public class StatelessAuthenticationTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private IJWTService jwtService;
+
+    @Test
+    public void AdminRequest_WithAuthoritiesClaim_SkipsUserLookup() throws Exception {
+        String token = jwtService.generateToken("admin", List.of("admin"));
+        SqlStatementCounter.reset();
+
+        mockMvc.perform(get("/api/admin/standings/consistency")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Assertions.assertThat(SqlStatementCounter.getCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void AdminRequest_AfterLogout_IsRejected() throws Exception {
+        String token = jwtService.generateToken("admin", List.of("admin"));
+
+        mockMvc.perform(post("/api/logout")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        mockMvc.perform(get("/api/admin/standings/consistency")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(MockMvcResultMatchers.status().is4xxClientError());
+    }
+}
@@ -1,10 +1,14 @@
 package com.project.superleague.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetPage;
 import com.project.superleague.dto.PlayerInsertDTO;
 import com.project.superleague.dto.PlayerUpdateDTO;
 import com.project.superleague.dto.TeamInsertDTO;
+import com.project.superleague.dto.TeamReadOnlyDTO;
 import com.project.superleague.dto.TeamUpdateDTO;
+import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
 import com.project.superleague.service.ITeamService;
@@ -31,6 +35,7 @@ import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -105,6 +110,7 @@ public class TeamRestTests {
                 .coachLastname("Mantzios")
                 .presidentFirstname("Eirini")
                 .presidentLastname("Karypidou")
+                .version(0L)
                 .build();
 
         teamInsertDTOInvalid = TeamInsertDTO.builder()
@@ -128,16 +134,17 @@ public class TeamRestTests {
                 .coachLastname("Mantzios")
                 .presidentFirstname("Eirini")
                 .presidentLastname("Karypidou")
+                .version(0L)
                 .build();
     }
 
     @Test
     public void TeamRest_GetTeamsByTeamName_ReturnsOk() throws Exception {
         String searchParameter = "Ar";
-        List<Team> teams = new ArrayList<>();
-        teams.add(team);
+        List<TeamReadOnlyDTO> teams = new ArrayList<>();
+        teams.add(Mapper.mapTeamToReadOnlyDTO(team));
 
-        when(teamService.getTeamByName(searchParameter)).thenReturn(teams);
+        when(teamService.getTeamByName(searchParameter, null, KeysetPage.DEFAULT_LIMIT)).thenReturn(new KeysetPage<>(teams, null));
 
         ResultActions response = mockMvc.perform(get("/api/teams?teamname=Ar")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -150,7 +157,7 @@ public class TeamRestTests {
     public void TeamRest_GetTeamsByTeamName_ReturnsBadRequest() throws Exception {
         String searchParameter = "Ar";
 
-        when(teamService.getTeamByName(searchParameter)).thenThrow(EntityNotFoundException.class);
+        when(teamService.getTeamByName(searchParameter, null, KeysetPage.DEFAULT_LIMIT)).thenThrow(EntityNotFoundException.class);
 
         ResultActions response = mockMvc.perform(get("/api/teams?lastname=Oly")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -162,7 +169,7 @@ public class TeamRestTests {
     public void TeamRest_GetTeamById_ReturnsOk() throws Exception {
         Long teamId = 1L;
 
-        when(teamService.getTeamById(teamId)).thenReturn(team);
+        when(teamService.getTeamById(teamId)).thenReturn(Mapper.mapTeamToReadOnlyDTO(team));
 
         ResultActions response = mockMvc.perform(get("/api/teams/1")
                 .contentType(MediaType.APPLICATION_JSON));
@@ -271,7 +278,7 @@ public class TeamRestTests {
     public void TeamRest_DeleteTeam_ReturnsOk() throws Exception {
         Long teamId = 1L;
 
-        when(teamService.deleteTeam(teamId)).thenReturn(team);
+        when(teamService.deleteTeam(teamId)).thenReturn(new DeletionResultDTO(teamId, Map.of("Team", 1)));
 
         ResultActions response = mockMvc.perform(delete("/api/teams/1")
                 .contentType(MediaType.APPLICATION_JSON));
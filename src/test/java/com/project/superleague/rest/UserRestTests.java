@@ -13,14 +13,21 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.task.TaskRejectedException;
 import org.springframework.http.MediaType;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.concurrent.CompletableFuture;
+
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 
 @SpringBootTest
@@ -53,13 +60,61 @@ public class UserRestTests {
 
     @Test
     public void UserRest_Login_ReturnsOk() throws Exception {
-        when(userService.verifyUser(Mockito.any(UserLoginDTO.class))).thenReturn(token);
+        when(userService.verifyUserAsync(Mockito.any(UserLoginDTO.class))).thenReturn(CompletableFuture.completedFuture(token));
+
+        MvcResult result = mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userLoginDTO)))
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.content().string(token));
+    }
+
+    @Test
+    public void UserRest_Login_BadCredentials_ReturnsUnauthorized() throws Exception {
+        when(userService.verifyUserAsync(Mockito.any(UserLoginDTO.class)))
+                .thenReturn(CompletableFuture.failedFuture(new BadCredentialsException("Bad credentials")));
+
+        MvcResult result = mockMvc.perform(post("/api/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(userLoginDTO)))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isUnauthorized());
+    }
+
+    @Test
+    public void UserRest_Login_PoolSaturated_ReturnsServiceUnavailable() throws Exception {
+        when(userService.verifyUserAsync(Mockito.any(UserLoginDTO.class)))
+                .thenThrow(new TaskRejectedException("Login pool saturated"));
 
         ResultActions response = mockMvc.perform(post("/api/login")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(objectMapper.writeValueAsString(userLoginDTO)));
 
-        response.andExpect(MockMvcResultMatchers.status().isOk())
-                .andExpect(MockMvcResultMatchers.content().string(token));
+        response.andExpect(MockMvcResultMatchers.status().isServiceUnavailable())
+                .andExpect(MockMvcResultMatchers.header().string("Retry-After", "1"));
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void UserRest_Logout_ReturnsNoContent() throws Exception {
+        ResultActions response = mockMvc.perform(post("/api/logout")
+                .header("Authorization", "Bearer " + token));
+
+        response.andExpect(MockMvcResultMatchers.status().isNoContent());
+        Mockito.verify(userService).logoutUser(token);
+    }
+
+    @Test
+    @WithMockUser(authorities = "admin")
+    public void UserRest_Logout_WithoutToken_ReturnsUnauthorized() throws Exception {
+        ResultActions response = mockMvc.perform(post("/api/logout"));
+
+        response.andExpect(MockMvcResultMatchers.status().isUnauthorized());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.CacheStatsDTO;
+import jakarta.persistence.EntityManagerFactory;
+import org.assertj.core.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class EntityCacheServiceTests {
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+
+    @Mock
+    private SessionFactory sessionFactory;
+
+    @Mock
+    private Statistics statistics;
+
+    @Mock
+    private CacheRegionStatistics regionStatistics;
+
+    private EntityCacheServiceImpl entityCacheService;
+
+    @BeforeEach
+    public void init() {
+        entityCacheService = new EntityCacheServiceImpl(entityManagerFactory);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.getDomainDataRegionStatistics(anyString())).thenReturn(regionStatistics);
+        when(regionStatistics.getElementCountInMemory()).thenReturn(3L);
+        lenient().when(regionStatistics.getHitCount()).thenReturn(12L);
+        lenient().when(regionStatistics.getMissCount()).thenReturn(2L);
+    }
+
+    @Test
+    public void EntityCacheService_GetCacheStats_StatisticsEnabled_ReturnsCounters() {
+        when(statistics.isStatisticsEnabled()).thenReturn(true);
+
+        List<CacheStatsDTO> stats = entityCacheService.getCacheStats();
+
+        Assertions.assertThat(stats).extracting(CacheStatsDTO::getName).isEqualTo(EntityCacheServiceImpl.REGIONS);
+        Assertions.assertThat(stats).allMatch(regionStats -> regionStats.getSize() == 3L
+                && regionStats.getHitCount() == 12L && regionStats.getMissCount() == 2L);
+    }
+
+    @Test
+    public void EntityCacheService_GetCacheStats_StatisticsDisabled_ReturnsNullCounters() {
+        when(statistics.isStatisticsEnabled()).thenReturn(false);
+
+        List<CacheStatsDTO> stats = entityCacheService.getCacheStats();
+
+        Assertions.assertThat(stats).allMatch(regionStats -> regionStats.getSize() == 3L
+                && regionStats.getHitCount() == null && regionStats.getMissCount() == null);
+    }
+}
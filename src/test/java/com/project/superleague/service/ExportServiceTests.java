@@ -0,0 +1,100 @@
+package com.project.superleague.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import com.project.superleague.repository.MatchPlayerRepository;
+import com.project.superleague.repository.MatchRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.assertj.core.api.Assertions;
+import org.hibernate.jpa.HibernateHints;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportServiceTests {
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock(answer = Answers.RETURNS_DEEP_STUBS)
+    private DataSource dataSource;
+
+    @Mock
+    private TypedQuery<MatchReadOnlyDTO> matchQuery;
+
+    @Mock
+    private TypedQuery<MatchPlayerReadOnlyDTO> matchPlayerQuery;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder()
+            .findAndAddModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    @Test
+    public void ExportService_ExportMatches_WritesOneLinePerMatch() throws Exception {
+        ExportServiceImpl exportService = exportService("H2");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        when(entityManager.createQuery(MatchRepository.SELECT_READ_ONLY_DTO, MatchReadOnlyDTO.class)).thenReturn(matchQuery);
+        when(matchQuery.setHint(HibernateHints.HINT_FETCH_SIZE, 1000)).thenReturn(matchQuery);
+        when(matchQuery.getResultStream()).thenReturn(Stream.of(
+                new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-04"), 2, 1, 1L, 2L),
+                new MatchReadOnlyDTO(2L, LocalDate.parse("2024-10-27"), 0, 0, 2L, 1L)));
+
+        exportService.exportMatches(null, outputStream);
+
+        String[] lines = outputStream.toString().split("\n");
+        Assertions.assertThat(lines).hasSize(2);
+        Assertions.assertThat(objectMapper.readValue(lines[1], MatchReadOnlyDTO.class).getMatchDate()).isEqualTo(LocalDate.parse("2024-10-27"));
+    }
+
+    @Test
+    public void ExportService_ExportMatchesPlayers_FiltersBySince() throws Exception {
+        ExportServiceImpl exportService = exportService("H2");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        LocalDate since = LocalDate.parse("2024-10-01");
+
+        when(entityManager.createQuery(MatchPlayerRepository.SELECT_READ_ONLY_DTO + MatchPlayerRepository.WHERE_MATCH_DATE_SINCE,
+                MatchPlayerReadOnlyDTO.class)).thenReturn(matchPlayerQuery);
+        when(matchPlayerQuery.setHint(HibernateHints.HINT_FETCH_SIZE, 1000)).thenReturn(matchPlayerQuery);
+        when(matchPlayerQuery.getResultStream()).thenReturn(Stream.of(
+                new MatchPlayerReadOnlyDTO(1L, 1L, 1L, 90, 1, 0, 0, 0L)));
+
+        exportService.exportMatchesPlayers(since, outputStream);
+
+        verify(matchPlayerQuery).setParameter("since", since);
+        Assertions.assertThat(outputStream.toString()).isEqualTo("{\"id\":1,\"matchId\":1,\"playerId\":1,\"playTime\":90,\"goals\":1,\"assists\":0,\"cards\":0,\"version\":0}\n");
+    }
+
+    @Test
+    public void ExportService_ExportMatches_OnMySQL_StreamsRowByRow() throws Exception {
+        ExportServiceImpl exportService = exportService("MySQL");
+
+        when(entityManager.createQuery(MatchRepository.SELECT_READ_ONLY_DTO, MatchReadOnlyDTO.class)).thenReturn(matchQuery);
+        when(matchQuery.setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE)).thenReturn(matchQuery);
+        when(matchQuery.getResultStream()).thenReturn(Stream.empty());
+
+        exportService.exportMatches(null, new ByteArrayOutputStream());
+
+        verify(matchQuery).setHint(HibernateHints.HINT_FETCH_SIZE, Integer.MIN_VALUE);
+    }
+
+    private ExportServiceImpl exportService(String databaseProductName) throws Exception {
+        when(dataSource.getConnection().getMetaData().getDatabaseProductName()).thenReturn(databaseProductName);
+        return new ExportServiceImpl(entityManager, objectMapper, dataSource);
+    }
+}
@@ -1,7 +1,9 @@
 package com.project.superleague.service;
 
+import com.project.superleague.model.TokenClaims;
 import com.project.superleague.model.UserPrincipal;
 import com.project.superleague.model.Users;
+import io.jsonwebtoken.JwtException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +14,8 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 
 @ExtendWith(MockitoExtension.class)
 public class JWTServiceTests {
@@ -63,4 +67,61 @@ public class JWTServiceTests {
 
         Assertions.assertThat(isValid).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    public void JWTService_ParseToken_ReturnsUsernameAndExpiration() {
+        String token = jwtService.generateToken("admin");
+
+        TokenClaims claims = jwtService.parseToken(token);
+
+        Assertions.assertThat(claims.getUsername()).isEqualTo("admin");
+        Assertions.assertThat(claims.getExpiration()).isInTheFuture();
+        Assertions.assertThat(jwtService.validateToken(claims, userDetails)).isTrue();
+    }
+
+    @Test
+    public void JWTService_ValidateToken_ExpiredClaims_ReturnsFalse() {
+        TokenClaims claims = new TokenClaims("1", "admin", null, new Date(System.currentTimeMillis() - 1000));
+
+        Assertions.assertThat(jwtService.validateToken(claims, userDetails)).isFalse();
+    }
+
+    @Test
+    public void JWTService_ParseToken_ForeignToken_Throws() {
+        String token = new JWTServiceImpl().generateToken("admin");
+
+        Assertions.assertThatThrownBy(() -> jwtService.parseToken(token)).isInstanceOf(JwtException.class);
+    }
+
+    @Test
+    public void JWTService_GenerateToken_WithAuthorities_CarriesAuthoritiesClaim() {
+        String token = jwtService.generateToken("admin", List.of("admin"));
+
+        TokenClaims claims = jwtService.parseToken(token);
+
+        Assertions.assertThat(claims.getAuthorities()).containsExactly("admin");
+        Assertions.assertThat(claims.getId()).isNotNull();
+        Assertions.assertThat(jwtService.validateToken(claims)).isTrue();
+    }
+
+    @Test
+    public void JWTService_ValidateToken_WithoutAuthoritiesClaim_ReturnsFalse() {
+        TokenClaims claims = jwtService.parseToken(jwtService.generateToken("admin"));
+
+        Assertions.assertThat(claims.hasAuthorities()).isFalse();
+        Assertions.assertThat(jwtService.validateToken(claims)).isFalse();
+    }
+
+    @Test
+    public void JWTService_RevokeToken_InvalidatesToken() {
+        TokenClaims claims = jwtService.parseToken(jwtService.generateToken("admin", List.of("admin")));
+        TokenClaims otherClaims = jwtService.parseToken(jwtService.generateToken("admin", List.of("admin")));
+
+        jwtService.revokeToken(claims);
+
+        Assertions.assertThat(jwtService.isTokenRevoked(claims)).isTrue();
+        Assertions.assertThat(jwtService.validateToken(claims)).isFalse();
+        Assertions.assertThat(jwtService.validateToken(claims, userDetails)).isFalse();
+        Assertions.assertThat(jwtService.validateToken(otherClaims)).isTrue();
+    }
+}
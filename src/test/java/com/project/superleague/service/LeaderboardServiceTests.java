@@ -0,0 +1,129 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.LeaderboardEntryDTO;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.event.PlayerDeletedEvent;
+import com.project.superleague.repository.MatchPlayerRepository;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LeaderboardServiceTests {
+    @Mock
+    private MatchPlayerRepository matchPlayerRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private LeaderboardServiceImpl leaderboardService;
+
+    private MatchPlayerReadOnlyDTO matchPlayer1;
+    private MatchPlayerReadOnlyDTO matchPlayer1Updated;
+    private MatchPlayerReadOnlyDTO matchPlayer2;
+    private MatchPlayerReadOnlyDTO matchPlayer3;
+
+    @BeforeEach
+    public void init() {
+        matchPlayer1 = new MatchPlayerReadOnlyDTO(1L, 1L, 1L, 90, 1, 0, 0);
+        matchPlayer1Updated = new MatchPlayerReadOnlyDTO(1L, 1L, 1L, 90, 3, 0, 1);
+        matchPlayer2 = new MatchPlayerReadOnlyDTO(2L, 1L, 2L, 60, 2, 1, null);
+        matchPlayer3 = new MatchPlayerReadOnlyDTO(3L, 2L, 3L, 90, 2, 2, 0);
+    }
+
+    @Test
+    public void LeaderboardService_MatchPlayersInserted_ReturnsRankedPage() {
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(null, matchPlayer1));
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(null, matchPlayer2));
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(null, matchPlayer3));
+
+        List<LeaderboardEntryDTO> goals = leaderboardService.getLeaderboard("goals", 0, 10);
+        List<LeaderboardEntryDTO> secondPage = leaderboardService.getLeaderboard("minutes", 1, 1);
+
+        Assertions.assertThat(goals).extracting(LeaderboardEntryDTO::getPlayerId).containsExactly(2L, 3L, 1L);
+        Assertions.assertThat(goals).extracting(LeaderboardEntryDTO::getRank).containsExactly(1, 2, 3);
+        Assertions.assertThat(secondPage).extracting(LeaderboardEntryDTO::getPlayerId).containsExactly(3L);
+        Assertions.assertThat(secondPage.get(0).getRank()).isEqualTo(2);
+    }
+
+    @Test
+    public void LeaderboardService_MatchPlayerUpdated_ReversesPreviousValues() throws EntityNotFoundException {
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(null, matchPlayer1));
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(null, matchPlayer2));
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(matchPlayer1, matchPlayer1Updated));
+
+        LeaderboardEntryDTO entry = leaderboardService.getPlayerRank("goals", 1L);
+
+        Assertions.assertThat(entry.getRank()).isEqualTo(1);
+        Assertions.assertThat(entry.getTotal()).isEqualTo(3L);
+        Assertions.assertThat(leaderboardService.getPlayerRank("cards", 1L).getTotal()).isEqualTo(1L);
+    }
+
+    @Test
+    public void LeaderboardService_PlayerDeleted_RemovesPlayerFromEveryMetric() {
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(null, matchPlayer1));
+        leaderboardService.onPlayerDeleted(new PlayerDeletedEvent(1L));
+
+        Assertions.assertThatThrownBy(() -> leaderboardService.getPlayerRank("assists", 1L)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    public void LeaderboardService_MatchPlayersRemoved_DropsPlayersWithoutRebuilding() {
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(null, matchPlayer1));
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(null, matchPlayer2));
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(null, matchPlayer3));
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(matchPlayer1, null));
+        leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(matchPlayer2, null));
+
+        Assertions.assertThat(leaderboardService.getLeaderboard("goals", 0, 10)).extracting(LeaderboardEntryDTO::getPlayerId).containsExactly(3L);
+        Assertions.assertThatThrownBy(() -> leaderboardService.getPlayerRank("minutes", 1L)).isInstanceOf(EntityNotFoundException.class);
+        Mockito.verifyNoInteractions(matchPlayerRepository);
+    }
+
+    @Test
+    public void LeaderboardService_GetLeaderboard_UnknownMetric_ThrowsIllegalArgumentException() {
+        Assertions.assertThatThrownBy(() -> leaderboardService.getLeaderboard("saves", 0, 10)).isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> leaderboardService.getLeaderboard("goals", -1, 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void LeaderboardService_RebuildLeaderboards_SumsStoredMatchPlayers() throws EntityNotFoundException {
+        when(matchPlayerRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(matchPlayer1, matchPlayer2, matchPlayer3));
+
+        leaderboardService.rebuildLeaderboards();
+
+        Assertions.assertThat(leaderboardService.getPlayerRank("assists", 3L).getRank()).isEqualTo(1);
+        Assertions.assertThat(leaderboardService.getLeaderboard("goals", 0, 10)).hasSize(3);
+    }
+
+    @Test
+    public void LeaderboardService_MatchPlayerChangedDuringRebuild_CountsEveryMatchPlayerOnce() throws EntityNotFoundException {
+        MatchPlayerReadOnlyDTO streamed1 = new MatchPlayerReadOnlyDTO(1L, 1L, 1L, 90, 1, 0, 0, 0L);
+        MatchPlayerReadOnlyDTO updated1 = new MatchPlayerReadOnlyDTO(1L, 1L, 1L, 90, 3, 0, 0, 1L);
+        MatchPlayerReadOnlyDTO streamed2 = new MatchPlayerReadOnlyDTO(2L, 1L, 2L, 60, 2, 1, 0, 0L);
+        when(matchPlayerRepository.streamAllReadOnlyDTOs()).thenAnswer(invocation -> {
+            leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(streamed1, updated1));
+            leaderboardService.onMatchPlayerChanged(new MatchPlayerChangedEvent(null, streamed2));
+            return Stream.of(streamed1, streamed2);
+        });
+
+        leaderboardService.rebuildLeaderboards();
+
+        Assertions.assertThat(leaderboardService.getPlayerRank("goals", 1L).getTotal()).isEqualTo(3L);
+        Assertions.assertThat(leaderboardService.getPlayerRank("goals", 2L).getTotal()).isEqualTo(2L);
+    }
+}
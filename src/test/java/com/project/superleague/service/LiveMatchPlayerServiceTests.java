@@ -0,0 +1,88 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchPlayerDeltaDTO;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.live.LiveHub;
+import com.project.superleague.live.MatchPlayerTopic;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+public class LiveMatchPlayerServiceTests {
+    private Queue<Runnable> pending;
+    private LiveMatchPlayerServiceImpl liveMatchPlayerService;
+
+    private MatchPlayerReadOnlyDTO matchPlayer;
+    private MatchPlayerReadOnlyDTO matchPlayerScored;
+    private MatchPlayerReadOnlyDTO matchPlayerBooked;
+
+    @BeforeEach
+    public void init() {
+        pending = new ArrayDeque<>();
+        liveMatchPlayerService = new LiveMatchPlayerServiceImpl(pending::add, 16);
+
+        matchPlayer = new MatchPlayerReadOnlyDTO(1L, 1L, 7L, 60, 0, 0, 0, 0L);
+        matchPlayerScored = new MatchPlayerReadOnlyDTO(1L, 1L, 7L, 75, 1, 0, 0, 1L);
+        matchPlayerBooked = new MatchPlayerReadOnlyDTO(1L, 1L, 7L, 90, 1, 0, 1, 2L);
+    }
+
+    @Test
+    public void LiveMatchPlayerService_MatchPlayerChanged_CoalescesRapidUpdates() {
+        List<List<MatchPlayerDeltaDTO>> batches = subscribe(MatchPlayerTopic.match(1L));
+
+        liveMatchPlayerService.onMatchPlayerChanged(new MatchPlayerChangedEvent(matchPlayer, matchPlayerScored));
+        liveMatchPlayerService.onMatchPlayerChanged(new MatchPlayerChangedEvent(matchPlayerScored, matchPlayerBooked));
+        pending.poll().run();
+
+        Assertions.assertThat(pending).isEmpty();
+        Assertions.assertThat(batches).hasSize(1);
+        Assertions.assertThat(batches.get(0)).singleElement().satisfies(delta -> {
+            Assertions.assertThat(delta.getPlayTime()).isEqualTo(30);
+            Assertions.assertThat(delta.getGoals()).isEqualTo(1);
+            Assertions.assertThat(delta.getCards()).isEqualTo(1);
+            Assertions.assertThat(delta.getVersion()).isEqualTo(2L);
+            Assertions.assertThat(delta.isRemoved()).isFalse();
+        });
+    }
+
+    @Test
+    public void LiveMatchPlayerService_MatchPlayerDeleted_SendsNegativeDeltaToPlayerSubscribers() {
+        List<List<MatchPlayerDeltaDTO>> playerBatches = subscribe(MatchPlayerTopic.player(7L));
+        List<List<MatchPlayerDeltaDTO>> otherBatches = subscribe(MatchPlayerTopic.match(2L));
+
+        liveMatchPlayerService.onMatchPlayerChanged(new MatchPlayerChangedEvent(matchPlayerScored, null));
+        pending.forEach(Runnable::run);
+
+        Assertions.assertThat(otherBatches).isEmpty();
+        Assertions.assertThat(playerBatches).singleElement().satisfies(batch -> Assertions.assertThat(batch).singleElement().satisfies(delta -> {
+            Assertions.assertThat(delta.getMatchId()).isEqualTo(1L);
+            Assertions.assertThat(delta.getGoals()).isEqualTo(-1);
+            Assertions.assertThat(delta.getPlayTime()).isEqualTo(-75);
+            Assertions.assertThat(delta.isRemoved()).isTrue();
+        }));
+    }
+
+    private List<List<MatchPlayerDeltaDTO>> subscribe(MatchPlayerTopic topic) {
+        List<List<MatchPlayerDeltaDTO>> batches = new ArrayList<>();
+        LiveHub<MatchPlayerTopic, MatchPlayerDeltaDTO>.Subscription subscription = liveMatchPlayerService.subscribe(new LiveHub.Sender<>() {
+            @Override
+            public void send(MatchPlayerDeltaDTO delta) {
+                batches.add(List.of(delta));
+            }
+
+            @Override
+            public void sendAll(List<MatchPlayerDeltaDTO> deltas) {
+                batches.add(deltas);
+            }
+        });
+
+        subscription.follow(topic);
+        return batches;
+    }
+}
@@ -0,0 +1,131 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import com.project.superleague.event.MatchChangedEvent;
+import com.project.superleague.live.LiveSubscription;
+import com.project.superleague.model.Match;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class LiveScoreServiceTests {
+    @Mock
+    private IMatchService matchService;
+
+    private LiveScoreServiceImpl liveScoreService;
+
+    private MatchReadOnlyDTO match;
+    private MatchReadOnlyDTO matchScored;
+    private MatchReadOnlyDTO matchRescheduled;
+
+    @BeforeEach
+    public void init() {
+        liveScoreService = new LiveScoreServiceImpl(matchService, Runnable::run, 4);
+
+        match = new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-04"), 0, 0, 1L, 2L, 0L);
+        matchScored = new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-04"), 1, 0, 1L, 2L, 1L);
+        matchRescheduled = new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-05"), 1, 0, 1L, 2L, 2L);
+    }
+
+    @Test
+    public void LiveScoreService_SubscribeToMatch_SendsStoredMatchThenScoreChanges() throws Exception {
+        List<MatchReadOnlyDTO> received = new ArrayList<>();
+        when(matchService.getMatchById(1L)).thenReturn(match);
+
+        liveScoreService.subscribeToMatch(1L, received::add);
+        liveScoreService.onMatchChanged(new MatchChangedEvent(match, matchScored));
+        liveScoreService.onMatchChanged(new MatchChangedEvent(matchScored, matchRescheduled));
+
+        Assertions.assertThat(received).extracting(MatchReadOnlyDTO::getVersion).containsExactly(0L, 1L);
+    }
+
+    @Test
+    public void LiveScoreService_SubscribeToMatch_UpdateCommittedDuringRead_SkipsOlderStoredMatch() throws Exception {
+        List<MatchReadOnlyDTO> received = new ArrayList<>();
+        when(matchService.getMatchById(1L)).thenAnswer(invocation -> {
+            liveScoreService.onMatchChanged(new MatchChangedEvent(match, matchScored));
+            return match;
+        });
+
+        liveScoreService.subscribeToMatch(1L, received::add);
+
+        Assertions.assertThat(received).containsExactly(matchScored);
+    }
+
+    @Test
+    public void LiveScoreService_SubscribeToMatch_MatchNotFound_ThrowsEntityNotFoundException() throws Exception {
+        when(matchService.getMatchById(1L)).thenThrow(new EntityNotFoundException(Match.class, 1L));
+
+        Assertions.assertThatThrownBy(() -> liveScoreService.subscribeToMatch(1L, message -> { }))
+                .isInstanceOf(EntityNotFoundException.class);
+        Assertions.assertThat(liveScoreService.getSubscriberCount(1L)).isZero();
+    }
+
+    @Test
+    public void LiveScoreService_SubscribeToMatchDate_SendsScoreChangesOfThatDate() {
+        List<MatchReadOnlyDTO> received = new ArrayList<>();
+        List<MatchReadOnlyDTO> otherDate = new ArrayList<>();
+
+        liveScoreService.subscribeToMatchDate(LocalDate.parse("2024-10-04"), received::add);
+        liveScoreService.subscribeToMatchDate(LocalDate.parse("2024-10-05"), otherDate::add);
+        liveScoreService.onMatchChanged(new MatchChangedEvent(null, match));
+        liveScoreService.onMatchChanged(new MatchChangedEvent(match, matchScored));
+
+        Assertions.assertThat(received).containsExactly(matchScored);
+        Assertions.assertThat(otherDate).isEmpty();
+    }
+
+    @Test
+    public void LiveScoreService_SubscribeToMatchDate_BufferFull_KeepsLatestScoreOfEveryMatch() {
+        List<Runnable> pending = new ArrayList<>();
+        List<MatchReadOnlyDTO> received = new ArrayList<>();
+        MatchReadOnlyDTO otherMatch = new MatchReadOnlyDTO(2L, LocalDate.parse("2024-10-04"), 0, 0, 3L, 4L, 0L);
+        MatchReadOnlyDTO otherMatchScored = new MatchReadOnlyDTO(2L, LocalDate.parse("2024-10-04"), 0, 1, 3L, 4L, 1L);
+        liveScoreService = new LiveScoreServiceImpl(matchService, pending::add, 4);
+
+        liveScoreService.subscribeToMatchDate(LocalDate.parse("2024-10-04"), received::add);
+        liveScoreService.onMatchChanged(new MatchChangedEvent(otherMatch, otherMatchScored));
+        for (int goals = 1; goals <= 6; goals++) {
+            liveScoreService.onMatchChanged(new MatchChangedEvent(match,
+                    new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-04"), goals, 0, 1L, 2L, (long) goals)));
+        }
+        pending.forEach(Runnable::run);
+
+        Assertions.assertThat(received).extracting(MatchReadOnlyDTO::getId, MatchReadOnlyDTO::getVersion)
+                .containsExactly(Assertions.tuple(2L, 1L), Assertions.tuple(1L, 6L));
+    }
+
+    @Test
+    public void LiveScoreService_SubscribeToMatchDate_UpdatesOutOfOrder_SkipsOlderVersion() {
+        List<MatchReadOnlyDTO> received = new ArrayList<>();
+        MatchReadOnlyDTO matchScoredAgain = new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-04"), 2, 0, 1L, 2L, 2L);
+
+        liveScoreService.subscribeToMatchDate(LocalDate.parse("2024-10-04"), received::add);
+        liveScoreService.onMatchChanged(new MatchChangedEvent(matchScored, matchScoredAgain));
+        liveScoreService.onMatchChanged(new MatchChangedEvent(match, matchScored));
+
+        Assertions.assertThat(received).containsExactly(matchScoredAgain);
+    }
+
+    @Test
+    public void LiveScoreService_MatchDeleted_ClosesMatchSubscriptions() throws Exception {
+        when(matchService.getMatchById(1L)).thenReturn(match);
+
+        LiveSubscription subscription = liveScoreService.subscribeToMatch(1L, message -> { });
+        liveScoreService.onMatchChanged(new MatchChangedEvent(matchScored, null));
+
+        Assertions.assertThat(subscription.isClosed()).isTrue();
+        Assertions.assertThat(liveScoreService.getSubscriberCount(1L)).isZero();
+    }
+}
@@ -1,7 +1,11 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.MatchPlayerBatchResultDTO;
 import com.project.superleague.dto.MatchPlayerInsertDTO;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.MatchPlayerReferencesDTO;
 import com.project.superleague.dto.MatchPlayerUpdateDTO;
+import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Match;
 import com.project.superleague.model.MatchPlayer;
 import com.project.superleague.model.Player;
@@ -11,6 +15,7 @@ import com.project.superleague.repository.MatchRepository;
 import com.project.superleague.repository.PlayerRepository;
 import com.project.superleague.service.exception.EntityAlreadyExistsException;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -19,9 +24,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.Mockito.when;
@@ -37,6 +46,12 @@ public class MatchPlayerServiceTests {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private IPlayerSeasonStatsService playerSeasonStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     MatchPlayerServiceImpl matchPlayerService;
 
@@ -137,16 +152,19 @@ public class MatchPlayerServiceTests {
                 .cards(1)
                 .matchId(1L)
                 .playerId(1L)
+                .version(0L)
                 .build();
 
         matchPlayerNull = MatchPlayer.builder().build();
+        matchPlayer.setVersion(0L);
     }
 
     @Test
     public void MatchPlayerService_InsertMatchPlayer_ReturnsMatchPlayerDTOIdNotNull() throws Exception {
         when(matchPlayerRepository.save(Mockito.any(MatchPlayer.class))).thenReturn(matchPlayer);
-        when(matchRepository.findById(matchPlayerInsertDTO.getMatchId())).thenReturn(Optional.ofNullable(match));
-        when(playerRepository.findById(matchPlayerInsertDTO.getPlayerId())).thenReturn(Optional.ofNullable(player));
+        when(matchPlayerRepository.findReferencesByMatchIdAndPlayerId(matchPlayerInsertDTO.getMatchId(), matchPlayerInsertDTO.getPlayerId())).thenReturn(new MatchPlayerReferencesDTO(match.getMatchDate(), 1L, 0L));
+        when(matchRepository.getReferenceById(matchPlayerInsertDTO.getMatchId())).thenReturn(match);
+        when(playerRepository.getReferenceById(matchPlayerInsertDTO.getPlayerId())).thenReturn(player);
 
         MatchPlayer savedMatchPlayer = matchPlayerService.insertMatchPlayer(matchPlayerInsertDTO);
 
@@ -155,7 +173,7 @@ public class MatchPlayerServiceTests {
 
     @Test
     public void MatchPlayerService_InsertMatchPlayer_ThrowsEntityAlreadyExistsException() throws Exception {
-        when(matchPlayerRepository.findByMatchIdAndPlayerId(matchPlayerInsertDTO.getMatchId(), matchPlayerInsertDTO.getPlayerId())).thenReturn(Optional.ofNullable(matchPlayer));
+        when(matchPlayerRepository.findReferencesByMatchIdAndPlayerId(matchPlayerInsertDTO.getMatchId(), matchPlayerInsertDTO.getPlayerId())).thenReturn(new MatchPlayerReferencesDTO(match.getMatchDate(), 1L, 1L));
 
         Assertions.assertThatThrownBy(() -> matchPlayerService.insertMatchPlayer(matchPlayerInsertDTO)).isInstanceOf(EntityAlreadyExistsException.class);
     }
@@ -163,61 +181,83 @@ public class MatchPlayerServiceTests {
     @Test
     public void MatchPlayerService_InsertMatchPlayer_ThrowsException() throws Exception {
         when(matchPlayerRepository.save(Mockito.any(MatchPlayer.class))).thenReturn(matchPlayerNull);
-        when(matchRepository.findById(matchPlayerInsertDTO.getMatchId())).thenReturn(Optional.ofNullable(match));
-        when(playerRepository.findById(matchPlayerInsertDTO.getPlayerId())).thenReturn(Optional.ofNullable(player));
+        when(matchPlayerRepository.findReferencesByMatchIdAndPlayerId(matchPlayerInsertDTO.getMatchId(), matchPlayerInsertDTO.getPlayerId())).thenReturn(new MatchPlayerReferencesDTO(match.getMatchDate(), 1L, 0L));
+        when(matchRepository.getReferenceById(matchPlayerInsertDTO.getMatchId())).thenReturn(match);
+        when(playerRepository.getReferenceById(matchPlayerInsertDTO.getPlayerId())).thenReturn(player);
 
         Assertions.assertThatThrownBy(() -> matchPlayerService.insertMatchPlayer(matchPlayerInsertDTO)).isInstanceOf(Exception.class);
     }
 
     @Test
     public void MatchPlayerService_InsertMatchPlayer_ThrowsEntityNotFoundExceptionForMatch() throws EntityNotFoundException {
-        when(matchRepository.findById(matchPlayerInsertDTO.getMatchId())).thenReturn(Optional.empty());
+        when(matchPlayerRepository.findReferencesByMatchIdAndPlayerId(matchPlayerInsertDTO.getMatchId(), matchPlayerInsertDTO.getPlayerId())).thenReturn(new MatchPlayerReferencesDTO(null, 1L, 0L));
 
         Assertions.assertThatThrownBy(() -> matchPlayerService.insertMatchPlayer(matchPlayerInsertDTO)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
     public void MatchPlayerService_InsertMatchPlayer_ThrowsEntityNotFoundExceptionForPlayer() throws EntityNotFoundException {
-        when(matchRepository.findById(matchPlayerInsertDTO.getMatchId())).thenReturn(Optional.ofNullable(match));
-        when(playerRepository.findById(matchPlayerInsertDTO.getPlayerId())).thenReturn(Optional.empty());
+        when(matchPlayerRepository.findReferencesByMatchIdAndPlayerId(matchPlayerInsertDTO.getMatchId(), matchPlayerInsertDTO.getPlayerId())).thenReturn(new MatchPlayerReferencesDTO(match.getMatchDate(), 0L, 0L));
 
         Assertions.assertThatThrownBy(() -> matchPlayerService.insertMatchPlayer(matchPlayerInsertDTO)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
-    public void MatchPlayerService_UpdateMatchPlayer_ReturnsUpdatedMatchPlayerDTO() throws EntityNotFoundException {
-        when(matchPlayerRepository.findByMatchIdAndPlayerId(matchPlayerUpdateDTO.getMatchId(), matchPlayerUpdateDTO.getPlayerId())).thenReturn(Optional.ofNullable(matchPlayer));
-        when(matchRepository.findById(matchPlayerUpdateDTO.getMatchId())).thenReturn(Optional.ofNullable(match));
-        when(playerRepository.findById(matchPlayerUpdateDTO.getPlayerId())).thenReturn(Optional.ofNullable(player));
-        when(matchPlayerRepository.save(Mockito.any(MatchPlayer.class))).thenReturn(updatedMatchPlayer);
+    public void MatchPlayerService_InsertMatchPlayers_ReportsResultPerEntry() {
+        MatchPlayerInsertDTO newEntry = MatchPlayerInsertDTO.builder().matchId(1L).playerId(2L).playTime(90).build();
+        MatchPlayerInsertDTO unknownMatchEntry = MatchPlayerInsertDTO.builder().matchId(9L).playerId(2L).build();
+        MatchPlayerInsertDTO invalidEntry = MatchPlayerInsertDTO.builder().matchId(1L).build();
+        Player newPlayer = Player.builder().id(2L).build();
+
+        when(matchRepository.findReadOnlyDTOsByIdIn(Set.of(1L, 9L))).thenReturn(List.of(Mapper.mapMatchToReadOnlyDTO(match)));
+        when(playerRepository.findExistingIds(Set.of(1L, 2L))).thenReturn(Set.of(1L, 2L));
+        when(matchPlayerRepository.findReadOnlyDTOsByMatchIdInAndPlayerIdIn(Set.of(1L), Set.of(1L, 2L))).thenReturn(List.of(Mapper.mapMatchPlayerToReadOnlyDTO(matchPlayer)));
+        when(matchRepository.getReferenceById(1L)).thenReturn(match);
+        when(playerRepository.getReferenceById(2L)).thenReturn(newPlayer);
+
+        List<MatchPlayerBatchResultDTO> results = matchPlayerService.insertMatchPlayers(List.of(newEntry, matchPlayerInsertDTO, unknownMatchEntry, invalidEntry, newEntry));
+
+        Assertions.assertThat(results).extracting(MatchPlayerBatchResultDTO::getStatus).containsExactly(
+                MatchPlayerBatchResultDTO.Status.CREATED,
+                MatchPlayerBatchResultDTO.Status.ALREADY_EXISTS,
+                MatchPlayerBatchResultDTO.Status.NOT_FOUND,
+                MatchPlayerBatchResultDTO.Status.INVALID,
+                MatchPlayerBatchResultDTO.Status.ALREADY_EXISTS);
+        Assertions.assertThat(results.get(0).getMatchPlayer().getPlayerId()).isEqualTo(2L);
+        Mockito.verify(matchPlayerRepository).saveAll(Mockito.argThat(matchPlayers -> matchPlayers.spliterator().getExactSizeIfKnown() == 1));
+        Mockito.verify(playerSeasonStatsService).recordMatchPlayersInserted(Mockito.argThat(inserted -> inserted.size() == 1), Mockito.eq(Map.of(1L, match.getMatchDate())));
+    }
+
+    @Test
+    public void MatchPlayerService_UpdateMatchPlayer_ReturnsUpdatedMatchPlayerDTO() throws EntityNotFoundException, StaleEntityException {
+        when(matchPlayerRepository.findWithMatchByMatchIdAndPlayerId(matchPlayerUpdateDTO.getMatchId(), matchPlayerUpdateDTO.getPlayerId())).thenReturn(Optional.ofNullable(matchPlayer));
+        when(matchPlayerRepository.saveAndFlush(Mockito.any(MatchPlayer.class))).thenReturn(updatedMatchPlayer);
 
         MatchPlayer updateReturn = matchPlayerService.updateMatchPlayer(matchPlayerUpdateDTO);
 
         Assertions.assertThat(updateReturn.getPlayTime()).isEqualTo(17);
+        Mockito.verify(playerSeasonStatsService).recordMatchPlayerChange(
+                Mockito.argThat(previous -> previous.getPlayTime() == 15),
+                Mockito.argThat(current -> current.getPlayTime() == 17),
+                Mockito.eq(match.getMatchDate()));
     }
 
     @Test
-    public void MatchPlayerService_UpdateMatchPlayer_ThrowsEntityNotFoundExceptionForMatchPlayer() throws EntityNotFoundException {
-        when(matchPlayerRepository.findByMatchIdAndPlayerId(matchPlayerUpdateDTO.getMatchId(), matchPlayerUpdateDTO.getPlayerId())).thenReturn(Optional.empty());
+    public void MatchPlayerService_UpdateMatchPlayer_ThrowsEntityNotFoundExceptionForMatchPlayer() throws EntityNotFoundException, StaleEntityException {
+        when(matchPlayerRepository.findWithMatchByMatchIdAndPlayerId(matchPlayerUpdateDTO.getMatchId(), matchPlayerUpdateDTO.getPlayerId())).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> matchPlayerService.updateMatchPlayer(matchPlayerUpdateDTO)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
-    public void MatchPlayerService_UpdateMatchPlayer_ThrowsEntityNotFoundExceptionForMatch() throws EntityNotFoundException {
-        when(matchPlayerRepository.findByMatchIdAndPlayerId(matchPlayerUpdateDTO.getMatchId(), matchPlayerUpdateDTO.getPlayerId())).thenReturn(Optional.ofNullable(matchPlayer));
-        when(matchRepository.findById(matchPlayerUpdateDTO.getMatchId())).thenReturn(Optional.empty());
-
-        Assertions.assertThatThrownBy(() -> matchPlayerService.updateMatchPlayer(matchPlayerUpdateDTO)).isInstanceOf(EntityNotFoundException.class);
-    }
+    public void MatchPlayerService_UpdateMatchPlayer_StaleVersion_ThrowsStaleEntityException() {
+        matchPlayer.setVersion(2L);
+        matchPlayerUpdateDTO.setVersion(1L);
 
-    @Test
-    public void MatchPlayerService_UpdateMatchPlayer_ThrowsEntityNotFoundExceptionForPlayer() throws EntityNotFoundException {
-        when(matchPlayerRepository.findByMatchIdAndPlayerId(matchPlayerUpdateDTO.getMatchId(), matchPlayerUpdateDTO.getPlayerId())).thenReturn(Optional.ofNullable(matchPlayer));
-        when(matchRepository.findById(matchPlayerUpdateDTO.getMatchId())).thenReturn(Optional.ofNullable(match));
-        when(playerRepository.findById(matchPlayerUpdateDTO.getPlayerId())).thenReturn(Optional.empty());
+        when(matchPlayerRepository.findWithMatchByMatchIdAndPlayerId(matchPlayerUpdateDTO.getMatchId(), matchPlayerUpdateDTO.getPlayerId())).thenReturn(Optional.ofNullable(matchPlayer));
 
-        Assertions.assertThatThrownBy(() -> matchPlayerService.updateMatchPlayer(matchPlayerUpdateDTO)).isInstanceOf(EntityNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> matchPlayerService.updateMatchPlayer(matchPlayerUpdateDTO)).isInstanceOf(StaleEntityException.class);
+        Mockito.verify(matchPlayerRepository, Mockito.never()).saveAndFlush(Mockito.any(MatchPlayer.class));
     }
 
     @Test
@@ -225,7 +265,7 @@ public class MatchPlayerServiceTests {
         Long matchId = 1L;
         Long playerId = 1L;
 
-        when(matchPlayerRepository.findByMatchIdAndPlayerId(matchId, playerId)).thenReturn(Optional.ofNullable(matchPlayer));
+        when(matchPlayerRepository.findWithMatchByMatchIdAndPlayerId(matchId, playerId)).thenReturn(Optional.ofNullable(matchPlayer));
 
         assertAll(() -> matchPlayerService.deleteMatchPlayer(matchId, playerId));
     }
@@ -235,7 +275,7 @@ public class MatchPlayerServiceTests {
         Long matchId = 1L;
         Long playerId = 1L;
 
-        when(matchPlayerRepository.findByMatchIdAndPlayerId(matchId, playerId)).thenReturn(Optional.empty());
+        when(matchPlayerRepository.findWithMatchByMatchIdAndPlayerId(matchId, playerId)).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> matchPlayerService.deleteMatchPlayer(matchId, playerId)).isInstanceOf(EntityNotFoundException.class);
     }
@@ -245,9 +285,9 @@ public class MatchPlayerServiceTests {
         Long matchId = 1L;
         Long playerId = 1L;
 
-        when(matchPlayerRepository.findByMatchIdAndPlayerId(matchId, playerId)).thenReturn(Optional.ofNullable(matchPlayer));
+        when(matchPlayerRepository.findReadOnlyDTOByMatchIdAndPlayerId(matchId, playerId)).thenReturn(Optional.of(Mapper.mapMatchPlayerToReadOnlyDTO(matchPlayer)));
 
-        MatchPlayer matchPlayerReturn = matchPlayerService.getMatchPlayerByMatchIdAndPlayerId(matchId, playerId);
+        MatchPlayerReadOnlyDTO matchPlayerReturn = matchPlayerService.getMatchPlayerByMatchIdAndPlayerId(matchId, playerId);
 
         Assertions.assertThat(matchPlayerReturn).isNotNull();
     }
@@ -257,7 +297,7 @@ public class MatchPlayerServiceTests {
         Long matchId = 1L;
         Long playerId = 1L;
 
-        when(matchPlayerRepository.findByMatchIdAndPlayerId(matchId, playerId)).thenReturn(Optional.empty());
+        when(matchPlayerRepository.findReadOnlyDTOByMatchIdAndPlayerId(matchId, playerId)).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> matchPlayerService.getMatchPlayerByMatchIdAndPlayerId(matchId, playerId)).isInstanceOf(EntityNotFoundException.class);
     }
@@ -1,13 +1,22 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetPage;
 import com.project.superleague.dto.MatchInsertDTO;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.MatchReadOnlyDTO;
 import com.project.superleague.dto.MatchUpdateDTO;
+import com.project.superleague.event.MatchChangedEvent;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Match;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
+import com.project.superleague.repository.MatchPlayerRepository;
 import com.project.superleague.repository.MatchRepository;
 import com.project.superleague.repository.TeamRepository;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,11 +25,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.*;
 
-import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -31,6 +41,15 @@ public class MatchServiceTests {
     @Mock
     private TeamRepository teamRepository;
 
+    @Mock
+    private MatchPlayerRepository matchPlayerRepository;
+
+    @Mock
+    private IPlayerSeasonStatsService playerSeasonStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private MatchServiceImpl matchService;
 
@@ -93,6 +112,7 @@ public class MatchServiceTests {
                 .goalsGuest(0)
                 .hostTeamId(1L)
                 .guestTeamId(2L)
+                .version(0L)
                 .build();
 
         matchNull = Match.builder().build();
@@ -106,13 +126,13 @@ public class MatchServiceTests {
 
         updatedMatch.addHostTeam(team1);
         updatedMatch.addGuestTeam(team2);
+        match.setVersion(0L);
     }
 
     @Test
     public void MatchService_InsertMatch_ReturnsMatchDTOIdNotNull() throws Exception {
         when(matchRepository.save(Mockito.any(Match.class))).thenReturn(match);
-        when(teamRepository.findById(matchInsertDTO.getHostTeamId())).thenReturn(Optional.ofNullable(team1));
-        when(teamRepository.findById(matchInsertDTO.getGuestTeamId())).thenReturn(Optional.ofNullable(team2));
+        when(teamRepository.multiLoad(List.of(matchInsertDTO.getHostTeamId(), matchInsertDTO.getGuestTeamId()))).thenReturn(Arrays.asList(team1, team2));
 
         Match savedMatch = matchService.insertMatch(matchInsertDTO);
 
@@ -122,33 +142,30 @@ public class MatchServiceTests {
     @Test
     public void MatchService_InsertMatch_ThrowsException() throws Exception {
         when(matchRepository.save(Mockito.any(Match.class))).thenReturn(matchNull);
-        when(teamRepository.findById(matchInsertDTO.getHostTeamId())).thenReturn(Optional.ofNullable(team1));
-        when(teamRepository.findById(matchInsertDTO.getGuestTeamId())).thenReturn(Optional.ofNullable(team2));
+        when(teamRepository.multiLoad(List.of(matchInsertDTO.getHostTeamId(), matchInsertDTO.getGuestTeamId()))).thenReturn(Arrays.asList(team1, team2));
 
         Assertions.assertThatThrownBy(() -> matchService.insertMatch(matchInsertDTO)).isInstanceOf(Exception.class);
     }
 
     @Test
     public void MatchService_InsertMatch_HostTeamNotFound_ThrowsEntityNotFoundException() throws EntityNotFoundException {
-        when(teamRepository.findById(matchInsertDTO.getHostTeamId())).thenReturn(Optional.empty());
+        when(teamRepository.multiLoad(List.of(matchInsertDTO.getHostTeamId(), matchInsertDTO.getGuestTeamId()))).thenReturn(Arrays.asList(null, team2));
 
         Assertions.assertThatThrownBy(() -> matchService.insertMatch(matchInsertDTO)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
     public void MatchService_InsertMatch_GuestTeamNotFound_ThrowsEntityNotFoundException() throws EntityNotFoundException {
-        when(teamRepository.findById(matchInsertDTO.getHostTeamId())).thenReturn(Optional.ofNullable(team1));
-        when(teamRepository.findById(matchInsertDTO.getGuestTeamId())).thenReturn(Optional.empty());
+        when(teamRepository.multiLoad(List.of(matchInsertDTO.getHostTeamId(), matchInsertDTO.getGuestTeamId()))).thenReturn(Arrays.asList(team1, null));
 
         Assertions.assertThatThrownBy(() -> matchService.insertMatch(matchInsertDTO)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
-    public void MatchService_UpdateMatch_ReturnsUpdatedMatchDTO() throws EntityNotFoundException {
+    public void MatchService_UpdateMatch_ReturnsUpdatedMatchDTO() throws EntityNotFoundException, StaleEntityException {
         when(matchRepository.findById(matchUpdateDTO.getId())).thenReturn(Optional.ofNullable(match));
-        when(teamRepository.findById(matchUpdateDTO.getHostTeamId())).thenReturn(Optional.ofNullable(team1));
-        when(teamRepository.findById(matchUpdateDTO.getGuestTeamId())).thenReturn(Optional.ofNullable(team2));
-        when(matchRepository.save(Mockito.any(Match.class))).thenReturn(updatedMatch);
+        when(teamRepository.multiLoad(List.of(matchUpdateDTO.getHostTeamId(), matchUpdateDTO.getGuestTeamId()))).thenReturn(Arrays.asList(team1, team2));
+        when(matchRepository.saveAndFlush(Mockito.any(Match.class))).thenReturn(updatedMatch);
 
         Match updateReturn = matchService.updateMatch(matchUpdateDTO);
 
@@ -157,43 +174,63 @@ public class MatchServiceTests {
     }
 
     @Test
-    public void MatchService_UpdateMatch_MatchNotFound_ThrowsEntityNotFoundException() throws EntityNotFoundException {
+    public void MatchService_UpdateMatch_MatchNotFound_ThrowsEntityNotFoundException() throws EntityNotFoundException, StaleEntityException {
         when(matchRepository.findById(matchUpdateDTO.getId())).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> matchService.updateMatch(matchUpdateDTO)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
-    public void MatchService_UpdateMatch_HostTeamNotFound_ThrowsEntityNotFoundException() throws EntityNotFoundException {
+    public void MatchService_UpdateMatch_HostTeamNotFound_ThrowsEntityNotFoundException() throws EntityNotFoundException, StaleEntityException {
         when(matchRepository.findById(matchUpdateDTO.getId())).thenReturn(Optional.ofNullable(match));
-        when(teamRepository.findById(matchUpdateDTO.getHostTeamId())).thenReturn(Optional.empty());
+        when(teamRepository.multiLoad(List.of(matchUpdateDTO.getHostTeamId(), matchUpdateDTO.getGuestTeamId()))).thenReturn(Arrays.asList(null, team2));
 
         Assertions.assertThatThrownBy(() -> matchService.updateMatch(matchUpdateDTO)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
-    public void MatchService_UpdateMatch_GuestTeamNotFound_ThrowsEntityNotFoundException() throws EntityNotFoundException {
+    public void MatchService_UpdateMatch_GuestTeamNotFound_ThrowsEntityNotFoundException() throws EntityNotFoundException, StaleEntityException {
         when(matchRepository.findById(matchUpdateDTO.getId())).thenReturn(Optional.ofNullable(match));
-        when(teamRepository.findById(matchUpdateDTO.getHostTeamId())).thenReturn(Optional.ofNullable(team1));
-        when(teamRepository.findById(matchUpdateDTO.getGuestTeamId())).thenReturn(Optional.empty());
+        when(teamRepository.multiLoad(List.of(matchUpdateDTO.getHostTeamId(), matchUpdateDTO.getGuestTeamId()))).thenReturn(Arrays.asList(team1, null));
 
         Assertions.assertThatThrownBy(() -> matchService.updateMatch(matchUpdateDTO)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
-    public void MatchService_DeleteMatch_ReturnsVoid() {
+    public void MatchService_UpdateMatch_StaleVersion_ThrowsStaleEntityException() {
+        match.setVersion(2L);
+        matchUpdateDTO.setVersion(1L);
+
+        when(matchRepository.findById(matchUpdateDTO.getId())).thenReturn(Optional.ofNullable(match));
+
+        Assertions.assertThatThrownBy(() -> matchService.updateMatch(matchUpdateDTO)).isInstanceOf(StaleEntityException.class);
+        Mockito.verify(matchRepository, Mockito.never()).saveAndFlush(Mockito.any(Match.class));
+    }
+
+    @Test
+    public void MatchService_DeleteMatch_ReturnsRemovedRowCounts() throws EntityNotFoundException {
         Long matchId = 1L;
 
-        when(matchRepository.findById(matchId)).thenReturn(Optional.ofNullable(match));
+        when(matchRepository.findReadOnlyDTOById(matchId)).thenReturn(Optional.of(new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-27"), 1, 0, 1L, 2L)));
+        when(matchPlayerRepository.findReadOnlyDTOsByMatchId(matchId)).thenReturn(List.of(
+                new MatchPlayerReadOnlyDTO(7L, matchId, 4L, 90, 1, 0, 0), new MatchPlayerReadOnlyDTO(8L, matchId, 5L, 30, 0, 0, 1)));
+        when(matchPlayerRepository.bulkDeleteByMatchId(matchId)).thenReturn(2);
+        when(matchRepository.bulkDeleteById(matchId)).thenReturn(1);
+
+        DeletionResultDTO result = matchService.deleteMatch(matchId);
 
-        assertAll(() -> matchService.deleteMatch(matchId));
+        Assertions.assertThat(result.getRemovedRows()).containsExactly(Map.entry("MatchPlayer", 2), Map.entry("Match", 1));
+        Mockito.verify(playerSeasonStatsService).rebuildPlayerSeasonStats(List.of(4L, 5L));
+        Mockito.verify(eventPublisher, Mockito.times(2)).publishEvent(Mockito.<Object>argThat(event ->
+                event instanceof MatchPlayerChangedEvent changed && changed.getPrevious() != null && changed.getCurrent() == null));
+        Mockito.verify(eventPublisher).publishEvent(Mockito.any(MatchChangedEvent.class));
     }
 
     @Test
     public void MatchService_DeleteMatch_ThrowsEntityNotFoundException() {
         Long matchId = 1L;
 
-        when(matchRepository.findById(matchId)).thenReturn(Optional.empty());
+        when(matchRepository.findReadOnlyDTOById(matchId)).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> matchService.deleteMatch(matchId)).isInstanceOf(EntityNotFoundException.class);
     }
@@ -201,33 +238,33 @@ public class MatchServiceTests {
     @Test
     public void MatchService_GetMatchByDate_ReturnsMatches() throws EntityNotFoundException {
         LocalDate searchParameter = LocalDate.parse("2024-10-04");
-        List<Match> matches = new ArrayList<>();
-        matches.add(match);
+        List<MatchReadOnlyDTO> matches = new ArrayList<>();
+        matches.add(Mapper.mapMatchToReadOnlyDTO(match));
 
-        when(matchRepository.findByMatchDate(searchParameter)).thenReturn(matches);
+        when(matchRepository.findReadOnlyDTOsByMatchDate(searchParameter, Limit.of(KeysetPage.DEFAULT_LIMIT + 1))).thenReturn(matches);
 
-        List<Match> matchesReturn = matchService.getMatchByDate(searchParameter);
+        KeysetPage<MatchReadOnlyDTO> matchesReturn = matchService.getMatchByDate(searchParameter, null, KeysetPage.DEFAULT_LIMIT);
 
-        Assertions.assertThat(matchesReturn.size()).isEqualTo(1);
+        Assertions.assertThat(matchesReturn.getItems().size()).isEqualTo(1);
     }
 
     @Test
     public void MatchService_GetMatchByDate_ThrowsEntityNotFoundException() throws EntityNotFoundException {
         LocalDate searchParameter = LocalDate.parse("2024-10-04");
-        List<Match> matches = new ArrayList<>();
+        List<MatchReadOnlyDTO> matches = new ArrayList<>();
 
-        when(matchRepository.findByMatchDate(searchParameter)).thenReturn(matches);
+        when(matchRepository.findReadOnlyDTOsByMatchDate(searchParameter, Limit.of(KeysetPage.DEFAULT_LIMIT + 1))).thenReturn(matches);
 
-        Assertions.assertThatThrownBy(() -> matchService.getMatchByDate(searchParameter)).isInstanceOf(EntityNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> matchService.getMatchByDate(searchParameter, null, KeysetPage.DEFAULT_LIMIT)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
     public void MatchService_GetMatchById_ReturnsMatch() throws EntityNotFoundException {
         Long matchId = 1L;
 
-        when(matchRepository.findById(matchId)).thenReturn(Optional.ofNullable(match));
+        when(matchRepository.findReadOnlyDTOById(matchId)).thenReturn(Optional.of(Mapper.mapMatchToReadOnlyDTO(match)));
 
-        Match matchReturn = matchService.getMatchById(matchId);
+        MatchReadOnlyDTO matchReturn = matchService.getMatchById(matchId);
 
         Assertions.assertThat(matchReturn).isNotNull();
     }
@@ -236,7 +273,7 @@ public class MatchServiceTests {
     public void MatchService_GetMatchById_ThrowsEntityNotFoundException() throws EntityNotFoundException {
         Long matchId = 1L;
 
-        when(matchRepository.findById(matchId)).thenReturn(Optional.empty());
+        when(matchRepository.findReadOnlyDTOById(matchId)).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> matchService.getMatchById(matchId)).isInstanceOf(EntityNotFoundException.class);
     }
@@ -0,0 +1,120 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
+import com.project.superleague.dto.PlayerSeasonStatsReadOnlyDTO;
+import com.project.superleague.model.Player;
+import com.project.superleague.model.PlayerSeasonStats;
+import com.project.superleague.repository.MatchPlayerRepository;
+import com.project.superleague.repository.PlayerRepository;
+import com.project.superleague.repository.PlayerSeasonStatsRepository;
+import com.project.superleague.service.exception.EntityNotFoundException;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PlayerSeasonStatsServiceTests {
+    @Mock
+    private PlayerSeasonStatsRepository playerSeasonStatsRepository;
+
+    @Mock
+    private MatchPlayerRepository matchPlayerRepository;
+
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @InjectMocks
+    private PlayerSeasonStatsServiceImpl playerSeasonStatsService;
+
+    @Test
+    public void PlayerSeasonStats_SeasonOf_StartsInJuly() {
+        Assertions.assertThat(PlayerSeasonStats.seasonOf(LocalDate.parse("2024-06-30"))).isEqualTo(2023);
+        Assertions.assertThat(PlayerSeasonStats.seasonOf(LocalDate.parse("2024-07-01"))).isEqualTo(2024);
+    }
+
+    @Test
+    public void PlayerSeasonStatsService_GetPlayerSeasonStats_ReturnsZerosForSeasonWithoutAppearances() throws EntityNotFoundException {
+        when(playerSeasonStatsRepository.findReadOnlyDTOByPlayerIdAndSeason(1L, 2023)).thenReturn(Optional.empty());
+        when(playerRepository.existsById(1L)).thenReturn(true);
+
+        PlayerSeasonStatsReadOnlyDTO stats = playerSeasonStatsService.getPlayerSeasonStats(1L, 2023);
+
+        Assertions.assertThat(stats).usingRecursiveComparison().isEqualTo(new PlayerSeasonStatsReadOnlyDTO(1L, 2023, 0, 0, 0, 0, 0));
+    }
+
+    @Test
+    public void PlayerSeasonStatsService_GetPlayerSeasonStats_ThrowsEntityNotFoundException() {
+        when(playerSeasonStatsRepository.findReadOnlyDTOByPlayerIdAndSeason(1L, 2023)).thenReturn(Optional.empty());
+        when(playerRepository.existsById(1L)).thenReturn(false);
+
+        Assertions.assertThatThrownBy(() -> playerSeasonStatsService.getPlayerSeasonStats(1L, 2023)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    public void PlayerSeasonStatsService_RecordMatchPlayerChange_AppliesDifference() {
+        MatchPlayerReadOnlyDTO previous = new MatchPlayerReadOnlyDTO(1L, 1L, 1L, 60, 1, 0, null);
+        MatchPlayerReadOnlyDTO current = new MatchPlayerReadOnlyDTO(1L, 1L, 1L, 90, 2, 1, 1);
+
+        when(playerSeasonStatsRepository.applyDelta(1L, 2024, 0, 30, 1, 1, 1)).thenReturn(1);
+
+        playerSeasonStatsService.recordMatchPlayerChange(previous, current, LocalDate.parse("2025-02-01"));
+
+        Mockito.verify(playerSeasonStatsRepository, Mockito.never()).save(Mockito.any(PlayerSeasonStats.class));
+    }
+
+    @Test
+    public void PlayerSeasonStatsService_RecordMatchPlayerChange_UpsertsFirstAppearance() {
+        MatchPlayerReadOnlyDTO current = new MatchPlayerReadOnlyDTO(1L, 1L, 1L, 90, 2, 1, 1);
+
+        playerSeasonStatsService.recordMatchPlayerChange(null, current, LocalDate.parse("2024-08-01"));
+
+        Mockito.verify(playerSeasonStatsRepository).upsertDelta(1L, 2024, 1, 90, 2, 1, 1);
+        Mockito.verify(playerSeasonStatsRepository, Mockito.never()).applyDelta(Mockito.any(), Mockito.any(),
+                Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    public void PlayerSeasonStatsService_RecordMatchPlayerChange_RebuildsWhenSummaryRowIsMissing() {
+        MatchPlayerReadOnlyDTO previous = new MatchPlayerReadOnlyDTO(1L, 1L, 1L, 60, 1, 0, 0);
+
+        when(playerSeasonStatsRepository.applyDelta(1L, 2024, -1, -60, -1, 0, 0)).thenReturn(0);
+
+        playerSeasonStatsService.recordMatchPlayerChange(previous, null, LocalDate.parse("2024-08-01"));
+
+        Mockito.verify(playerSeasonStatsRepository).bulkDeleteByPlayerIdIn(List.of(1L));
+        Mockito.verify(playerSeasonStatsRepository).aggregateFromMatchesPlayersByPlayerIdIn(List.of(1L));
+    }
+
+    @Test
+    public void PlayerSeasonStatsService_RecordMatchPlayersInserted_MergesDeltasPerPlayerAndSeason() {
+        Player player = Player.builder().id(1L).build();
+        PlayerSeasonStats existing = new PlayerSeasonStats(5L, 2024, 3, 200, 1, 1, 0);
+        existing.setPlayer(player);
+        List<MatchPlayerReadOnlyDTO> inserted = List.of(
+                new MatchPlayerReadOnlyDTO(1L, 1L, 1L, 90, 1, 0, 0),
+                new MatchPlayerReadOnlyDTO(2L, 2L, 1L, 30, 0, 1, 1),
+                new MatchPlayerReadOnlyDTO(3L, 1L, 2L, 90, 0, 0, 0));
+
+        when(playerSeasonStatsRepository.findByPlayerIdInAndSeasonIn(Mockito.anyCollection(), Mockito.anyCollection())).thenReturn(List.of(existing));
+
+        playerSeasonStatsService.recordMatchPlayersInserted(inserted, Map.of(1L, LocalDate.parse("2024-09-01"), 2L, LocalDate.parse("2025-01-15")));
+
+        Assertions.assertThat(existing.getAppearances()).isEqualTo(5);
+        Assertions.assertThat(existing.getMinutesPlayed()).isEqualTo(320);
+        Assertions.assertThat(existing.getCards()).isEqualTo(1);
+        Mockito.verify(playerSeasonStatsRepository).upsertDelta(2L, 2024, 1, 90, 0, 0, 0);
+        Mockito.verify(playerSeasonStatsRepository, Mockito.never()).upsertDelta(Mockito.eq(1L), Mockito.any(),
+                Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt(), Mockito.anyInt());
+    }
+}
@@ -1,12 +1,23 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetCursor;
+import com.project.superleague.dto.KeysetPage;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
 import com.project.superleague.dto.PlayerInsertDTO;
+import com.project.superleague.dto.PlayerReadOnlyDTO;
 import com.project.superleague.dto.PlayerUpdateDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.event.PlayerDeletedEvent;
+import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
+import com.project.superleague.repository.MatchPlayerRepository;
 import com.project.superleague.repository.PlayerRepository;
+import com.project.superleague.repository.PlayerSeasonStatsRepository;
 import com.project.superleague.repository.TeamRepository;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -15,13 +26,15 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
-import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +45,15 @@ public class PlayerServiceTests {
     @Mock
     private TeamRepository teamRepository;
 
+    @Mock
+    private MatchPlayerRepository matchPlayerRepository;
+
+    @Mock
+    private PlayerSeasonStatsRepository playerSeasonStatsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private PlayerServiceImpl playerService;
 
@@ -99,9 +121,11 @@ public class PlayerServiceTests {
                 .monetaryValue(60000)
                 .playerRole("Goalkeeper")
                 .teamId(1L)
+                .version(0L)
                 .build();
 
         playerNull = Player.builder().build();
+        player.setVersion(0L);
     }
 
     @Test
@@ -130,10 +154,10 @@ public class PlayerServiceTests {
     }
 
     @Test
-    public void PlayerService_UpdatePlayer_ReturnsUpdatedPlayerDTO() throws EntityNotFoundException {
+    public void PlayerService_UpdatePlayer_ReturnsUpdatedPlayerDTO() throws EntityNotFoundException, StaleEntityException {
         when(playerRepository.findById(playerUpdateDTO.getId())).thenReturn(Optional.ofNullable(player));
         when(teamRepository.findById(playerUpdateDTO.getTeamId())).thenReturn(Optional.ofNullable(team));
-        when(playerRepository.save(Mockito.any(Player.class))).thenReturn(updatedPlayer);
+        when(playerRepository.saveAndFlush(Mockito.any(Player.class))).thenReturn(updatedPlayer);
 
         Player updateReturn = playerService.updatePlayer(playerUpdateDTO);
 
@@ -142,14 +166,14 @@ public class PlayerServiceTests {
     }
 
     @Test
-    public void PlayerService_UpdatePlayer_ThrowsEntityNotFoundExceptionForPlayer() throws EntityNotFoundException {
+    public void PlayerService_UpdatePlayer_ThrowsEntityNotFoundExceptionForPlayer() throws EntityNotFoundException, StaleEntityException {
         when(playerRepository.findById(playerUpdateDTO.getId())).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> playerService.updatePlayer(playerUpdateDTO)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
-    public void PlayerService_UpdatePlayer_ThrowsEntityNotFoundExceptionForTeam() throws EntityNotFoundException {
+    public void PlayerService_UpdatePlayer_ThrowsEntityNotFoundExceptionForTeam() throws EntityNotFoundException, StaleEntityException {
         when(playerRepository.findById(playerUpdateDTO.getId())).thenReturn(Optional.ofNullable(player));
         when(teamRepository.findById(playerUpdateDTO.getTeamId())).thenReturn(Optional.empty());
 
@@ -157,19 +181,40 @@ public class PlayerServiceTests {
     }
 
     @Test
-    public void PlayerService_DeletePlayer_ReturnsVoid() {
+    public void PlayerService_UpdatePlayer_StaleVersion_ThrowsStaleEntityException() {
+        player.setVersion(2L);
+        playerUpdateDTO.setVersion(1L);
+
+        when(playerRepository.findById(playerUpdateDTO.getId())).thenReturn(Optional.ofNullable(player));
+
+        Assertions.assertThatThrownBy(() -> playerService.updatePlayer(playerUpdateDTO)).isInstanceOf(StaleEntityException.class);
+        Mockito.verify(playerRepository, Mockito.never()).saveAndFlush(Mockito.any(Player.class));
+    }
+
+    @Test
+    public void PlayerService_DeletePlayer_ReturnsRemovedRowCounts() throws EntityNotFoundException {
         Long playerId = 1L;
 
-        when(playerRepository.findById(playerId)).thenReturn(Optional.ofNullable(player));
+        when(playerRepository.existsById(playerId)).thenReturn(true);
+        when(matchPlayerRepository.findReadOnlyDTOsByPlayerId(playerId)).thenReturn(List.of(new MatchPlayerReadOnlyDTO(7L, 2L, playerId, 90, 1, 0, 0)));
+        when(matchPlayerRepository.bulkDeleteByPlayerId(playerId)).thenReturn(34);
+        when(playerSeasonStatsRepository.bulkDeleteByPlayerId(playerId)).thenReturn(3);
+        when(playerRepository.bulkDeleteById(playerId)).thenReturn(1);
+
+        DeletionResultDTO result = playerService.deletePlayer(playerId);
 
-        assertAll(() -> playerService.deletePlayer(playerId));
+        Assertions.assertThat(result.getRemovedRows()).containsExactly(Map.entry("MatchPlayer", 34), Map.entry("PlayerSeasonStats", 3), Map.entry("Player", 1));
+        Assertions.assertThat(result.getTotalRemovedRows()).isEqualTo(38);
+        Mockito.verify(eventPublisher).publishEvent(Mockito.<Object>argThat(event ->
+                event instanceof MatchPlayerChangedEvent changed && changed.getPrevious().getId() == 7L && changed.getCurrent() == null));
+        Mockito.verify(eventPublisher).publishEvent(Mockito.any(PlayerDeletedEvent.class));
     }
 
     @Test
     public void PlayerService_DeletePlayer_ThrowsEntityNotFoundException() {
         Long playerId = 1L;
 
-        when(playerRepository.findById(playerId)).thenReturn(Optional.empty());
+        when(playerRepository.existsById(playerId)).thenReturn(false);
 
         Assertions.assertThatThrownBy(() -> playerService.deletePlayer(playerId)).isInstanceOf(EntityNotFoundException.class);
     }
@@ -177,33 +222,76 @@ public class PlayerServiceTests {
     @Test
     public void PlayerService_GetPlayerByLastName_ReturnsPlayers() throws EntityNotFoundException {
         String searchParameter = "Papa";
-        List<Player> players = new ArrayList<>();
-        players.add(player);
+        List<PlayerReadOnlyDTO> players = new ArrayList<>();
+        players.add(Mapper.mapPlayerToReadOnlyDTO(player));
 
-        when(playerRepository.findByLastnameStartingWith(searchParameter)).thenReturn(players);
+        when(playerRepository.findReadOnlyDTOsByLastnameStartingWith(searchParameter, Limit.of(KeysetPage.DEFAULT_LIMIT + 1))).thenReturn(players);
 
-        List<Player> playersReturn = playerService.getPlayerByLastname(searchParameter);
+        KeysetPage<PlayerReadOnlyDTO> playersReturn = playerService.getPlayerByLastname(searchParameter, null, KeysetPage.DEFAULT_LIMIT);
 
-        Assertions.assertThat(playersReturn.size()).isEqualTo(1);
+        Assertions.assertThat(playersReturn.getItems().size()).isEqualTo(1);
+        Assertions.assertThat(playersReturn.getNextCursor()).isNull();
     }
 
     @Test
     public void PlayerService_GetPlayerByLastName_ThrowsEntityNotFoundException() throws EntityNotFoundException {
         String searchParameter = "Papa";
-        List<Player> players = new ArrayList<>();
+        List<PlayerReadOnlyDTO> players = new ArrayList<>();
+
+        when(playerRepository.findReadOnlyDTOsByLastnameStartingWith(searchParameter, Limit.of(KeysetPage.DEFAULT_LIMIT + 1))).thenReturn(players);
+
+        Assertions.assertThatThrownBy(() -> playerService.getPlayerByLastname(searchParameter, null, KeysetPage.DEFAULT_LIMIT)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    public void PlayerService_GetPlayerByLastName_ReturnsNextCursor() throws EntityNotFoundException {
+        String searchParameter = "Papa";
+        List<PlayerReadOnlyDTO> players = new ArrayList<>();
+        players.add(Mapper.mapPlayerToReadOnlyDTO(player));
+        players.add(Mapper.mapPlayerToReadOnlyDTO(updatedPlayer));
+
+        when(playerRepository.findReadOnlyDTOsByLastnameStartingWith(searchParameter, Limit.of(2))).thenReturn(players);
+
+        KeysetPage<PlayerReadOnlyDTO> playersReturn = playerService.getPlayerByLastname(searchParameter, null, 1);
+        KeysetCursor cursor = KeysetCursor.decode(playersReturn.getNextCursor());
+
+        Assertions.assertThat(playersReturn.getItems()).containsExactly(players.get(0));
+        Assertions.assertThat(cursor.getId()).isEqualTo(player.getId());
+        Assertions.assertThat(cursor.getKey()).isEqualTo(player.getLastname());
+    }
+
+    @Test
+    public void PlayerService_GetPlayerByLastName_AfterCursor_ReturnsPage() throws EntityNotFoundException {
+        String searchParameter = "Papa";
+        String after = new KeysetCursor(1L, "Papadimitriou").encode();
 
-        when(playerRepository.findByLastnameStartingWith(searchParameter)).thenReturn(players);
+        when(playerRepository.findReadOnlyDTOsByLastnameStartingWithAfter(searchParameter, "Papadimitriou", 1L, Limit.of(KeysetPage.DEFAULT_LIMIT + 1))).thenReturn(new ArrayList<>());
+
+        KeysetPage<PlayerReadOnlyDTO> playersReturn = playerService.getPlayerByLastname(searchParameter, after, KeysetPage.DEFAULT_LIMIT);
+
+        Assertions.assertThat(playersReturn.getItems()).isEmpty();
+        Assertions.assertThat(playersReturn.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void PlayerService_GetPlayerByLastName_InvalidCursor_ThrowsIllegalArgumentException() {
+        Assertions.assertThatThrownBy(() -> playerService.getPlayerByLastname("Papa", "not-a-cursor", KeysetPage.DEFAULT_LIMIT)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void PlayerService_GetPlayerByLastName_CursorWithoutKey_ThrowsIllegalArgumentException() {
+        String after = new KeysetCursor(1L, null).encode();
 
-        Assertions.assertThatThrownBy(() -> playerService.getPlayerByLastname(searchParameter)).isInstanceOf(EntityNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> playerService.getPlayerByLastname("Papa", after, KeysetPage.DEFAULT_LIMIT)).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
     public void PlayerService_GetPlayerById_ReturnsPlayer() throws EntityNotFoundException {
         Long playerId = 1L;
 
-        when(playerRepository.findById(playerId)).thenReturn(Optional.ofNullable(player));
+        when(playerRepository.findReadOnlyDTOById(playerId)).thenReturn(Optional.of(Mapper.mapPlayerToReadOnlyDTO(player)));
 
-        Player playerReturn = playerService.getPlayerById(playerId);
+        PlayerReadOnlyDTO playerReturn = playerService.getPlayerById(playerId);
 
         Assertions.assertThat(playerReturn).isNotNull();
     }
@@ -212,7 +300,7 @@ public class PlayerServiceTests {
     public void PlayerService_GetPlayerById_ThrowsEntityNotFoundException() throws EntityNotFoundException {
         Long playerId = 1L;
 
-        when(playerRepository.findById(playerId)).thenReturn(Optional.empty());
+        when(playerRepository.findReadOnlyDTOById(playerId)).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> playerService.getPlayerById(playerId)).isInstanceOf(EntityNotFoundException.class);
     }
@@ -0,0 +1,40 @@
+package com.project.superleague.service;
+
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.EmbeddedDatabaseConnection;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(connection = EmbeddedDatabaseConnection.H2)
+@Import(SchemaIndexServiceImpl.class)
+public class SchemaIndexServiceTests {
+    @Autowired
+    private SchemaIndexServiceImpl schemaIndexService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    public void FindMissingIndexes_AllDeclared_ReturnsEmpty() throws Exception {
+        Assertions.assertThat(schemaIndexService.findMissingIndexes()).isEmpty();
+    }
+
+    @Test
+    public void FindMissingIndexes_IndexDropped_ReturnsIt() throws Exception {
+        jdbcTemplate.execute("drop index \"IndexPlayersLastname\"");
+        try {
+            List<String> missingIndexes = schemaIndexService.findMissingIndexes();
+
+            Assertions.assertThat(missingIndexes).containsExactly("Players.IndexPlayersLastname");
+        } finally {
+            jdbcTemplate.execute("create index \"IndexPlayersLastname\" on \"players\" (\"lastname\", \"id\")");
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.FullTextResultDTO;
+import com.project.superleague.dto.PlayerReadOnlyDTO;
+import com.project.superleague.dto.SearchResultDTO;
+import com.project.superleague.dto.TeamReadOnlyDTO;
+import com.project.superleague.event.PlayerChangedEvent;
+import com.project.superleague.event.PlayerDeletedEvent;
+import com.project.superleague.event.TeamDeletedEvent;
+import com.project.superleague.repository.PlayerRepository;
+import com.project.superleague.repository.TeamRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class SearchServiceTests {
+    @Mock
+    private PlayerRepository playerRepository;
+
+    @Mock
+    private TeamRepository teamRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private SearchServiceImpl searchService;
+
+    private TeamReadOnlyDTO team1;
+    private TeamReadOnlyDTO team2;
+    private PlayerReadOnlyDTO player1;
+    private PlayerReadOnlyDTO player2;
+
+    @BeforeEach
+    public void init() {
+        team1 = new TeamReadOnlyDTO(1L, "Olympiacos", 1925, "Piraeus", "Georgios Karaiskakis", null, null, null, null);
+        team2 = new TeamReadOnlyDTO(2L, "Aris", 1914, "Thessaloniki", "Kleanthis Vikelidis", null, null, null, null);
+        player1 = PlayerReadOnlyDTO.builder().id(1L).firstname("Ayoub").lastname("El Kaabi").teamId(1L).build();
+        player2 = PlayerReadOnlyDTO.builder().id(2L).firstname("Loren").lastname("Morón").teamId(2L).build();
+    }
+
+    @Test
+    public void SearchService_Rebuild_FindsPlayersAndTeams() {
+        when(teamRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(team1, team2));
+        when(playerRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(player1, player2));
+
+        searchService.rebuildSearchIndex();
+        List<SearchResultDTO> results = searchService.search("MOR", 10);
+
+        Assertions.assertThat(results).extracting(SearchResultDTO::getName).containsExactly("Loren Morón");
+        Assertions.assertThat(results.get(0).getTeamId()).isEqualTo(2L);
+        Assertions.assertThat(searchService.search("kaa", 10)).extracting(SearchResultDTO::getId).containsExactly(1L);
+        Assertions.assertThat(searchService.search("o", 10)).extracting(SearchResultDTO::getType).containsExactly("team");
+    }
+
+    @Test
+    public void SearchService_PlayerChangedAndDeleted_FollowsChanges() {
+        searchService.onPlayerChanged(new PlayerChangedEvent(player1));
+        player1.setLastname("Kaabi");
+        searchService.onPlayerChanged(new PlayerChangedEvent(player1));
+
+        Assertions.assertThat(searchService.search("el", 10)).isEmpty();
+        Assertions.assertThat(searchService.search("kaabi", 10)).hasSize(1);
+
+        searchService.onPlayerDeleted(new PlayerDeletedEvent(1L));
+
+        Assertions.assertThat(searchService.search("kaabi", 10)).isEmpty();
+    }
+
+    @Test
+    public void SearchService_TeamDeleted_RemovesTeamAndItsPlayers() {
+        when(teamRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(team1, team2));
+        when(playerRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(player1, player2));
+
+        searchService.rebuildSearchIndex();
+        searchService.onTeamDeleted(new TeamDeletedEvent(2L));
+
+        Assertions.assertThat(searchService.search("aris", 10)).isEmpty();
+        Assertions.assertThat(searchService.search("loren", 10)).isEmpty();
+        Assertions.assertThat(searchService.search("ayoub", 10)).hasSize(1);
+    }
+
+    @Test
+    public void SearchService_SearchFullText_RanksAcrossFields() {
+        player2.setNationality("Spain");
+        when(teamRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(team1, team2));
+        when(playerRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(player1, player2));
+
+        searchService.rebuildSearchIndex();
+        List<FullTextResultDTO> results = searchService.searchFullText("piraeus", 10);
+
+        Assertions.assertThat(results).extracting(FullTextResultDTO::getName).containsExactly("Olympiacos");
+        Assertions.assertThat(results.get(0).getScore()).isPositive();
+        Assertions.assertThat(searchService.searchFullText("spai", 10)).extracting(FullTextResultDTO::getId).containsExactly(2L);
+
+        searchService.onTeamDeleted(new TeamDeletedEvent(1L));
+
+        Assertions.assertThat(searchService.searchFullText("piraeus", 10)).isEmpty();
+        Assertions.assertThat(searchService.searchFullText("kaabi", 10)).isEmpty();
+    }
+
+    @Test
+    public void SearchService_ChangedDuringRebuild_KeepsChanges() {
+        PlayerReadOnlyDTO renamed = PlayerReadOnlyDTO.builder().id(1L).firstname("Ayoub").lastname("Kaabi").teamId(1L).build();
+        when(teamRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(team1, team2));
+        when(playerRepository.streamAllReadOnlyDTOs()).thenAnswer(invocation -> {
+            searchService.onPlayerChanged(new PlayerChangedEvent(renamed));
+            searchService.onPlayerDeleted(new PlayerDeletedEvent(2L));
+            return Stream.of(player1, player2);
+        });
+
+        searchService.rebuildSearchIndex();
+
+        Assertions.assertThat(searchService.search("el", 10)).isEmpty();
+        Assertions.assertThat(searchService.search("kaabi", 10)).extracting(SearchResultDTO::getId).containsExactly(1L);
+        Assertions.assertThat(searchService.search("loren", 10)).isEmpty();
+        Assertions.assertThat(searchService.searchFullText("moron", 10)).isEmpty();
+    }
+
+    @Test
+    public void SearchService_BlankQuery_ThrowsIllegalArgumentException() {
+        Assertions.assertThatThrownBy(() -> searchService.search("  ", 10)).isInstanceOf(IllegalArgumentException.class);
+        Assertions.assertThatThrownBy(() -> searchService.searchFullText("", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,133 @@
+package com.project.superleague.service;
+
+import com.project.superleague.dto.MatchReadOnlyDTO;
+import com.project.superleague.dto.StandingReadOnlyDTO;
+import com.project.superleague.event.MatchChangedEvent;
+import com.project.superleague.repository.MatchRepository;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class StandingsServiceTests {
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private StandingsServiceImpl standingsService;
+
+    private MatchReadOnlyDTO match1;
+    private MatchReadOnlyDTO match1Updated;
+    private MatchReadOnlyDTO match2;
+
+    @BeforeEach
+    public void init() {
+        match1 = new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-04"), 2, 1, 1L, 2L);
+        match1Updated = new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-04"), 1, 1, 1L, 2L);
+        match2 = new MatchReadOnlyDTO(2L, LocalDate.parse("2024-10-27"), 0, 3, 2L, 3L);
+    }
+
+    @Test
+    public void StandingsService_MatchInserted_ReturnsRankedStandings() {
+        standingsService.onMatchChanged(new MatchChangedEvent(null, match1));
+        standingsService.onMatchChanged(new MatchChangedEvent(null, match2));
+
+        List<StandingReadOnlyDTO> standings = standingsService.getStandings();
+
+        Assertions.assertThat(standings).extracting(StandingReadOnlyDTO::getTeamId).containsExactly(3L, 1L, 2L);
+        Assertions.assertThat(standings.get(0).getPoints()).isEqualTo(3);
+        Assertions.assertThat(standings.get(2).getPlayed()).isEqualTo(2);
+        Assertions.assertThat(standings.get(2).getGoalDifference()).isEqualTo(-4);
+    }
+
+    @Test
+    public void StandingsService_MatchUpdated_ReversesPreviousScore() {
+        standingsService.onMatchChanged(new MatchChangedEvent(null, match1));
+        standingsService.onMatchChanged(new MatchChangedEvent(match1, match1Updated));
+
+        List<StandingReadOnlyDTO> standings = standingsService.getStandings();
+
+        Assertions.assertThat(standings).hasSize(2);
+        Assertions.assertThat(standings).allSatisfy(standing -> {
+            Assertions.assertThat(standing.getPlayed()).isEqualTo(1);
+            Assertions.assertThat(standing.getDraws()).isEqualTo(1);
+            Assertions.assertThat(standing.getWins()).isEqualTo(0);
+            Assertions.assertThat(standing.getPoints()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    public void StandingsService_MatchDeleted_RemovesTeamsWithoutMatches() {
+        standingsService.onMatchChanged(new MatchChangedEvent(null, match1));
+        standingsService.onMatchChanged(new MatchChangedEvent(null, match2));
+        standingsService.onMatchChanged(new MatchChangedEvent(match2, null));
+
+        List<StandingReadOnlyDTO> standings = standingsService.getStandings();
+
+        Assertions.assertThat(standings).extracting(StandingReadOnlyDTO::getTeamId).containsExactly(1L, 2L);
+    }
+
+    @Test
+    public void StandingsService_RebuildStandings_ReturnsStandingsFromMatches() {
+        when(matchRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(match1, match2));
+
+        standingsService.rebuildStandings();
+
+        Assertions.assertThat(standingsService.getStandings()).hasSize(3);
+        Assertions.assertThat(standingsService.getStandings().get(0).getTeamId()).isEqualTo(3L);
+    }
+
+    @Test
+    public void StandingsService_MatchChangedDuringRebuild_CountsEveryMatchOnce() {
+        MatchReadOnlyDTO streamed1 = new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-04"), 2, 1, 1L, 2L, 0L);
+        MatchReadOnlyDTO updated1 = new MatchReadOnlyDTO(1L, LocalDate.parse("2024-10-04"), 1, 1, 1L, 2L, 1L);
+        MatchReadOnlyDTO streamed2 = new MatchReadOnlyDTO(2L, LocalDate.parse("2024-10-27"), 0, 3, 2L, 3L, 0L);
+        when(matchRepository.streamAllReadOnlyDTOs()).thenAnswer(invocation -> {
+            standingsService.onMatchChanged(new MatchChangedEvent(streamed1, updated1));
+            standingsService.onMatchChanged(new MatchChangedEvent(null, streamed2));
+            return Stream.of(streamed1, streamed2);
+        });
+
+        standingsService.rebuildStandings();
+
+        List<StandingReadOnlyDTO> standings = standingsService.getStandings();
+        Assertions.assertThat(standings).extracting(StandingReadOnlyDTO::getTeamId).containsExactly(3L, 1L, 2L);
+        Assertions.assertThat(standings.get(1).getPlayed()).isEqualTo(1);
+        Assertions.assertThat(standings.get(1).getDraws()).isEqualTo(1);
+        Assertions.assertThat(standings.get(2).getPlayed()).isEqualTo(2);
+    }
+
+    @Test
+    public void StandingsService_VerifyStandings_ReturnsEmptyWhenConsistent() {
+        when(matchRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(match1, match2));
+
+        standingsService.onMatchChanged(new MatchChangedEvent(null, match1));
+        standingsService.onMatchChanged(new MatchChangedEvent(null, match2));
+
+        Assertions.assertThat(standingsService.verifyStandings()).isEmpty();
+    }
+
+    @Test
+    public void StandingsService_VerifyStandings_ReturnsMismatchedTeamIds() {
+        when(matchRepository.streamAllReadOnlyDTOs()).thenReturn(Stream.of(match1Updated, match2));
+
+        standingsService.onMatchChanged(new MatchChangedEvent(null, match1));
+        standingsService.onMatchChanged(new MatchChangedEvent(null, match2));
+
+        Assertions.assertThat(standingsService.verifyStandings()).containsExactly(1L, 2L);
+    }
+}
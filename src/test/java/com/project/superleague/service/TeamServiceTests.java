@@ -1,14 +1,25 @@
 package com.project.superleague.service;
 
+import com.project.superleague.dto.DeletionResultDTO;
+import com.project.superleague.dto.KeysetCursor;
+import com.project.superleague.dto.KeysetPage;
+import com.project.superleague.dto.MatchPlayerReadOnlyDTO;
 import com.project.superleague.dto.PlayerInsertDTO;
 import com.project.superleague.dto.PlayerUpdateDTO;
 import com.project.superleague.dto.TeamInsertDTO;
+import com.project.superleague.dto.TeamReadOnlyDTO;
 import com.project.superleague.dto.TeamUpdateDTO;
+import com.project.superleague.event.MatchPlayerChangedEvent;
+import com.project.superleague.mapper.Mapper;
 import com.project.superleague.model.Player;
 import com.project.superleague.model.Team;
+import com.project.superleague.repository.MatchPlayerRepository;
+import com.project.superleague.repository.MatchRepository;
 import com.project.superleague.repository.PlayerRepository;
+import com.project.superleague.repository.PlayerSeasonStatsRepository;
 import com.project.superleague.repository.TeamRepository;
 import com.project.superleague.service.exception.EntityNotFoundException;
+import com.project.superleague.service.exception.StaleEntityException;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,11 +28,12 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
 import java.util.*;
 
-import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,6 +44,21 @@ public class TeamServiceTests {
     @Mock
     private PlayerRepository playerRepository;
 
+    @Mock
+    private MatchRepository matchRepository;
+
+    @Mock
+    private MatchPlayerRepository matchPlayerRepository;
+
+    @Mock
+    private PlayerSeasonStatsRepository playerSeasonStatsRepository;
+
+    @Mock
+    private IPlayerSeasonStatsService playerSeasonStatsService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private TeamServiceImpl teamService;
 
@@ -101,9 +128,11 @@ public class TeamServiceTests {
                 .coachLastname("Mantzios")
                 .presidentFirstname("Eirini")
                 .presidentLastname("Karypidou")
+                .version(0L)
                 .build();
 
         teamNull = Team.builder().build();
+        team.setVersion(0L);
     }
 
     @Test
@@ -123,9 +152,9 @@ public class TeamServiceTests {
     }
 
     @Test
-    public void TeamService_UpdateTeam_ReturnsUpdatedTeamDTO() throws EntityNotFoundException {
+    public void TeamService_UpdateTeam_ReturnsUpdatedTeamDTO() throws EntityNotFoundException, StaleEntityException {
         when(teamRepository.findById(teamUpdateDTO.getId())).thenReturn(Optional.ofNullable(team));
-        when(teamRepository.save(Mockito.any(Team.class))).thenReturn(updatedTeam);
+        when(teamRepository.saveAndFlush(Mockito.any(Team.class))).thenReturn(updatedTeam);
 
         Team updateReturn = teamService.updateTeam(teamUpdateDTO);
 
@@ -133,26 +162,51 @@ public class TeamServiceTests {
     }
 
     @Test
-    public void TeamService_UpdateTeam_ThrowsEntityNotFoundException() throws EntityNotFoundException {
+    public void TeamService_UpdateTeam_ThrowsEntityNotFoundException() throws EntityNotFoundException, StaleEntityException {
         when(teamRepository.findById(teamUpdateDTO.getId())).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> teamService.updateTeam(teamUpdateDTO)).isInstanceOf(EntityNotFoundException.class);
     }
 
     @Test
-    public void TeamService_DeleteTeam_ReturnsVoid() {
-        Long teamId = 1L;
+    public void TeamService_UpdateTeam_StaleVersion_ThrowsStaleEntityException() {
+        team.setVersion(2L);
+        teamUpdateDTO.setVersion(1L);
 
-        when(teamRepository.findById(teamId)).thenReturn(Optional.ofNullable(team));
+        when(teamRepository.findById(teamUpdateDTO.getId())).thenReturn(Optional.ofNullable(team));
+
+        Assertions.assertThatThrownBy(() -> teamService.updateTeam(teamUpdateDTO)).isInstanceOf(StaleEntityException.class);
+        Mockito.verify(teamRepository, Mockito.never()).saveAndFlush(Mockito.any(Team.class));
+    }
+
+    @Test
+    public void TeamService_DeleteTeam_ReturnsRemovedRowCounts() throws EntityNotFoundException {
+        Long teamId = 1L;
 
-        assertAll(() -> teamService.deleteTeam(teamId));
+        when(teamRepository.existsById(teamId)).thenReturn(true);
+        when(matchPlayerRepository.bulkDeleteByTeamId(teamId)).thenReturn(120);
+        when(matchPlayerRepository.findReadOnlyDTOsByTeamId(teamId)).thenReturn(List.of(new MatchPlayerReadOnlyDTO(7L, 2L, 4L, 90, 1, 0, 0),
+                new MatchPlayerReadOnlyDTO(8L, 2L, 5L, 90, 0, 0, 0), new MatchPlayerReadOnlyDTO(9L, 3L, 4L, 45, 0, 1, 0)));
+        when(matchRepository.bulkDeleteByTeamId(teamId)).thenReturn(30);
+        when(playerSeasonStatsRepository.bulkDeleteByTeamId(teamId)).thenReturn(50);
+        when(playerRepository.bulkDeleteByTeamId(teamId)).thenReturn(25);
+        when(teamRepository.bulkDeleteById(teamId)).thenReturn(1);
+
+        DeletionResultDTO result = teamService.deleteTeam(teamId);
+
+        Assertions.assertThat(result.getRemovedRows()).containsExactly(
+                Map.entry("MatchPlayer", 120), Map.entry("Match", 30), Map.entry("PlayerSeasonStats", 50), Map.entry("Player", 25), Map.entry("Team", 1));
+        Assertions.assertThat(result.getTotalRemovedRows()).isEqualTo(226);
+        Mockito.verify(playerSeasonStatsService).rebuildPlayerSeasonStats(List.of(4L, 5L));
+        Mockito.verify(eventPublisher, Mockito.times(3)).publishEvent(Mockito.<Object>argThat(event ->
+                event instanceof MatchPlayerChangedEvent changed && changed.getPrevious() != null && changed.getCurrent() == null));
     }
 
     @Test
     public void TeamService_DeleteTeam_ThrowsEntityNotFoundException() {
         Long teamId = 1L;
 
-        when(teamRepository.findById(teamId)).thenReturn(Optional.empty());
+        when(teamRepository.existsById(teamId)).thenReturn(false);
 
         Assertions.assertThatThrownBy(() -> teamService.deleteTeam(teamId)).isInstanceOf(EntityNotFoundException.class);
     }
@@ -160,33 +214,40 @@ public class TeamServiceTests {
     @Test
     public void TeamService_GetTeamByName_ReturnsTeams() throws EntityNotFoundException {
         String searchParameter = "Ar";
-        List<Team> teams = new ArrayList<>();
-        teams.add(team);
+        List<TeamReadOnlyDTO> teams = new ArrayList<>();
+        teams.add(Mapper.mapTeamToReadOnlyDTO(team));
 
-        when(teamRepository.findByTeamNameStartingWith(searchParameter)).thenReturn(teams);
+        when(teamRepository.findReadOnlyDTOsByTeamNameStartingWith(searchParameter, Limit.of(KeysetPage.DEFAULT_LIMIT + 1))).thenReturn(teams);
 
-        List<Team> teamsReturn = teamService.getTeamByName(searchParameter);
+        KeysetPage<TeamReadOnlyDTO> teamsReturn = teamService.getTeamByName(searchParameter, null, KeysetPage.DEFAULT_LIMIT);
 
-        Assertions.assertThat(teamsReturn.size()).isEqualTo(1);
+        Assertions.assertThat(teamsReturn.getItems().size()).isEqualTo(1);
     }
 
     @Test
     public void TeamService_GetTeamByName_ThrowsEntityNotFoundException() throws EntityNotFoundException {
         String searchParameter = "Ar";
-        List<Team> teams = new ArrayList<>();
+        List<TeamReadOnlyDTO> teams = new ArrayList<>();
+
+        when(teamRepository.findReadOnlyDTOsByTeamNameStartingWith(searchParameter, Limit.of(KeysetPage.DEFAULT_LIMIT + 1))).thenReturn(teams);
 
-        when(teamRepository.findByTeamNameStartingWith(searchParameter)).thenReturn(teams);
+        Assertions.assertThatThrownBy(() -> teamService.getTeamByName(searchParameter, null, KeysetPage.DEFAULT_LIMIT)).isInstanceOf(EntityNotFoundException.class);
+    }
+
+    @Test
+    public void TeamService_GetTeamByName_CursorWithoutKey_ThrowsIllegalArgumentException() {
+        String after = new KeysetCursor(1L, null).encode();
 
-        Assertions.assertThatThrownBy(() -> teamService.getTeamByName(searchParameter)).isInstanceOf(EntityNotFoundException.class);
+        Assertions.assertThatThrownBy(() -> teamService.getTeamByName("Ar", after, KeysetPage.DEFAULT_LIMIT)).isInstanceOf(IllegalArgumentException.class);
     }
 
     @Test
     public void TeamService_GetTeamById_ReturnsTeam() throws EntityNotFoundException {
         Long teamId = 1L;
 
-        when(teamRepository.findById(teamId)).thenReturn(Optional.ofNullable(team));
+        when(teamRepository.findReadOnlyDTOById(teamId)).thenReturn(Optional.of(Mapper.mapTeamToReadOnlyDTO(team)));
 
-        Team teamReturn = teamService.getTeamById(teamId);
+        TeamReadOnlyDTO teamReturn = teamService.getTeamById(teamId);
 
         Assertions.assertThat(teamReturn).isNotNull();
     }
@@ -195,7 +256,7 @@ public class TeamServiceTests {
     public void TeamService_GetTeamById_ThrowsEntityNotFoundException() throws EntityNotFoundException {
         Long teamId = 1L;
 
-        when(teamRepository.findById(teamId)).thenReturn(Optional.empty());
+        when(teamRepository.findReadOnlyDTOById(teamId)).thenReturn(Optional.empty());
 
         Assertions.assertThatThrownBy(() -> teamService.getTeamById(teamId)).isInstanceOf(EntityNotFoundException.class);
     }
@@ -1,16 +1,24 @@
 package com.project.superleague.service;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.superleague.config.RehashingBCryptPasswordEncoder;
+import com.project.superleague.dto.CacheStatsDTO;
+import com.project.superleague.event.UserChangedEvent;
 import com.project.superleague.model.Users;
 import com.project.superleague.repository.UserRepository;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
 import static org.mockito.Mockito.when;
 
@@ -19,13 +27,17 @@ public class UserDetailsServiceTests {
     @Mock
     private UserRepository userRepository;
 
-    @InjectMocks
     private UserDetailsServiceImpl userDetailsService;
 
     private Users user;
 
     @BeforeEach
     public void init() {
+        userDetailsService = new UserDetailsServiceImpl(userRepository, Caffeine.newBuilder()
+                .maximumSize(1)
+                .recordStats()
+                .build());
+
         user = Users.builder()
                 .username("admin")
                 .password("a1#a1$a1####")
@@ -53,4 +65,89 @@ public class UserDetailsServiceTests {
 
         Assertions.assertThatThrownBy(() -> userDetailsService.loadUserByUsername(username)).isInstanceOf(UsernameNotFoundException.class);
     }
+
+    @Test
+    public void UserDetailsService_LoadUserByUsername_CachesUserDetails() {
+        String username = "admin";
+
+        when(userRepository.findByUsername(username)).thenReturn(user);
+
+        userDetailsService.loadUserByUsername(username);
+        userDetailsService.loadUserByUsername(username);
+        CacheStatsDTO stats = userDetailsService.getCacheStats();
+
+        Mockito.verify(userRepository, Mockito.times(1)).findByUsername(username);
+        Assertions.assertThat(stats.getHitCount()).isEqualTo(1L);
+        Assertions.assertThat(stats.getMissCount()).isEqualTo(1L);
+    }
+
+    @Test
+    public void UserDetailsService_OnUserChanged_EvictsCachedUserDetails() {
+        String username = "admin";
+
+        when(userRepository.findByUsername(username)).thenReturn(user);
+
+        userDetailsService.loadUserByUsername(username);
+        userDetailsService.onUserChanged(new UserChangedEvent(username, username));
+        userDetailsService.loadUserByUsername(username);
+
+        Mockito.verify(userRepository, Mockito.times(2)).findByUsername(username);
+    }
+
+    @Test
+    public void UserDetailsService_OnUserRenamed_EvictsOnlyOldAndNewName() {
+        userDetailsService = new UserDetailsServiceImpl(userRepository, Caffeine.newBuilder()
+                .maximumSize(10)
+                .build());
+        when(userRepository.findByUsername(Mockito.anyString())).thenReturn(user);
+
+        userDetailsService.loadUserByUsername("admin");
+        userDetailsService.loadUserByUsername("editor");
+        userDetailsService.onUserChanged(new UserChangedEvent("root", "admin"));
+        userDetailsService.loadUserByUsername("admin");
+        userDetailsService.loadUserByUsername("editor");
+
+        Mockito.verify(userRepository, Mockito.times(2)).findByUsername("admin");
+        Mockito.verify(userRepository, Mockito.times(1)).findByUsername("editor");
+    }
+
+    @Test
+    public void UserDetailsService_Authenticate_UpgradesLowerCostHash() {
+        assertRehashedOnLogin(4, 5);
+    }
+
+    @Test
+    public void UserDetailsService_Authenticate_DowngradesHigherCostHash() {
+        assertRehashedOnLogin(6, 5);
+    }
+
+    @Test
+    public void UserDetailsService_Authenticate_KeepsHashWithConfiguredCost() {
+        user.setPassword(new BCryptPasswordEncoder(5).encode("a1a1"));
+        when(userRepository.findByUsername("admin")).thenReturn(user);
+
+        authenticationProvider(5).authenticate(new UsernamePasswordAuthenticationToken("admin", "a1a1"));
+
+        Mockito.verify(userRepository, Mockito.never()).save(Mockito.any(Users.class));
+    }
+
+    private void assertRehashedOnLogin(int storedCost, int configuredCost) {
+        user.setPassword(new BCryptPasswordEncoder(storedCost).encode("a1a1"));
+        when(userRepository.findByUsername("admin")).thenReturn(user);
+
+        authenticationProvider(configuredCost).authenticate(new UsernamePasswordAuthenticationToken("admin", "a1a1"));
+
+        ArgumentCaptor<Users> saved = ArgumentCaptor.forClass(Users.class);
+        Mockito.verify(userRepository).save(saved.capture());
+        Assertions.assertThat(saved.getValue().getPassword()).startsWith(String.format("$2a$%02d$", configuredCost));
+        Assertions.assertThat(new BCryptPasswordEncoder().matches("a1a1", saved.getValue().getPassword())).isTrue();
+    }
+
+    private DaoAuthenticationProvider authenticationProvider(int strength) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setPasswordEncoder(new RehashingBCryptPasswordEncoder(strength));
+        provider.setUserDetailsService(userDetailsService);
+        provider.setUserDetailsPasswordService(userDetailsService);
+        return provider;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.project.superleague.support;
+
+/**
+ * Properties for an in-memory H2 database in MySQL mode, for tests that run the native MySQL statements.
+ * Unquoted identifiers fold to lower case like the ones Hibernate quotes, and every context gets its own database.
+ */
+public final class MySQLModeDatabase {
+    public static final String URL = "spring.datasource.url=jdbc:h2:mem:${random.uuid};MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+    public static final String DRIVER = "spring.datasource.driver-class-name=org.h2.Driver";
+    public static final String PASSWORD = "spring.datasource.password=";
+
+    private MySQLModeDatabase() {
+    }
+}
@@ -0,0 +1,34 @@
+package com.project.superleague.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SqlStatementCounter implements StatementInspector {
+    public static final String PROPERTY = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.project.superleague.support.SqlStatementCounter";
+
+    private static final AtomicInteger count = new AtomicInteger();
+    private static final AtomicInteger sequenceCount = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        count.incrementAndGet();
+        if (sql.startsWith("select next value for")) {
+            sequenceCount.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        count.set(0);
+        sequenceCount.set(0);
+    }
+
+    public static int getCount() {
+        return count.get();
+    }
+
+    public static int getSequenceCount() {
+        return sequenceCount.get();
+    }
+}